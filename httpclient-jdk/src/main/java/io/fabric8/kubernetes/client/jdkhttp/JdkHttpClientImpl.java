@@ -31,6 +31,7 @@ import io.fabric8.kubernetes.client.http.StandardWebSocketBuilder;
 import io.fabric8.kubernetes.client.http.WebSocket;
 import io.fabric8.kubernetes.client.http.WebSocket.Listener;
 import io.fabric8.kubernetes.client.http.WebSocketResponse;
+import io.fabric8.kubernetes.client.http.WebSocketSendQueue;
 import io.fabric8.kubernetes.client.http.WebSocketUpgradeResponse;
 
 import java.net.URI;
@@ -52,7 +53,6 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static io.fabric8.kubernetes.client.http.StandardHttpHeaders.CONTENT_TYPE;
@@ -88,6 +88,12 @@ public class JdkHttpClientImpl extends StandardHttpClient<JdkHttpClientImpl, Jdk
 
         @Override
         public void onNext(List<ByteBuffer> item) {
+          if (subscriber.consumer.releasesBuffers()) {
+            // the jdk's own ofByteArray and ofInputStream subscribers hold on to these buffers without copying,
+            // so they are not reused while lent - there is nothing to do on release
+            bodySubscriber.onNext(item.stream().map(ByteBuffer::asReadOnlyBuffer).collect(Collectors.toList()));
+            return;
+          }
           // there doesn't seem to be a guarantee that the buffer won't be modified by the caller
           // after passing it in, so we'll create a copy
           bodySubscriber.onNext(item.stream().map(BufferUtil::copy).collect(Collectors.toList()));
@@ -316,7 +322,7 @@ public class JdkHttpClientImpl extends StandardHttpClient<JdkHttpClientImpl, Jdk
       newBuilder.connectTimeout(timeout);
     }
 
-    AtomicLong queueSize = new AtomicLong();
+    WebSocketSendQueue queueSize = new WebSocketSendQueue();
 
     // use a responseholder to convey both the exception and the websocket
     CompletableFuture<WebSocketResponse> response = new CompletableFuture<>();
@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.jdkhttp;
 
 import io.fabric8.kubernetes.client.http.BufferUtil;
 import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.http.WebSocketSendQueue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -27,19 +28,18 @@ import java.nio.channels.WritableByteChannel;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 
 class JdkWebSocketImpl implements WebSocket {
 
   static final class ListenerAdapter implements java.net.http.WebSocket.Listener {
 
     private final Listener listener;
-    private final AtomicLong queueSize;
+    private final WebSocketSendQueue queueSize;
     private final StringBuilder stringBuilder = new StringBuilder();
     private final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
     private final WritableByteChannel byteChannel = Channels.newChannel(byteArrayOutputStream);
 
-    ListenerAdapter(Listener listener, AtomicLong queueSize) {
+    ListenerAdapter(Listener listener, WebSocketSendQueue queueSize) {
       this.listener = listener;
       this.queueSize = queueSize;
     }
@@ -93,20 +93,28 @@ class JdkWebSocketImpl implements WebSocket {
   }
 
   private java.net.http.WebSocket webSocket;
-  private AtomicLong queueSize;
+  private WebSocketSendQueue queueSize;
 
-  public JdkWebSocketImpl(AtomicLong queueSize, java.net.http.WebSocket webSocket) {
+  public JdkWebSocketImpl(WebSocketSendQueue queueSize, java.net.http.WebSocket webSocket) {
     this.queueSize = queueSize;
     this.webSocket = webSocket;
   }
 
   @Override
   public boolean send(ByteBuffer buffer) {
-    buffer = BufferUtil.copy(buffer);
+    return sendCopy(BufferUtil.copy(buffer));
+  }
+
+  @Override
+  public boolean sendGathering(ByteBuffer... buffers) {
+    return sendCopy(BufferUtil.concat(buffers));
+  }
+
+  private boolean sendCopy(ByteBuffer buffer) {
     final int size = buffer.remaining();
-    queueSize.addAndGet(size);
+    queueSize.add(size);
     CompletableFuture<java.net.http.WebSocket> cf = webSocket.sendBinary(buffer, true);
-    cf.whenComplete((b, t) -> queueSize.addAndGet(-size));
+    cf.whenComplete((b, t) -> queueSize.remove(size));
     return asBoolean(cf);
   }
 
@@ -133,7 +141,12 @@ class JdkWebSocketImpl implements WebSocket {
 
   @Override
   public long queueSize() {
-    return queueSize.get();
+    return queueSize.size();
+  }
+
+  @Override
+  public CompletableFuture<Void> whenQueueSizeAtMost(long bytes) {
+    return queueSize.whenSizeAtMost(bytes);
   }
 
   @Override
@@ -24,6 +24,10 @@ import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.util.Callback;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.LongConsumer;
@@ -35,6 +39,8 @@ public abstract class JettyAsyncResponseListener extends Response.Listener.Adapt
   private final CompletableFuture<Void> asyncBodyDone;
   private LongConsumer demand;
   private boolean initialConsumeCalled;
+  // the callbacks of content passed to the consumer that is yet to be released
+  private final Map<ByteBuffer, Callback> unreleased = new IdentityHashMap<>();
 
   JettyAsyncResponseListener(HttpRequest httpRequest) {
     this.httpRequest = httpRequest;
@@ -63,6 +69,24 @@ public abstract class JettyAsyncResponseListener extends Response.Listener.Adapt
       asyncBodyDone.cancel(false);
       asyncResponse.thenAccept(r -> r.getResponse().abort(new CancellationException()));
     }
+    List<Callback> callbacks;
+    synchronized (unreleased) {
+      callbacks = new ArrayList<>(unreleased.values());
+      unreleased.clear();
+    }
+    callbacks.forEach(Callback::succeeded);
+  }
+
+  @Override
+  public void release(ByteBuffer buffer) {
+    Callback callback;
+    synchronized (unreleased) {
+      callback = unreleased.remove(buffer);
+    }
+    if (callback != null) {
+      // returns the buffer to jetty and demands more content
+      callback.succeeded();
+    }
   }
 
   @Override
@@ -95,14 +119,46 @@ public abstract class JettyAsyncResponseListener extends Response.Listener.Adapt
   public void onContent(Response response, ByteBuffer content, Callback callback) {
     try {
       if (!asyncBodyDone.isCancelled()) {
-        onContent(content);
-        callback.succeeded();
+        onContent(content, callback);
       }
     } catch (Exception e) {
+      synchronized (unreleased) {
+        unreleased.values().remove(callback);
+      }
       callback.failed(e);
     }
   }
 
+  /**
+   * Consume the content of the chunked response, completing the callback once the content is no longer needed.
+   * <p>
+   * By default calls {@link #onContent(ByteBuffer)} and then completes the callback.
+   *
+   * @param content the ByteBuffer containing a chunk of the response, which jetty may reuse once the callback completes
+   * @param callback to be completed when the content has been consumed
+   * @throws Exception in case the downstream consumer throws an exception.
+   */
+  protected void onContent(ByteBuffer content, Callback callback) throws Exception {
+    onContent(content);
+    callback.succeeded();
+  }
+
+  /**
+   * Lend a read-only view of the content, completing the callback only when the view is given back with
+   * {@link #release(ByteBuffer)} or the body is cancelled.
+   *
+   * @param content the ByteBuffer containing a chunk of the response
+   * @param callback the callback of the content
+   * @return the view to pass to the consumer
+   */
+  protected ByteBuffer lend(ByteBuffer content, Callback callback) {
+    ByteBuffer view = content.asReadOnlyBuffer();
+    synchronized (unreleased) {
+      unreleased.put(view, callback);
+    }
+    return view;
+  }
+
   /**
    * Implement to consume the content of the chunked response.
    * <p>
@@ -37,6 +37,7 @@ import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.util.BytesRequestContent;
 import org.eclipse.jetty.client.util.InputStreamRequestContent;
 import org.eclipse.jetty.client.util.StringRequestContent;
+import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.websocket.api.exceptions.UpgradeException;
 import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
 import org.eclipse.jetty.websocket.client.WebSocketClient;
@@ -81,6 +82,16 @@ public class JettyHttpClient extends StandardHttpClient<JettyHttpClient, JettyHt
       Consumer<List<ByteBuffer>> consumer) {
     return new JettyAsyncResponseListener(request) {
 
+      @Override
+      protected void onContent(ByteBuffer content, Callback callback) throws Exception {
+        if (consumer.releasesBuffers()) {
+          // jetty keeps the buffer until the callback completes, so it can be lent without copying
+          consumer.consume(Collections.singletonList(lend(content, callback)), this);
+        } else {
+          super.onContent(content, callback);
+        }
+      }
+
       @Override
       protected void onContent(ByteBuffer content) throws Exception {
         // we must clone as the buffer can be reused by the byte consumer
@@ -20,6 +20,7 @@ import io.fabric8.kubernetes.client.http.BufferUtil;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.WebSocket;
 import io.fabric8.kubernetes.client.http.WebSocketResponse;
+import io.fabric8.kubernetes.client.http.WebSocketSendQueue;
 import io.fabric8.kubernetes.client.http.WebSocketUpgradeResponse;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.UpgradeResponse;
@@ -30,16 +31,16 @@ import org.eclipse.jetty.websocket.api.exceptions.UpgradeException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class JettyWebSocket implements WebSocket, WebSocketListener {
   private final WebSocket.Listener listener;
-  private final AtomicLong sendQueue;
+  private final WebSocketSendQueue sendQueue;
   private final Lock lock;
   private final Condition backPressure;
   private final AtomicBoolean closed;
@@ -48,7 +49,7 @@ public class JettyWebSocket implements WebSocket, WebSocketListener {
 
   public JettyWebSocket(WebSocket.Listener listener) {
     this.listener = listener;
-    sendQueue = new AtomicLong();
+    sendQueue = new WebSocketSendQueue();
     lock = new ReentrantLock();
     backPressure = lock.newCondition();
     closed = new AtomicBoolean();
@@ -60,18 +61,29 @@ public class JettyWebSocket implements WebSocket, WebSocketListener {
     if (closed.get() || !webSocketSession.isOpen()) {
       return false;
     }
-    buffer = BufferUtil.copy(buffer);
+    return sendCopy(BufferUtil.copy(buffer));
+  }
+
+  @Override
+  public boolean sendGathering(ByteBuffer... buffers) {
+    if (closed.get() || !webSocketSession.isOpen()) {
+      return false;
+    }
+    return sendCopy(BufferUtil.concat(buffers));
+  }
+
+  private boolean sendCopy(ByteBuffer buffer) {
     final int size = buffer.remaining();
-    sendQueue.addAndGet(size);
+    sendQueue.add(size);
     webSocketSession.getRemote().sendBytes(buffer, new WriteCallback() {
       @Override
       public void writeFailed(Throwable x) {
-        sendQueue.addAndGet(-size);
+        sendQueue.remove(size);
       }
 
       @Override
       public void writeSuccess() {
-        sendQueue.addAndGet(-size);
+        sendQueue.remove(size);
       }
     });
     return true;
@@ -88,7 +100,12 @@ public class JettyWebSocket implements WebSocket, WebSocketListener {
 
   @Override
   public long queueSize() {
-    return sendQueue.get();
+    return sendQueue.size();
+  }
+
+  @Override
+  public CompletableFuture<Void> whenQueueSizeAtMost(long bytes) {
+    return sendQueue.whenSizeAtMost(bytes);
   }
 
   @Override
@@ -60,7 +60,11 @@ import java.io.StringWriter;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -157,6 +161,65 @@ public class OkHttpClientImpl extends StandardHttpClient<OkHttpClientImpl, OkHtt
     }
   }
 
+  /**
+   * Reads what is available from the source - reading more would block trying to read a whole fetch size 8k worth.
+   * <p>
+   * The okio segments cannot be lent out, so the bytes are always copied. For a consumer that releases buffers
+   * the arrays are reused rather than allocated for each read.
+   */
+  static class ByteBufferAsyncBody extends OkHttpAsyncBody<List<ByteBuffer>> {
+
+    // the okio segment size
+    static final int POOLED_ARRAY_SIZE = 8192;
+    static final int MAX_POOLED_ARRAYS = 4;
+
+    private final boolean pooled;
+    private final Deque<byte[]> pool = new ArrayDeque<>();
+    private final Map<ByteBuffer, byte[]> lent = new IdentityHashMap<>();
+
+    ByteBufferAsyncBody(Consumer<List<ByteBuffer>> consumer, BufferedSource source, Executor executor) {
+      super(consumer, source, executor);
+      this.pooled = consumer.releasesBuffers();
+    }
+
+    @Override
+    protected List<ByteBuffer> process(BufferedSource source) throws IOException {
+      long available = source.buffer().size();
+      if (!pooled) {
+        return Collections.singletonList(ByteBuffer.wrap(source.readByteArray(available)));
+      }
+      List<ByteBuffer> result = new ArrayList<>();
+      while (available > 0) {
+        byte[] array;
+        synchronized (lent) {
+          array = pool.poll();
+        }
+        if (array == null) {
+          array = new byte[POOLED_ARRAY_SIZE];
+        }
+        int read = source.read(array, 0, (int) Math.min(array.length, available));
+        available -= read;
+        ByteBuffer view = ByteBuffer.wrap(array, 0, read).asReadOnlyBuffer();
+        synchronized (lent) {
+          lent.put(view, array);
+        }
+        result.add(view);
+      }
+      return result;
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+      synchronized (lent) {
+        byte[] array = lent.remove(buffer);
+        if (array != null && pool.size() < MAX_POOLED_ARRAYS) {
+          pool.push(array);
+        }
+      }
+    }
+
+  }
+
   static class OkHttpResponseImpl<T> implements HttpResponse<T> {
 
     private final Response response;
@@ -358,15 +421,8 @@ public class OkHttpClientImpl extends StandardHttpClient<OkHttpClientImpl, OkHtt
   @Override
   public CompletableFuture<HttpResponse<AsyncBody>> consumeBytesDirect(StandardHttpRequest request,
       Consumer<List<ByteBuffer>> consumer) {
-    Function<BufferedSource, AsyncBody> handler = s -> new OkHttpAsyncBody<List<ByteBuffer>>(consumer, s,
-        this.httpClient.dispatcher().executorService()) {
-      @Override
-      protected List<ByteBuffer> process(BufferedSource source) throws IOException {
-        // read only what is available otherwise okhttp will block trying to read
-        // a whole fetch size 8k worth
-        return Collections.singletonList(ByteBuffer.wrap(source.readByteArray(source.buffer().size())));
-      }
-    };
+    Function<BufferedSource, AsyncBody> handler = s -> new ByteBufferAsyncBody(consumer, s,
+        this.httpClient.dispatcher().executorService());
     return sendAsync(request, handler);
   }
 
@@ -114,7 +114,9 @@ class VertxHttpRequest {
       };
       resp.handler(buffer -> {
         try {
-          consumer.consume(Arrays.asList(ByteBuffer.wrap(buffer.getBytes())), result);
+          // vert.x hands out unpooled buffers, so a view can be passed on without copying - and
+          // AsyncBody.release has nothing to give back
+          consumer.consume(Arrays.asList(buffer.getByteBuf().nioBuffer()), result);
         } catch (Exception e) {
           resp.request().reset();
           result.done().completeExceptionally(e);
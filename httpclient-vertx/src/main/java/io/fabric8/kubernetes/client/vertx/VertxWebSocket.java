@@ -17,18 +17,19 @@
 package io.fabric8.kubernetes.client.vertx;
 
 import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.http.WebSocketSendQueue;
 import io.netty.buffer.Unpooled;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClosedException;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
 
 class VertxWebSocket implements WebSocket {
 
   private final io.vertx.core.http.WebSocket ws;
-  private final AtomicInteger pending = new AtomicInteger();
+  private final WebSocketSendQueue pending = new WebSocketSendQueue();
   private final Listener listener;
 
   VertxWebSocket(io.vertx.core.http.WebSocket ws, Listener listener) {
@@ -68,11 +69,19 @@ class VertxWebSocket implements WebSocket {
 
   @Override
   public boolean send(ByteBuffer buffer) {
-    Buffer vertxBuffer = Buffer.buffer(Unpooled.copiedBuffer(buffer));
+    return sendCopy(Buffer.buffer(Unpooled.copiedBuffer(buffer)));
+  }
+
+  @Override
+  public boolean sendGathering(ByteBuffer... buffers) {
+    return sendCopy(Buffer.buffer(Unpooled.copiedBuffer(buffers)));
+  }
+
+  private boolean sendCopy(Buffer vertxBuffer) {
     int len = vertxBuffer.length();
-    pending.addAndGet(len);
+    pending.add(len);
     Future<Void> res = ws.writeBinaryMessage(vertxBuffer);
-    res.onComplete(ignore -> pending.addAndGet(-len));
+    res.onComplete(ignore -> pending.remove(len));
     return true;
   }
 
@@ -84,7 +93,12 @@ class VertxWebSocket implements WebSocket {
 
   @Override
   public long queueSize() {
-    return pending.get();
+    return pending.size();
+  }
+
+  @Override
+  public CompletableFuture<Void> whenQueueSizeAtMost(long bytes) {
+    return pending.whenSizeAtMost(bytes);
   }
 
   @Override
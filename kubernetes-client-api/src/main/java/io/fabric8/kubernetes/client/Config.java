@@ -91,6 +91,11 @@ public class Config {
   public static final String KUBERNETES_OAUTH_TOKEN_SYSTEM_PROPERTY = "kubernetes.auth.token";
   public static final String KUBERNETES_WATCH_RECONNECT_INTERVAL_SYSTEM_PROPERTY = "kubernetes.watch.reconnectInterval";
   public static final String KUBERNETES_WATCH_RECONNECT_LIMIT_SYSTEM_PROPERTY = "kubernetes.watch.reconnectLimit";
+  public static final String KUBERNETES_WATCH_TRANSPORT_SYSTEM_PROPERTY = "kubernetes.watch.transport";
+  public static final String KUBERNETES_DISCOVERY_CACHE_TTL_SYSTEM_PROPERTY = "kubernetes.discovery.cache.ttl";
+  public static final String KUBERNETES_DISCOVERY_CACHE_DIR_SYSTEM_PROPERTY = "kubernetes.discovery.cache.dir";
+  public static final String KUBERNETES_REQUESTS_PER_SECOND_SYSTEM_PROPERTY = "kubernetes.requests.per.second";
+  public static final String KUBERNETES_REQUEST_BURST_SYSTEM_PROPERTY = "kubernetes.request.burst";
   public static final String KUBERNETES_CONNECTION_TIMEOUT_SYSTEM_PROPERTY = "kubernetes.connection.timeout";
   public static final String KUBERNETES_UPLOAD_REQUEST_TIMEOUT_SYSTEM_PROPERTY = "kubernetes.upload.request.timeout";
   public static final String KUBERNETES_REQUEST_TIMEOUT_SYSTEM_PROPERTY = "kubernetes.request.timeout";
@@ -178,6 +183,10 @@ public class Config {
   private int connectionTimeout = 10 * 1000;
   private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
   private int maxConcurrentRequestsPerHost = DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST;
+  private long discoveryCacheTtl;
+  private String discoveryCacheDir;
+  private int requestsPerSecond;
+  private int requestBurst;
 
   private RequestConfig requestConfig = new RequestConfig();
 
@@ -195,6 +204,7 @@ public class Config {
   private int requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private long scaleTimeout = DEFAULT_SCALE_TIMEOUT;
   private int loggingInterval = DEFAULT_LOGGING_INTERVAL;
+  private WatchTransport watchTransport;
   private String impersonateUsername;
 
   /**
@@ -328,7 +338,7 @@ public class Config {
         errorMessages, userAgent, tlsVersions, websocketPingInterval, proxyUsername, proxyPassword,
         trustStoreFile, trustStorePassphrase, keyStoreFile, keyStorePassphrase, impersonateUsername, impersonateGroups,
         impersonateExtras, null, null, DEFAULT_REQUEST_RETRY_BACKOFFLIMIT, DEFAULT_REQUEST_RETRY_BACKOFFINTERVAL,
-        DEFAULT_UPLOAD_REQUEST_TIMEOUT);
+        DEFAULT_UPLOAD_REQUEST_TIMEOUT, null, 0, null, 0, 0);
   }
 
   @Buildable(builderPackage = "io.fabric8.kubernetes.api.builder", editableEnabled = false)
@@ -342,7 +352,8 @@ public class Config {
       String proxyPassword, String trustStoreFile, String trustStorePassphrase, String keyStoreFile, String keyStorePassphrase,
       String impersonateUsername, String[] impersonateGroups, Map<String, List<String>> impersonateExtras,
       OAuthTokenProvider oauthTokenProvider, Map<String, String> customHeaders, int requestRetryBackoffLimit,
-      int requestRetryBackoffInterval, int uploadRequestTimeout) {
+      int requestRetryBackoffInterval, int uploadRequestTimeout, WatchTransport watchTransport, long discoveryCacheTtl,
+      String discoveryCacheDir, int requestsPerSecond, int requestBurst) {
     this.apiVersion = apiVersion;
     this.namespace = namespace;
     this.trustCerts = trustCerts;
@@ -363,7 +374,7 @@ public class Config {
 
     this.requestConfig = new RequestConfig(watchReconnectLimit, watchReconnectInterval,
         requestTimeout, scaleTimeout, loggingInterval,
-        requestRetryBackoffLimit, requestRetryBackoffInterval, uploadRequestTimeout);
+        requestRetryBackoffLimit, requestRetryBackoffInterval, uploadRequestTimeout, watchTransport);
     this.requestConfig.setImpersonateUsername(impersonateUsername);
     this.requestConfig.setImpersonateGroups(impersonateGroups);
     this.requestConfig.setImpersonateExtras(impersonateExtras);
@@ -390,6 +401,10 @@ public class Config {
     this.masterUrl = ensureEndsWithSlash(ensureHttps(masterUrl, this));
     this.maxConcurrentRequests = maxConcurrentRequests;
     this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+    this.discoveryCacheTtl = discoveryCacheTtl;
+    this.discoveryCacheDir = discoveryCacheDir;
+    this.requestsPerSecond = requestsPerSecond;
+    this.requestBurst = requestBurst;
   }
 
   public static void configFromSysPropsOrEnvVars(Config config) {
@@ -447,6 +462,23 @@ public class Config {
       config.setWatchReconnectLimit(Integer.parseInt(configuredWatchReconnectLimit));
     }
 
+    String configuredWatchTransport = Utils.getSystemPropertyOrEnvVar(KUBERNETES_WATCH_TRANSPORT_SYSTEM_PROPERTY);
+    if (configuredWatchTransport != null) {
+      config.setWatchTransport(WatchTransport.valueOf(configuredWatchTransport.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    String configuredDiscoveryCacheTtl = Utils.getSystemPropertyOrEnvVar(KUBERNETES_DISCOVERY_CACHE_TTL_SYSTEM_PROPERTY);
+    if (configuredDiscoveryCacheTtl != null) {
+      config.setDiscoveryCacheTtl(Long.parseLong(configuredDiscoveryCacheTtl));
+    }
+    config.setDiscoveryCacheDir(
+        Utils.getSystemPropertyOrEnvVar(KUBERNETES_DISCOVERY_CACHE_DIR_SYSTEM_PROPERTY, config.getDiscoveryCacheDir()));
+
+    config.setRequestsPerSecond(Utils.getSystemPropertyOrEnvVar(KUBERNETES_REQUESTS_PER_SECOND_SYSTEM_PROPERTY,
+        config.getRequestsPerSecond()));
+    config.setRequestBurst(Utils.getSystemPropertyOrEnvVar(KUBERNETES_REQUEST_BURST_SYSTEM_PROPERTY,
+        config.getRequestBurst()));
+
     String configuredScaleTimeout = Utils.getSystemPropertyOrEnvVar(KUBERNETES_SCALE_TIMEOUT_SYSTEM_PROPERTY,
         String.valueOf(DEFAULT_SCALE_TIMEOUT));
     if (configuredScaleTimeout != null) {
@@ -1142,6 +1174,15 @@ public class Config {
     this.requestConfig.setWatchReconnectLimit(watchReconnectLimit);
   }
 
+  @JsonProperty("watchTransport")
+  public WatchTransport getWatchTransport() {
+    return getRequestConfig().getWatchTransport();
+  }
+
+  public void setWatchTransport(WatchTransport watchTransport) {
+    this.requestConfig.setWatchTransport(watchTransport);
+  }
+
   @JsonProperty("errorMessages")
   public Map<Integer, String> getErrorMessages() {
     return errorMessages;
@@ -1315,6 +1356,73 @@ public class Config {
     this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
   }
 
+  /**
+   * @return the time in milliseconds that api discovery responses are cached for, 0 if they are not cached
+   */
+  @JsonProperty("discoveryCacheTtl")
+  public long getDiscoveryCacheTtl() {
+    return discoveryCacheTtl;
+  }
+
+  /**
+   * Cache the api discovery responses, shared by all clients of the same server, for the given time
+   *
+   * @param discoveryCacheTtl the time in milliseconds, 0 disables the cache
+   */
+  public void setDiscoveryCacheTtl(long discoveryCacheTtl) {
+    this.discoveryCacheTtl = discoveryCacheTtl;
+  }
+
+  /**
+   * @return the directory the api discovery cache is persisted to, or null if it is only held in memory
+   */
+  @JsonProperty("discoveryCacheDir")
+  public String getDiscoveryCacheDir() {
+    return discoveryCacheDir;
+  }
+
+  /**
+   * Persist the api discovery cache to the given directory, so that it can be reused by other processes.
+   * Only used when {@link #getDiscoveryCacheTtl()} is greater than 0.
+   *
+   * @param discoveryCacheDir the directory, or null to only cache in memory
+   */
+  public void setDiscoveryCacheDir(String discoveryCacheDir) {
+    this.discoveryCacheDir = discoveryCacheDir;
+  }
+
+  /**
+   * @return the sustained rate of requests per second the client sends, 0 if it is not limited
+   */
+  @JsonProperty("requestsPerSecond")
+  public int getRequestsPerSecond() {
+    return requestsPerSecond;
+  }
+
+  /**
+   * Limit the rate of requests sent by the client. Watches, websockets and lease renewals are not limited.
+   *
+   * @param requestsPerSecond the sustained rate, 0 disables the limit
+   */
+  public void setRequestsPerSecond(int requestsPerSecond) {
+    this.requestsPerSecond = requestsPerSecond;
+  }
+
+  /**
+   * @return the number of requests that may be sent at once above the {@link #getRequestsPerSecond()} rate
+   */
+  @JsonProperty("requestBurst")
+  public int getRequestBurst() {
+    return requestBurst;
+  }
+
+  /**
+   * @param requestBurst the number of requests that may be sent at once, defaults to the rate if not positive
+   */
+  public void setRequestBurst(int requestBurst) {
+    this.requestBurst = requestBurst;
+  }
+
   @JsonProperty("proxyUsername")
   public String getProxyUsername() {
     return proxyUsername;
@@ -16,6 +16,8 @@
 package io.fabric8.kubernetes.client;
 
 import java.net.InetAddress;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * A port forward handle that is aware of the host and port where it's bound to.
@@ -26,4 +28,15 @@ public interface LocalPortForward extends PortForward {
 
   int getLocalPort();
 
+  /**
+   * Get the forwards for each open local connection, which provide the per connection statistics.
+   * A connection is removed once it has been closed. {@link #getBytesSent()}, {@link #getBytesReceived()}
+   * and the throwables are the totals over all connections, including the closed ones.
+   *
+   * @return the connection forwards
+   */
+  default Collection<PortForward> getConnections() {
+    return Collections.emptyList();
+  }
+
 }
@@ -31,4 +31,18 @@ public interface PortForward extends Closeable {
 
   Collection<Throwable> getServerThrowables();
 
+  /**
+   * @return the number of bytes read from the local side and sent to the remote port
+   */
+  default long getBytesSent() {
+    return 0;
+  }
+
+  /**
+   * @return the number of bytes received from the remote port and written to the local side
+   */
+  default long getBytesReceived() {
+    return 0;
+  }
+
 }
@@ -45,6 +45,7 @@ public class RequestConfig {
   private int requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private long scaleTimeout = DEFAULT_SCALE_TIMEOUT;
   private int loggingInterval = DEFAULT_LOGGING_INTERVAL;
+  private WatchTransport watchTransport = WatchTransport.WEBSOCKET;
 
   RequestConfig() {
   }
@@ -52,7 +53,7 @@ public class RequestConfig {
   @Buildable(builderPackage = "io.fabric8.kubernetes.api.builder", editableEnabled = false)
   public RequestConfig(int watchReconnectLimit, int watchReconnectInterval, int requestTimeout,
       long scaleTimeout, int loggingInterval, int requestRetryBackoffLimit,
-      int requestRetryBackoffInterval, int uploadRequestTimeout) {
+      int requestRetryBackoffInterval, int uploadRequestTimeout, WatchTransport watchTransport) {
     this.watchReconnectLimit = watchReconnectLimit;
     this.watchReconnectInterval = watchReconnectInterval;
     this.requestTimeout = requestTimeout;
@@ -61,6 +62,7 @@ public class RequestConfig {
     this.requestRetryBackoffLimit = requestRetryBackoffLimit;
     this.requestRetryBackoffInterval = requestRetryBackoffInterval;
     this.uploadRequestTimeout = uploadRequestTimeout;
+    setWatchTransport(watchTransport);
   }
 
   public int getWatchReconnectInterval() {
@@ -79,6 +81,17 @@ public class RequestConfig {
     this.watchReconnectLimit = watchReconnectLimit;
   }
 
+  public WatchTransport getWatchTransport() {
+    return watchTransport;
+  }
+
+  /**
+   * @param watchTransport the transport to use for watches, null restores the default of {@link WatchTransport#WEBSOCKET}
+   */
+  public void setWatchTransport(WatchTransport watchTransport) {
+    this.watchTransport = watchTransport == null ? WatchTransport.WEBSOCKET : watchTransport;
+  }
+
   public int getRequestTimeout() {
     return requestTimeout;
   }
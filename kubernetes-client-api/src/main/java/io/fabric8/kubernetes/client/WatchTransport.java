@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client;
+
+/**
+ * The transport used to establish watches against the API server.
+ */
+public enum WatchTransport {
+  /**
+   * Upgrade each watch to its own websocket, falling back to an HTTP stream if the upgrade is refused.
+   */
+  WEBSOCKET,
+  /**
+   * Consume each watch as a chunked HTTP response. Over HTTP/2 many watches can be multiplexed
+   * on a single connection.
+   */
+  HTTP,
+  /**
+   * Use {@link #HTTP} when the client is allowed to negotiate HTTP/2 with a TLS endpoint,
+   * otherwise use {@link #WEBSOCKET}.
+   */
+  AUTO
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variants of the list level operations.
+ *
+ * @param <T> the resource type
+ * @param <L> the list type
+ */
+public interface AsyncListOperation<T, L> {
+
+  /**
+   * List the resources matching this context.
+   *
+   * @return the future list
+   */
+  CompletableFuture<L> list();
+
+  /**
+   * List the resources matching this context.
+   *
+   * @see Listable#list(ListOptions)
+   * @param listOptions ListOptions is the query options to a standard REST list call.
+   * @return the future list
+   */
+  CompletableFuture<L> list(ListOptions listOptions);
+
+  /**
+   * Delete the resources matching this context.
+   *
+   * @return the future details of the deleted resources
+   */
+  CompletableFuture<List<StatusDetails>> delete();
+
+  /**
+   * Get the non-blocking operations for the given item.
+   *
+   * @param item the resource
+   * @return the non-blocking resource operations
+   */
+  AsyncResource<T> resource(T item);
+
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variants of the {@link Resource} operations.
+ * <p>
+ * No thread is held while the request is in flight - the returned futures are completed by the http client.
+ * A failed request completes the future exceptionally with a {@link io.fabric8.kubernetes.client.KubernetesClientException}.
+ *
+ * @param <T> the resource type
+ */
+public interface AsyncResource<T> {
+
+  /**
+   * Get the resource from the server.
+   *
+   * @return the future resource, which will be null if it does not exist
+   */
+  CompletableFuture<T> get();
+
+  /**
+   * Create the item of this context.
+   *
+   * @return the future created resource
+   */
+  CompletableFuture<T> create();
+
+  /**
+   * Update the item of this context. If the item does not have a resourceVersion, the latest
+   * resourceVersion is first fetched from the server.
+   *
+   * @return the future updated resource
+   */
+  CompletableFuture<T> update();
+
+  /**
+   * Replace the resource with the item of this context, retrying if there is a conflict. Unless a resourceVersion
+   * was set on the operation, the latest resourceVersion is used.
+   *
+   * @return the future replaced resource
+   */
+  CompletableFuture<T> replace();
+
+  /**
+   * Create the item of this context, or replace the resource if it already exists.
+   *
+   * @return the future created or replaced resource
+   */
+  CompletableFuture<T> createOrReplace();
+
+  /**
+   * Patch the resource with the given patch.
+   *
+   * @param patchContext the patch options, if null a strategic merge patch is used
+   * @param patch the patch as json or yaml
+   * @return the future patched resource
+   */
+  CompletableFuture<T> patch(PatchContext patchContext, String patch);
+
+  /**
+   * Perform a server side apply of the item of this context.
+   *
+   * @return the future applied resource
+   */
+  CompletableFuture<T> serverSideApply();
+
+  /**
+   * Delete the resource.
+   *
+   * @return the future details of the deleted resources, which will be empty if it does not exist
+   */
+  CompletableFuture<List<StatusDetails>> delete();
+
+}
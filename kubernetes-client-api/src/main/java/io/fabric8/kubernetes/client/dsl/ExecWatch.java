@@ -18,6 +18,8 @@ package io.fabric8.kubernetes.client.dsl;
 import java.io.Closeable;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.concurrent.CompletableFuture;
 
 public interface ExecWatch extends Closeable {
@@ -32,6 +34,32 @@ public interface ExecWatch extends Closeable {
    */
   OutputStream getInput();
 
+  /**
+   * Gets a non-blocking {@link WritableByteChannel} for stdIn if {@link ContainerResource#redirectingInput()} has been
+   * called.
+   * <p>
+   * Each write accepts as much as can be queued for sending without blocking, which may be nothing
+   * if too much is already pending. Use {@link #inputWritable()} to be notified when more may be written.
+   * Data is sent directly from the provided buffer, without the buffering of {@link #getInput()} - the two
+   * should not be used together.
+   *
+   * @return the stdIn channel
+   */
+  default WritableByteChannel getInputChannel() {
+    OutputStream input = getInput();
+    return input == null ? null : Channels.newChannel(input);
+  }
+
+  /**
+   * Get a future that completes when {@link #getInputChannel()} can accept more data, or the exec has
+   * terminated.
+   *
+   * @return the future
+   */
+  default CompletableFuture<Void> inputWritable() {
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * Gets the {@link InputStream} for stdOut if {@link TtyExecOutputErrorable#redirectingOutput()} has been called.
    * 
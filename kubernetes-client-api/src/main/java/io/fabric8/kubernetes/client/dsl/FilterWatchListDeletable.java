@@ -15,6 +15,11 @@
  */
 package io.fabric8.kubernetes.client.dsl;
 
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListOptions;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public interface FilterWatchListDeletable<T, L, R>
@@ -37,4 +42,70 @@ public interface FilterWatchListDeletable<T, L, R>
    */
   Stream<R> resources();
 
+  /**
+   * Lazily list resources from the API server. The next page is fetched only when the stream is consumed past
+   * the items of the current page, so at most one page is held in memory.
+   * <p>
+   * Use the limit of the list options to set the page size - without a limit the server returns everything as a
+   * single page.
+   * <p>
+   * If the continue token expires before all of the pages are read, the stream throws a
+   * {@link io.fabric8.kubernetes.client.KubernetesClientException} with the code 410. The listing must then be
+   * restarted.
+   *
+   * @param listOptions ListOptions is the query options to a standard REST list call.
+   * @return the lazily paged stream of items
+   */
+  Stream<T> stream(ListOptions listOptions);
+
+  /**
+   * Lazily list resources from the API server, fetching pages of the given size on demand.
+   *
+   * @see #stream(ListOptions)
+   * @param pageSize the maximum number of items to fetch per request
+   * @return the lazily paged iterator of items
+   */
+  Iterator<T> listAsIterator(int pageSize);
+
+  /**
+   * Get the non-blocking variants of the list level operations.
+   *
+   * @return the non-blocking operations
+   */
+  AsyncListOperation<T, L> async();
+
+  /**
+   * List resources from the API server, handing each item to the consumer as it is read from the response.
+   * <p>
+   * Unlike {@link #list(ListOptions)} the whole list is never materialized, which is useful for very
+   * large results.
+   * <p>
+   * The passed in options may be modified as a side-effect of this call.
+   *
+   * @param listOptions ListOptions is the query options to a standard REST list call.
+   * @param itemConsumer called with each item as it is read
+   * @return the list metadata, including the continue token if there are more items
+   */
+  ListMeta list(ListOptions listOptions, Consumer<? super T> itemConsumer);
+
+  /**
+   * List all resources from the API server, following the continue tokens from page to page, and
+   * handing each item to the consumer, in order, as it is read from the response.
+   * <p>
+   * The request for the next page is sent as soon as its continue token has been read, so fetching
+   * overlaps with the reading of the previous page rather than making each page a separate round trip.
+   * Up to readAhead pages are requested ahead of the page being consumed. Their responses are not read
+   * beyond the list metadata until it is their turn, so memory use remains bounded.
+   * <p>
+   * Use the limit of the list options to set the page size. The passed in options may be modified as a
+   * side-effect of this call.
+   *
+   * @param listOptions ListOptions is the query options to a standard REST list call.
+   * @param readAhead the number of pages that may be requested ahead of the page being consumed, 0 for
+   *        strictly sequential paging
+   * @param itemConsumer called with each item as it is read
+   * @return the list metadata of the last page
+   */
+  ListMeta listPipelined(ListOptions listOptions, int readAhead, Consumer<? super T> itemConsumer);
+
 }
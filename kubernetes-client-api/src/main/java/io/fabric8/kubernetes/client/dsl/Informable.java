@@ -17,6 +17,7 @@
 package io.fabric8.kubernetes.client.dsl;
 
 import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.informers.InformerTransforms;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 
@@ -27,6 +28,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 public interface Informable<T> {
 
@@ -58,6 +60,20 @@ public interface Informable<T> {
    */
   Informable<T> withLimit(Long limit);
 
+  /**
+   * Set a transform to apply to each resource before it is added to the informer cache
+   * and before it is passed to the {@link ResourceEventHandler}s - for example to remove fields
+   * that are not needed, such as with {@link InformerTransforms#stripManagedFields(String...)}.
+   * <p>
+   * The transform is given a resource that was just deserialized and may modify it in place. It must
+   * not change the key of the resource. Returning null excludes the resource from the informer - if it
+   * was previously included, it is removed from the cache and the handlers are notified of its deletion.
+   *
+   * @param transform to apply to each resource
+   * @return the current {@link Informable}
+   */
+  Informable<T> withTransform(UnaryOperator<T> transform);
+
   /**
    * Similar to a {@link Watch}, but will attempt to handle failures after successfully started.
    * and provides a store of all the current resources.
@@ -36,4 +36,18 @@ public interface ListVisitFromServerGetDeleteRecreateWaitApplicable<T>
    */
   Stream<? extends Resource<T>> resources();
 
+  /**
+   * Allow up to the given number of item requests to be in flight at once for the list operations.
+   * <p>
+   * Namespaces and CustomResourceDefinitions are written before, and deleted after, the rest of the items. After
+   * the first failure no more items are started, and the failure is thrown once the in-flight requests complete -
+   * any further failures are added to it as suppressed exceptions.
+   * <p>
+   * The default is 1, which processes the items one at a time.
+   *
+   * @param maxInFlight the maximum number of concurrent item requests
+   * @return the list operations with the given concurrency
+   */
+  ListVisitFromServerGetDeleteRecreateWaitApplicable<T> withConcurrency(int maxInFlight);
+
 }
@@ -79,4 +79,11 @@ public interface Resource<T> extends
    */
   T item();
 
+  /**
+   * Get the non-blocking variants of the operations on this resource.
+   *
+   * @return the non-blocking operations
+   */
+  AsyncResource<T> async();
+
 }
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  * Provides an interface that is usable by the {@link ExtensibleResourceAdapter} that returns
@@ -67,6 +68,9 @@ public interface ExtensibleResource<T> extends Resource<T>, TimeoutableScalable<
   @Override
   ExtensibleResource<T> withLimit(Long limit);
 
+  @Override
+  ExtensibleResource<T> withTransform(UnaryOperator<T> transform);
+
   @Override
   ExtensibleResource<T> lockResourceVersion();
 
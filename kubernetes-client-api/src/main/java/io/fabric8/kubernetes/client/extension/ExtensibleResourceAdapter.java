@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  * To be used as a base for overriding or adding Resource methods
@@ -87,6 +88,11 @@ public abstract class ExtensibleResourceAdapter<T> extends ResourceAdapter<T> im
     return newInstance().init(resource.withLimit(limit), client);
   }
 
+  @Override
+  public ExtensibleResource<T> withTransform(UnaryOperator<T> transform) {
+    return newInstance().init(resource.withTransform(transform), client);
+  }
+
   @Override
   public <C extends Client> C inWriteContext(Class<C> clazz) {
     return resource.inWriteContext(clazz);
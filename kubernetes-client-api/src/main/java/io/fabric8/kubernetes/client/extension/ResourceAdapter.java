@@ -26,6 +26,7 @@ import io.fabric8.kubernetes.client.PropagationPolicyConfigurable;
 import io.fabric8.kubernetes.client.ResourceNotFoundException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.AsyncResource;
 import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.Gettable;
 import io.fabric8.kubernetes.client.dsl.Informable;
@@ -200,6 +201,11 @@ public class ResourceAdapter<T> implements Resource<T> {
     return resource.withLimit(limit);
   }
 
+  @Override
+  public Informable<T> withTransform(UnaryOperator<T> transform) {
+    return resource.withTransform(transform);
+  }
+
   @Override
   public <V> T edit(Class<V> visitorType, Visitor<V> visitor) {
     return resource.edit(visitorType, visitor);
@@ -330,6 +336,11 @@ public class ResourceAdapter<T> implements Resource<T> {
     return resource.item();
   }
 
+  @Override
+  public AsyncResource<T> async() {
+    return resource.async();
+  }
+
   @Override
   public Deletable withTimeout(long timeout, TimeUnit unit) {
     return resource.withTimeout(timeout, unit);
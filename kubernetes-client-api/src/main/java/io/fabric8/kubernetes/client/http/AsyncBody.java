@@ -16,6 +16,7 @@
 
 package io.fabric8.kubernetes.client.http;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -38,6 +39,16 @@ public interface AsyncBody {
 
   void cancel();
 
+  /**
+   * Give back a buffer passed to a {@link Consumer} that {@link Consumer#releasesBuffers() releases buffers}.
+   * <p>
+   * The default does nothing, which is correct for implementations that only pass buffers the consumer may keep.
+   *
+   * @param buffer the buffer, as it was passed to the consumer
+   */
+  default void release(ByteBuffer buffer) {
+  }
+
   /**
    * A functional interface for consuming async result bodies
    */
@@ -45,6 +56,20 @@ public interface AsyncBody {
   interface Consumer<T> {
     void consume(T value, AsyncBody asyncBody) throws Exception;
 
+    /**
+     * Whether this consumer gives back each buffer it is passed with {@link AsyncBody#release(ByteBuffer)}.
+     * <p>
+     * If true the HttpClient may pass read-only views of its own, possibly pooled, buffers rather than copies. A
+     * buffer must not be used once released. More content may not be delivered until earlier buffers are released,
+     * so a consumer should not hold buffers while waiting for more. Buffers still held when the body is cancelled
+     * are released by the HttpClient.
+     *
+     * @return true if buffers are released, false if they are kept
+     */
+    default boolean releasesBuffers() {
+      return false;
+    }
+
     default <U> U unwrap(Class<U> target) {
       if (this.getClass().equals(target)) {
         return (U) this;
@@ -74,6 +74,25 @@ public class BufferUtil {
     return clone;
   }
 
+  /**
+   * Copy of the content of several ByteBuffers into a single heap buffer
+   *
+   * @param buffers The buffers to copy, in order. The buffers are not altered.
+   * @return A buffer containing the concatenation of the provided buffers.
+   */
+  public static ByteBuffer concat(ByteBuffer... buffers) {
+    int size = 0;
+    for (ByteBuffer buffer : buffers) {
+      size += buffer.remaining();
+    }
+    ByteBuffer result = ByteBuffer.allocate(size);
+    for (ByteBuffer buffer : buffers) {
+      result.put(buffer.duplicate());
+    }
+    result.flip();
+    return result;
+  }
+
   /**
    * Very rudimentary method to check if the provided ByteBuffer contains text.
    * 
@@ -47,13 +47,28 @@ public class ByteArrayBodyHandler implements AsyncBody.Consumer<List<ByteBuffer>
     } else {
       byte[] bytes = null;
       synchronized (buffers) {
-        bytes = toArray(buffers);
+        bytes = buffers.size() == 1 ? wholeArray(buffers.get(0)) : null;
+        if (bytes == null) {
+          bytes = toArray(buffers);
+        }
       }
       result.complete(bytes);
     }
     buffers.clear();
   }
 
+  /**
+   * The buffers handed to consumers are not reused by the clients, so a single buffer that spans its whole
+   * backing array can be used as is.
+   */
+  private static byte[] wholeArray(ByteBuffer buffer) {
+    if (buffer.hasArray() && !buffer.isReadOnly() && buffer.arrayOffset() == 0 && buffer.position() == 0
+        && buffer.remaining() == buffer.array().length) {
+      return buffer.array();
+    }
+    return null;
+  }
+
   public CompletableFuture<byte[]> getResult() {
     return result;
   }
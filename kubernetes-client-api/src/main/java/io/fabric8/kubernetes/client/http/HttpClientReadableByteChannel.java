@@ -21,6 +21,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -31,6 +32,8 @@ import java.util.function.Supplier;
 /**
  * Creates a blocking {@link ReadableByteChannel} from a {@link HttpResponse} containing an {@link AsyncBody}
  * <p>
+ * Each buffer is released as soon as it has been read, so the HttpClient does not need to copy them.
+ * <p>
  * May be useful eventually to provide a non-blocking channel as well.
  */
 public class HttpClientReadableByteChannel implements ReadableByteChannel, AsyncBody.Consumer<List<ByteBuffer>> {
@@ -49,6 +52,25 @@ public class HttpClientReadableByteChannel implements ReadableByteChannel, Async
     doLockedAndSignal(() -> this.buffers.addAll(value));
   }
 
+  @Override
+  public boolean releasesBuffers() {
+    return true;
+  }
+
+  private void release(List<ByteBuffer> used) {
+    if (used != null) {
+      asyncBodyFuture.thenAccept(asyncBody -> used.forEach(asyncBody::release));
+    }
+  }
+
+  private static List<ByteBuffer> addUsed(List<ByteBuffer> used, ByteBuffer buffer) {
+    if (used == null) {
+      used = new ArrayList<>();
+    }
+    used.add(buffer);
+    return used;
+  }
+
   protected void onResponse(HttpResponse<AsyncBody> response) {
     AsyncBody asyncBody = response.body();
     asyncBodyFuture.complete(asyncBody);
@@ -97,6 +119,8 @@ public class HttpClientReadableByteChannel implements ReadableByteChannel, Async
 
   @Override
   public int read(ByteBuffer arg0) throws IOException {
+    // buffers that have been read, released without holding the lock
+    List<ByteBuffer> used = null;
     lock.lock();
     try {
       if (closed) {
@@ -107,6 +131,10 @@ public class HttpClientReadableByteChannel implements ReadableByteChannel, Async
 
       while (arg0.hasRemaining()) {
         while (currentBuffer == null || !currentBuffer.hasRemaining()) {
+          if (currentBuffer != null) {
+            used = addUsed(used, currentBuffer);
+            currentBuffer = null;
+          }
           if (buffers.isEmpty()) {
             if (failed != null) {
               throw new IOException("channel already closed with exception", failed);
@@ -119,7 +147,9 @@ public class HttpClientReadableByteChannel implements ReadableByteChannel, Async
             }
             lock.unlock();
             try {
-              // relinquish the lock to consume more
+              // relinquish the lock to consume more - the client may be waiting for the release before sending it
+              release(used);
+              used = null;
               this.asyncBodyFuture.thenAccept(AsyncBody::consume);
             } finally {
               lock.lock();
@@ -139,10 +169,20 @@ public class HttpClientReadableByteChannel implements ReadableByteChannel, Async
         }
 
         int remaining = Math.min(arg0.remaining(), currentBuffer.remaining());
-        for (int i = 0; i < remaining; i++) {
-          arg0.put(currentBuffer.get());
+        if (remaining == currentBuffer.remaining()) {
+          arg0.put(currentBuffer);
+        } else {
+          // bulk copy just what fits
+          ByteBuffer slice = currentBuffer.slice();
+          slice.limit(remaining);
+          arg0.put(slice);
+          currentBuffer.position(currentBuffer.position() + remaining);
         }
         read += remaining;
+        if (!currentBuffer.hasRemaining()) {
+          used = addUsed(used, currentBuffer);
+          currentBuffer = null;
+        }
       }
 
       return read;
@@ -150,6 +190,7 @@ public class HttpClientReadableByteChannel implements ReadableByteChannel, Async
       if (lock.isHeldByCurrentThread()) {
         lock.unlock();
       }
+      release(used);
     }
   }
 
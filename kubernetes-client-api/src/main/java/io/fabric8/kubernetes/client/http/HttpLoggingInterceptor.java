@@ -108,6 +108,12 @@ public class HttpLoggingInterceptor implements Interceptor {
       originalConsumer.consume(value, asyncBody);
     }
 
+    @Override
+    public boolean releasesBuffers() {
+      // the logged body is a copy
+      return originalConsumer.releasesBuffers();
+    }
+
     @Override
     public <U> U unwrap(Class<U> target) {
       return Optional.ofNullable(AsyncBody.Consumer.super.unwrap(target)).orElse(originalConsumer.unwrap(target));
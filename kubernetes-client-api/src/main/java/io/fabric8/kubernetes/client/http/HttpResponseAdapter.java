@@ -27,7 +27,7 @@ import java.util.Optional;
  *
  * @param <T> the type of the body.
  */
-class HttpResponseAdapter<T> implements HttpResponse<T> {
+public class HttpResponseAdapter<T> implements HttpResponse<T> {
 
   private final HttpResponse<?> response;
   private final T body;
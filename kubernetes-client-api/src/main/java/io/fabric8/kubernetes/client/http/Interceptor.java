@@ -37,6 +37,18 @@ public interface Interceptor {
   default void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
   }
 
+  /**
+   * Called before each attempt of a non-WebSocket request, including retries, after the request has been
+   * manipulated by {@link #before(BasicBuilder, HttpRequest, RequestTags)}. Allows the request to be delayed
+   * without blocking, for example to limit the request rate.
+   *
+   * @param request the request about to be sent
+   * @return a future that completes when the request may be sent
+   */
+  default CompletableFuture<Void> beforeSend(HttpRequest request) {
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * Called after a non-WebSocket HTTP response is received. The body might or might not be already consumed.
    * <p>
@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate of requests with a token bucket shared by all requests of a client.
+ * <p>
+ * Requests are split in two lanes. Long running and liveness critical requests - watches and lease
+ * updates used for leader election - are never delayed, websockets are not subject to the limit at all. All other requests take a token from
+ * the bucket and are delayed, without blocking, until one is available.
+ * <p>
+ * When the server rejects a request with 429 Too Many Requests, for example because of API Priority and
+ * Fairness, the limited lane is paused for the Retry-After period so that other requests do not add to
+ * the congestion. The request itself is retried by the client.
+ */
+public class RateLimitingInterceptor implements Interceptor {
+
+  public static final String NAME = "RATE_LIMITING";
+
+  static final int HTTP_TOO_MANY_REQUESTS = 429;
+  static final String RETRY_AFTER = "Retry-After";
+  static final String PRIORITY_LEVEL_UID = "X-Kubernetes-PF-PriorityLevel-UID";
+  static final String FLOW_SCHEMA_UID = "X-Kubernetes-PF-FlowSchema-UID";
+
+  private static final Logger LOG = LoggerFactory.getLogger(RateLimitingInterceptor.class);
+  private static final CompletableFuture<Void> NOW = CompletableFuture.completedFuture(null);
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final double requestsPerSecond;
+  private final double burst;
+  private double tokens;
+  private long lastRefill;
+  private long pausedUntil;
+
+  /**
+   * @param requestsPerSecond the sustained rate
+   * @param burst the number of requests that may be sent at once, the rate is used if not positive
+   */
+  public RateLimitingInterceptor(int requestsPerSecond, int burst) {
+    if (requestsPerSecond <= 0) {
+      throw new IllegalArgumentException("requestsPerSecond must be positive");
+    }
+    this.requestsPerSecond = requestsPerSecond;
+    this.burst = burst > 0 ? burst : requestsPerSecond;
+    this.tokens = this.burst;
+    this.lastRefill = System.nanoTime();
+    this.pausedUntil = lastRefill;
+  }
+
+  @Override
+  public CompletableFuture<Void> beforeSend(HttpRequest request) {
+    if (isExempt(request)) {
+      return NOW;
+    }
+    long delay = reserve(System.nanoTime());
+    if (delay <= 0) {
+      return NOW;
+    }
+    return Utils.schedule(Runnable::run, () -> {
+    }, delay, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void after(HttpRequest request, HttpResponse<?> response, AsyncBody.Consumer<List<ByteBuffer>> consumer) {
+    if (response.code() != HTTP_TOO_MANY_REQUESTS) {
+      return;
+    }
+    long retryAfter = retryAfterMillis(response);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Request to {} was throttled by the server (priority level {}, flow schema {}), pausing for {} ms",
+          request.uri(), response.headers(PRIORITY_LEVEL_UID), response.headers(FLOW_SCHEMA_UID), retryAfter);
+    }
+    if (retryAfter > 0) {
+      pause(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryAfter));
+    }
+  }
+
+  /**
+   * Take a token, which may make the bucket negative.
+   *
+   * @return the nanos to wait until the token is actually available
+   */
+  synchronized long reserve(long now) {
+    tokens = Math.min(burst, tokens + (now - lastRefill) * requestsPerSecond / NANOS_PER_SECOND);
+    lastRefill = now;
+    tokens -= 1;
+    long wait = tokens >= 0 ? 0 : (long) Math.ceil(-tokens * NANOS_PER_SECOND / requestsPerSecond);
+    return Math.max(wait, pausedUntil - now);
+  }
+
+  synchronized void pause(long until) {
+    if (until - pausedUntil > 0) {
+      pausedUntil = until;
+    }
+  }
+
+  static boolean isExempt(HttpRequest request) {
+    String query = request.uri().getRawQuery();
+    if (query != null && (query.startsWith("watch=true") || query.contains("&watch=true"))) {
+      return true;
+    }
+    String path = request.uri().getRawPath();
+    return path != null && path.contains("/coordination.k8s.io/") && path.contains("/leases/");
+  }
+
+  /**
+   * @return the Retry-After delay in milliseconds, or 0 if there is none or it is not a number of seconds
+   */
+  static long retryAfterMillis(HttpHeaders response) {
+    List<String> values = response.headers(RETRY_AFTER);
+    if (values.isEmpty()) {
+      return 0;
+    }
+    try {
+      return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(values.get(0).trim())));
+    } catch (NumberFormatException e) {
+      // http-date values are not used by the api server
+      return 0;
+    }
+  }
+}
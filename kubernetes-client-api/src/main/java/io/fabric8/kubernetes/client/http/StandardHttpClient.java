@@ -20,6 +20,7 @@ import io.fabric8.kubernetes.client.RequestConfig;
 import io.fabric8.kubernetes.client.http.AsyncBody.Consumer;
 import io.fabric8.kubernetes.client.http.Interceptor.RequestTags;
 import io.fabric8.kubernetes.client.http.WebSocket.Listener;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
@@ -85,7 +86,7 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     StandardHttpRequest standardHttpRequest = (StandardHttpRequest) request;
 
     retryWithExponentialBackoff(result, () -> consumeBytesOnce(standardHttpRequest, consumer), request.uri(),
-        HttpResponse::code,
+        HttpResponse::code, StandardHttpClient::retryAfterMillis,
         r -> r.body().cancel(), standardHttpRequest.getTimeout());
     return result;
   }
@@ -104,7 +105,13 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     }
     final Consumer<List<ByteBuffer>> effectiveConsumer = consumer;
 
-    CompletableFuture<HttpResponse<AsyncBody>> cf = consumeBytesDirect(effectiveRequest, effectiveConsumer);
+    CompletableFuture<Void> permitted = CompletableFuture.completedFuture(null);
+    for (Interceptor interceptor : builder.getInterceptors().values()) {
+      permitted = permitted.thenCompose(v -> interceptor.beforeSend(effectiveRequest));
+    }
+
+    CompletableFuture<HttpResponse<AsyncBody>> cf = permitted
+        .thenCompose(v -> consumeBytesMeasured(effectiveRequest, effectiveConsumer, ClientMetrics.getInstance()));
     cf.thenAccept(
         response -> builder.getInterceptors().values().forEach(i -> i.after(effectiveRequest, response, effectiveConsumer)));
 
@@ -116,7 +123,8 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
                 if (Boolean.TRUE.equals(b)) {
                   // before starting another request, make sure the old one is cancelled / closed
                   response.body().cancel();
-                  CompletableFuture<HttpResponse<AsyncBody>> result = consumeBytesDirect(copy.build(), effectiveConsumer);
+                  CompletableFuture<HttpResponse<AsyncBody>> result = consumeBytesMeasured(copy.build(), effectiveConsumer,
+                      ClientMetrics.getInstance());
                   result.thenAccept(
                       r -> builder.getInterceptors().values().forEach(i -> i.after(effectiveRequest, r, effectiveConsumer)));
                   return result;
@@ -130,6 +138,24 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     return cf;
   }
 
+  private CompletableFuture<HttpResponse<AsyncBody>> consumeBytesMeasured(StandardHttpRequest request,
+      Consumer<List<ByteBuffer>> consumer, ClientMetrics metrics) {
+    if (metrics == ClientMetrics.NOOP) {
+      return consumeBytesDirect(request, consumer);
+    }
+    metrics.requestStarted(request);
+    long start = System.nanoTime();
+    CompletableFuture<HttpResponse<AsyncBody>> cf = consumeBytesDirect(request, consumer);
+    cf.whenComplete((response, throwable) -> {
+      if (response != null) {
+        metrics.requestCompleted(request, response.code(), System.nanoTime() - start);
+      } else {
+        metrics.requestFailed(request, throwable, System.nanoTime() - start);
+      }
+    });
+    return cf;
+  }
+
   private static <V> BiConsumer<? super V, ? super Throwable> completeOrCancel(java.util.function.Consumer<V> cancel,
       final CompletableFuture<V> result) {
     return (r, t) -> {
@@ -156,20 +182,49 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
 
   /**
    * Will retry the action if needed based upon the retry settings provided by the ExponentialBackoffIntervalCalculator.
+   * <p>
+   * Server errors and IOExceptions are retried after the backoff interval. A 429 Too Many Requests is not retried,
+   * use the overload with a retryAfterExtractor for that.
    */
   protected <V> void retryWithExponentialBackoff(CompletableFuture<V> result,
       Supplier<CompletableFuture<V>> action, URI uri, Function<V, Integer> codeExtractor,
       java.util.function.Consumer<V> cancel, ExponentialBackoffIntervalCalculator retryIntervalCalculator,
       Duration timeout) {
+    retryWithExponentialBackoff(result, action, uri, codeExtractor, r -> null, cancel, retryIntervalCalculator, timeout);
+  }
+
+  /**
+   * Will retry the action if needed based upon the retry settings provided by the ExponentialBackoffIntervalCalculator.
+   * <p>
+   * Server errors and IOExceptions are retried after the backoff interval. A 429 Too Many Requests is retried if
+   * the retryAfterExtractor returns a delay for it, after at least that period.
+   *
+   * @param codeExtractor returns the response code, or null if there is none
+   * @param retryAfterExtractor returns the Retry-After delay of a response in milliseconds, or null if there is none
+   */
+  protected <V> void retryWithExponentialBackoff(CompletableFuture<V> result,
+      Supplier<CompletableFuture<V>> action, URI uri, Function<V, Integer> codeExtractor,
+      Function<V, Long> retryAfterExtractor, java.util.function.Consumer<V> cancel,
+      ExponentialBackoffIntervalCalculator retryIntervalCalculator, Duration timeout) {
 
     orTimeout(action.get(), timeout)
         .whenComplete((response, throwable) -> {
           if (retryIntervalCalculator.shouldRetry() && !result.isDone()) {
             long retryInterval = retryIntervalCalculator.nextReconnectInterval();
             boolean retry = false;
+            int code = 0;
             if (response != null) {
-              Integer code = codeExtractor.apply(response);
-              if (code != null && code >= 500) {
+              code = Optional.ofNullable(codeExtractor.apply(response)).orElse(0);
+              if (code == RateLimitingInterceptor.HTTP_TOO_MANY_REQUESTS) {
+                Long retryAfter = retryAfterExtractor.apply(response);
+                // a 429 for an eviction reports a disruption budget violation to the caller, it is not throttling
+                if (retryAfter != null && !uri.getPath().endsWith("/eviction")) {
+                  retryInterval = Math.max(retryInterval, retryAfter);
+                  LOG.debug("HTTP operation on url: {} was throttled, retrying after {} millis", uri, retryInterval);
+                  retry = true;
+                  cancel.accept(response);
+                }
+              } else if (code >= 500) {
                 LOG.debug("HTTP operation on url: {} should be retried as the response code was {}, retrying after {} millis",
                     uri, code, retryInterval);
                 retry = true;
@@ -186,9 +241,10 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
               }
             }
             if (retry) {
+              ClientMetrics.getInstance().requestRetried(uri, code);
               Utils.schedule(Runnable::run,
-                  () -> retryWithExponentialBackoff(result, action, uri, codeExtractor, cancel, retryIntervalCalculator,
-                      timeout),
+                  () -> retryWithExponentialBackoff(result, action, uri, codeExtractor, retryAfterExtractor, cancel,
+                      retryIntervalCalculator, timeout),
                   retryInterval,
                   TimeUnit.MILLISECONDS);
               return;
@@ -201,11 +257,27 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
   protected <V> void retryWithExponentialBackoff(CompletableFuture<V> result,
       Supplier<CompletableFuture<V>> action, URI uri, Function<V, Integer> codeExtractor,
       java.util.function.Consumer<V> cancel, Duration timeout) {
+    retryWithExponentialBackoff(result, action, uri, codeExtractor, r -> null, cancel, timeout);
+  }
+
+  protected <V> void retryWithExponentialBackoff(CompletableFuture<V> result,
+      Supplier<CompletableFuture<V>> action, URI uri, Function<V, Integer> codeExtractor,
+      Function<V, Long> retryAfterExtractor, java.util.function.Consumer<V> cancel, Duration timeout) {
     RequestConfig requestConfig = getTag(RequestConfig.class);
-    retryWithExponentialBackoff(result, action, uri, codeExtractor, cancel,
+    retryWithExponentialBackoff(result, action, uri, codeExtractor, retryAfterExtractor, cancel,
         ExponentialBackoffIntervalCalculator.from(requestConfig), timeout);
   }
 
+  /**
+   * @return the Retry-After delay of the response in milliseconds, or null if there is no response or header
+   */
+  static Long retryAfterMillis(HttpResponse<?> response) {
+    if (response == null || response.headers(RateLimitingInterceptor.RETRY_AFTER).isEmpty()) {
+      return null;
+    }
+    return RateLimitingInterceptor.retryAfterMillis(response);
+  }
+
   @Override
   public io.fabric8.kubernetes.client.http.WebSocket.Builder newWebSocketBuilder() {
     return new StandardWebSocketBuilder(this);
@@ -226,6 +298,7 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     retryWithExponentialBackoff(intermediate, () -> buildWebSocketOnce(standardWebSocketBuilder, listener),
         request.uri(),
         r -> Optional.of(r.webSocketUpgradeResponse).map(HttpResponse::code).orElse(null),
+        r -> retryAfterMillis(r.webSocketUpgradeResponse),
         r -> Optional.ofNullable(r.webSocket).ifPresent(w -> w.sendClose(1000, null)), request.getTimeout());
 
     CompletableFuture<WebSocket> result = new CompletableFuture<>();
@@ -114,6 +114,19 @@ public interface WebSocket {
    */
   boolean send(ByteBuffer buffer);
 
+  /**
+   * Send a single message made up of the remaining content of the buffers, in order.
+   * <p>
+   * This allows a prefix, such as a channel byte, to be added without first copying the
+   * payload into a new array. The buffers will be copied if needed by the implementation to allow
+   * for modifications after this call.
+   *
+   * @return true if the message was successfully enqueued.
+   */
+  default boolean sendGathering(ByteBuffer... buffers) {
+    return send(BufferUtil.concat(buffers));
+  }
+
   /**
    * Send a close message. If successful, the output side
    * will then be closed. After a timeout the input side will
@@ -130,6 +143,19 @@ public interface WebSocket {
    */
   long queueSize();
 
+  /**
+   * Get a future that completes when the {@link #queueSize()} is at most the given number of bytes. This
+   * allows a sender to apply backpressure without blocking or polling.
+   * <p>
+   * The default implementation checks the queue size periodically until the future is completed or cancelled.
+   *
+   * @param bytes the queue size to wait for
+   * @return the future
+   */
+  default CompletableFuture<Void> whenQueueSizeAtMost(long bytes) {
+    return WebSocketSendQueue.poll(this, bytes);
+  }
+
   /**
    * Used to receive more onMessage or {@link Listener#onClose(WebSocket, int, String)} events after the initial message is
    * received
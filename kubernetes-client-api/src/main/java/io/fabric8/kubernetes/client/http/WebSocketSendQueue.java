@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the bytes enqueued by a {@link WebSocket} that have not yet been sent, and completes the futures
+ * returned by {@link #whenSizeAtMost(long)} as sends complete.
+ */
+public class WebSocketSendQueue {
+
+  private static final long POLL_INTERVAL_MILLIS = 10;
+
+  private static final class Waiter extends CompletableFuture<Void> {
+    private final long bytes;
+
+    private Waiter(long bytes) {
+      this.bytes = bytes;
+    }
+  }
+
+  private final AtomicLong size = new AtomicLong();
+  private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Called when a message is enqueued
+   */
+  public void add(long bytes) {
+    size.addAndGet(bytes);
+  }
+
+  /**
+   * Called when a message has been sent, or has failed to send
+   */
+  public void remove(long bytes) {
+    long current = size.addAndGet(-bytes);
+    if (!waiters.isEmpty()) {
+      waiters.removeIf(w -> {
+        if (w.isDone()) {
+          return true;
+        }
+        if (current <= w.bytes) {
+          w.complete(null);
+          return true;
+        }
+        return false;
+      });
+    }
+  }
+
+  public long size() {
+    return size.get();
+  }
+
+  /**
+   * @see WebSocket#whenQueueSizeAtMost(long)
+   */
+  public CompletableFuture<Void> whenSizeAtMost(long bytes) {
+    if (size.get() <= bytes) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Waiter waiter = new Waiter(bytes);
+    waiters.add(waiter);
+    // recheck in case the queue drained before the waiter was added
+    if (size.get() <= bytes) {
+      waiters.remove(waiter);
+      waiter.complete(null);
+    }
+    return waiter;
+  }
+
+  /**
+   * For implementations that can't track the completion of sends, check the queue size periodically
+   */
+  static CompletableFuture<Void> poll(WebSocket webSocket, long bytes) {
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    poll(webSocket, bytes, result);
+    return result;
+  }
+
+  private static void poll(WebSocket webSocket, long bytes, CompletableFuture<Void> result) {
+    if (result.isDone()) {
+      return;
+    }
+    if (webSocket.queueSize() <= bytes) {
+      result.complete(null);
+    } else {
+      Utils.schedule(Runnable::run, () -> poll(webSocket, bytes, result), POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * Controls how notifications are queued for a single {@link ResourceEventHandler}.
+ * <p>
+ * Each handler has its own queue, so a slow handler does not hold up the other handlers
+ * of the same informer. By default the queue is unbounded.
+ */
+public final class EventQueueOptions {
+
+  /**
+   * What to do with a notification for a full queue.
+   * <p>
+   * Notifications are queued on the thread that delivers the informer's watch events - for most
+   * http clients this is a shared io thread - or on the resync thread while it holds the lock
+   * of the informer's cache. {@link #BLOCK} and {@link #COALESCE} may therefore stall that io
+   * thread, including other watches and requests served by it, as well as modifications of the cache such
+   * as {@link SharedIndexInformer#addIndexers(java.util.Map)}, until the slow handler catches up. Use them only
+   * with handlers that reliably keep up, or use {@link #DROP} and a periodic resync to recover.
+   */
+  public enum OverflowPolicy {
+    /**
+     * Block the thread delivering informer events until the handler has caught up. This stalls
+     * every other handler of the informer, and may stall the shared io thread and the informer's
+     * cache, see {@link OverflowPolicy}
+     */
+    BLOCK,
+    /**
+     * Merge the notification with one already pending for the same resource. If there is
+     * nothing to merge with, the thread delivering informer events blocks as with {@link #BLOCK}
+     */
+    COALESCE,
+    /**
+     * Discard the notification. Dropped notifications are counted and logged.
+     */
+    DROP
+  }
+
+  private static final EventQueueOptions UNBOUNDED = new EventQueueOptions(Integer.MAX_VALUE, OverflowPolicy.BLOCK);
+
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+
+  private EventQueueOptions(int capacity, OverflowPolicy overflowPolicy) {
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * @return options for a queue without a capacity limit
+   */
+  public static EventQueueOptions unbounded() {
+    return UNBOUNDED;
+  }
+
+  /**
+   * @param capacity the maximum number of pending notifications, must be positive
+   * @param overflowPolicy what to do with a notification when the queue is full
+   * @return options for a bounded queue
+   */
+  public static EventQueueOptions bounded(int capacity, OverflowPolicy overflowPolicy) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    if (overflowPolicy == null) {
+      throw new IllegalArgumentException("overflowPolicy must not be null");
+    }
+    return new EventQueueOptions(capacity, overflowPolicy);
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  public boolean isBounded() {
+    return capacity != Integer.MAX_VALUE;
+  }
+
+}
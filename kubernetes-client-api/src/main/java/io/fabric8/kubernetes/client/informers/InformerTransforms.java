@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.client.dsl.Informable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Transforms for use with {@link Informable#withTransform(UnaryOperator)} and
+ * {@link SharedIndexInformer#transform(UnaryOperator)}
+ */
+public class InformerTransforms {
+
+  public static final String LAST_APPLIED_CONFIGURATION = "kubectl.kubernetes.io/last-applied-configuration";
+
+  private InformerTransforms() {
+  }
+
+  /**
+   * Removes metadata.managedFields, which is often the largest part of a resource, and the given annotations.
+   * <p>
+   * The resource is modified in place.
+   *
+   * @param annotations to remove, such as {@link #LAST_APPLIED_CONFIGURATION}
+   * @return the transform
+   */
+  public static <T extends HasMetadata> UnaryOperator<T> stripManagedFields(String... annotations) {
+    Set<String> toRemove = new HashSet<>(Arrays.asList(annotations));
+    return resource -> {
+      ObjectMeta metadata = resource.getMetadata();
+      if (metadata != null) {
+        if (metadata.getManagedFields() != null && !metadata.getManagedFields().isEmpty()) {
+          // match the default value
+          metadata.setManagedFields(new ArrayList<>());
+        }
+        Map<String, String> current = metadata.getAnnotations();
+        if (!toRemove.isEmpty() && current != null && !current.isEmpty()) {
+          current.keySet().removeAll(toRemove);
+        }
+      }
+      return resource;
+    };
+  }
+
+}
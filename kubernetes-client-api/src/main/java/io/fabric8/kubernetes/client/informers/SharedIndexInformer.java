@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 /**
@@ -86,6 +87,20 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
   SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handle,
       long resyncPeriod);
 
+  /**
+   * Adds an event handler to the shared informer using the specified resync period and
+   * queue options.
+   * <p>
+   * Notifications for the handler are queued according to the given {@link EventQueueOptions}.
+   * Use a bounded queue to limit the memory used by a slow handler.
+   *
+   * @param handle the event handler
+   * @param resyncPeriod the specific resync period
+   * @param queueOptions how notifications are queued for this handler
+   */
+  SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handle,
+      long resyncPeriod, EventQueueOptions queueOptions);
+
   /**
    * Starts the shared informer, which will be stopped when {@link #stop()} is called.
    *
@@ -149,6 +164,15 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
    */
   boolean isWatching();
 
+  /**
+   * Return the number of notifications that have been discarded for the handlers of this informer.
+   * <br>
+   * Only handlers added with bounded {@link EventQueueOptions} can have notifications discarded.
+   */
+  default long getDroppedNotificationCount() {
+    return 0;
+  }
+
   /**
    * Return the Store associated with this informer
    *
@@ -169,6 +193,29 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
 
   SharedIndexInformer<T> itemStore(ItemStore<T> itemStore);
 
+  /**
+   * Sets a transform to apply to each resource before it is added to the store and before
+   * it is passed to the {@link ResourceEventHandler}s. See {@link InformerTransforms} for built-in transforms.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param transform to apply to each resource, which must not change the key of the resource. Returning null
+   *        excludes the resource from the informer, a previously included resource is then deleted.
+   */
+  SharedIndexInformer<T> transform(UnaryOperator<T> transform);
+
+  /**
+   * Retrieve the initial state, and the state after the watch is no longer valid, with a single watch that streams
+   * the current resources as ADDED events rather than with a list followed by a watch. This avoids the API
+   * server building large list responses. Requires the WatchList feature of Kubernetes 1.27 or later - if the
+   * server rejects the request the informer reverts to list and watch.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param sendInitialEvents true to stream the initial state
+   */
+  SharedIndexInformer<T> sendInitialEvents(boolean sendInitialEvents);
+
   /**
    * A non-blocking alternative to run. Starts the shared informer, which will normally be stopped when {@link #stop()} is
    * called.
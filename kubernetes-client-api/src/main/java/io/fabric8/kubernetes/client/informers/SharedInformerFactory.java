@@ -18,7 +18,10 @@ package io.fabric8.kubernetes.client.informers;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.dsl.Informable;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Future;
 
 public interface SharedInformerFactory {
@@ -58,6 +61,42 @@ public interface SharedInformerFactory {
   <T extends HasMetadata> SharedIndexInformer<T> sharedIndexInformerFor(Class<T> apiTypeClass,
       long resyncPeriodInMillis);
 
+  /**
+   * Constructs and returns the shared index informers for the given namespaces.
+   * <p>
+   * When there is more than one namespace and the client is allowed to list and watch the resource in all namespaces,
+   * a single cluster-scoped informer is returned and resources from other namespaces are ignored client-side. This uses a
+   * single watch rather than one per namespace. Use the {@link Cache#NAMESPACE_INDEX} to look up the resources of a
+   * namespace. The namespace filter is applied ahead of, and is not replaced by, a
+   * {@link SharedIndexInformer#transform(java.util.function.UnaryOperator)}.
+   * <p>
+   * Otherwise, for example when RBAC only grants access to the given namespaces, an informer is returned for each
+   * namespace. Either way the informers are registered with the factory, so they are started by
+   * {@link #startAllRegisteredInformers()} within the start budget.
+   *
+   * @param apiTypeClass apiType class
+   * @param namespaces the namespaces to inform on
+   * @param resyncPeriodInMillis resync period in milliseconds
+   * @return the shared index informers, a single one if the namespaces share a watch
+   */
+  <T extends HasMetadata> List<SharedIndexInformer<T>> sharedIndexInformersFor(Class<T> apiTypeClass,
+      Collection<String> namespaces, long resyncPeriodInMillis);
+
+  /**
+   * Limits the number of informers that {@link #startAllRegisteredInformers()} will have starting - performing
+   * their initial list and establishing their watch - at the same time. Each start is additionally delayed by a random
+   * amount up to the given jitter, so that many informers do not list at the same time.
+   * <p>
+   * This only staggers the initial starts. Once started, the informers relist and re-establish their watches, for
+   * example after a 410 Gone, with their own backoff outside of this budget, and the number of watches open at the same
+   * time is not limited.
+   *
+   * @param maxConcurrentStarts the maximum number of informers starting at once, or 0 for no limit
+   * @param maxJitterMillis the maximum random delay before each start
+   * @return this
+   */
+  SharedInformerFactory withStartBudget(int maxConcurrentStarts, long maxJitterMillis);
+
   /**
    * Gets existing shared index informer, return null if the requesting informer
    * is never constructed. If there are multiple SharedIndexInformer objects corresponding
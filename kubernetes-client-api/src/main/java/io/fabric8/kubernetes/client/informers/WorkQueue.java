@@ -0,0 +1,306 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A de-duplicating work queue of cache keys fed by a {@link SharedIndexInformer}, similar to the
+ * client-go / controller-runtime workqueue.
+ * <p>
+ * Events are collapsed per key - while a key is pending, further events for it are no-ops, and while a key
+ * is being processed, further events cause it to be processed once more afterwards. A key is never processed
+ * by more than one worker at a time. The {@link Reconciler} is given the current state from
+ * {@link SharedIndexInformer#getIndexer()} at processing time, rather than the state at the time of the event.
+ * <p>
+ * A key whose reconciliation fails is retried with a per-key exponential backoff.
+ *
+ * <pre>
+ * try (WorkQueue&lt;Pod&gt; queue = new WorkQueue&lt;&gt;(informer, (key, pod) -&gt; reconcile(key, pod)).withWorkers(4).start()) {
+ *   ...
+ * }
+ * </pre>
+ *
+ * @param <T> resource
+ */
+public class WorkQueue<T> implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(WorkQueue.class);
+
+  /**
+   * Performs the work for a key.
+   *
+   * @param <T> resource
+   */
+  @FunctionalInterface
+  public interface Reconciler<T> {
+
+    /**
+     * @param key the cache key, see {@link Store#getKey(Object)}
+     * @param obj the current state from the informer cache, or null if the resource no longer exists
+     * @throws Exception to have the key retried after a backoff
+     */
+    void reconcile(String key, T obj) throws Exception;
+
+  }
+
+  private final SharedIndexInformer<T> informer;
+  private final Reconciler<T> reconciler;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Deque<String> queue = new ArrayDeque<>();
+  // keys that need processing - either queued or to be queued once done processing
+  private final Set<String> dirty = new HashSet<>();
+  private final Set<String> processing = new HashSet<>();
+  private final Map<String, Integer> failures = new HashMap<>();
+
+  private int workers = 1;
+  private Duration initialBackoff = Duration.ofMillis(5);
+  private Duration maxBackoff = Duration.ofSeconds(1000);
+  private ExecutorService executorService;
+  private boolean started;
+  private boolean closed;
+
+  public WorkQueue(SharedIndexInformer<T> informer, Reconciler<T> reconciler) {
+    this.informer = informer;
+    this.reconciler = reconciler;
+  }
+
+  /**
+   * @param workers the number of keys that may be processed concurrently, defaults to 1
+   * @return this
+   */
+  public WorkQueue<T> withWorkers(int workers) {
+    if (workers <= 0) {
+      throw new IllegalArgumentException("workers must be positive");
+    }
+    this.workers = workers;
+    return this;
+  }
+
+  /**
+   * @param initial the delay after the first failure of a key, doubled for each subsequent failure
+   * @param max the maximum delay
+   * @return this
+   */
+  public WorkQueue<T> withBackoff(Duration initial, Duration max) {
+    this.initialBackoff = initial;
+    this.maxBackoff = max;
+    return this;
+  }
+
+  /**
+   * Register with the informer and start the workers
+   *
+   * @return this
+   */
+  public WorkQueue<T> start() {
+    lock.lock();
+    try {
+      if (started || closed) {
+        return this;
+      }
+      started = true;
+      executorService = Executors.newFixedThreadPool(workers, Utils.daemonThreadFactory(this));
+      for (int i = 0; i < workers; i++) {
+        executorService.execute(this::work);
+      }
+    } finally {
+      lock.unlock();
+    }
+    informer.addEventHandler(new ResourceEventHandler<T>() {
+      @Override
+      public void onAdd(T obj) {
+        add(informer.getIndexer().getKey(obj));
+      }
+
+      @Override
+      public void onUpdate(T oldObj, T newObj) {
+        add(informer.getIndexer().getKey(newObj));
+      }
+
+      @Override
+      public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+        add(informer.getIndexer().getKey(obj));
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Add the key to the queue, unless it is already pending
+   */
+  public void add(String key) {
+    lock.lock();
+    try {
+      if (closed || !dirty.add(key)) {
+        return;
+      }
+      if (!processing.contains(key)) {
+        queue.add(key);
+        notEmpty.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Add the key to the queue after the given delay
+   */
+  public CompletableFuture<Void> addAfter(String key, Duration delay) {
+    if (delay.isZero() || delay.isNegative()) {
+      add(key);
+      return CompletableFuture.completedFuture(null);
+    }
+    return Utils.schedule(Runnable::run, () -> add(key), delay.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @return the number of keys waiting to be processed, including keys that will be processed again once
+   *         their current processing is done
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return dirty.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of consecutive failures for the key
+   */
+  public int getFailures(String key) {
+    lock.lock();
+    try {
+      return failures.getOrDefault(key, 0);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stop the workers. The informer is not stopped.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      queue.clear();
+      dirty.clear();
+      notEmpty.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    if (executorService != null) {
+      executorService.shutdownNow();
+    }
+  }
+
+  private void work() {
+    String key;
+    while ((key = take()) != null) {
+      Duration retryAfter = null;
+      try {
+        reconciler.reconcile(key, informer.getIndexer().getByKey(key));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        retryAfter = nextBackoff(key);
+        log.warn("Reconciliation of {} failed, retrying in {}ms: {}", key, retryAfter.toMillis(), e.getMessage(), e);
+      }
+      done(key, retryAfter == null);
+      if (retryAfter != null) {
+        addAfter(key, retryAfter);
+      }
+    }
+  }
+
+  private String take() {
+    lock.lock();
+    try {
+      while (queue.isEmpty()) {
+        if (closed) {
+          return null;
+        }
+        notEmpty.await();
+      }
+      String key = queue.poll();
+      dirty.remove(key);
+      processing.add(key);
+      return key;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void done(String key, boolean success) {
+    lock.lock();
+    try {
+      processing.remove(key);
+      if (success) {
+        failures.remove(key);
+      }
+      // events that arrived while processing
+      if (dirty.contains(key)) {
+        queue.add(key);
+        notEmpty.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Duration nextBackoff(String key) {
+    lock.lock();
+    try {
+      int count = failures.merge(key, 1, Integer::sum);
+      // cap the shift so that it does not overflow
+      long millis = initialBackoff.toMillis() << Math.min(count - 1, 30);
+      if (millis < 0 || millis > maxBackoff.toMillis()) {
+        return maxBackoff;
+      }
+      return Duration.ofMillis(millis);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+}
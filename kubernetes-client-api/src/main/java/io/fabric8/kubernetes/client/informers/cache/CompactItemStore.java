@@ -0,0 +1,209 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * An {@link ItemStore} that holds each item in serialized form, rather than as an object graph.
+ * Items are decoded when they are read, with a small cache of the most recently used decoded items.
+ * <p>
+ * The serialized form of a resource is typically several times smaller than the retained size of
+ * the equivalent object graph, at the cost of decoding on reads that miss the decoded cache. Unlike
+ * {@link ReducedStateItemStore} the full state is retained.
+ * <p>
+ * JSON is used by default. A more compact binary encoding may be used by supplying an {@link ObjectMapper}
+ * for that format - for example one created from a Smile or CBOR factory.
+ * <p>
+ * Items returned from this store are not shared with the store, except for those held in the decoded cache.
+ * As with other stores, they should not be modified.
+ */
+public class CompactItemStore<V extends HasMetadata> implements ItemStore<V> {
+
+  public static final int DEFAULT_DECODED_CACHE_SIZE = 256;
+
+  private static final class Encoded {
+    final byte[] bytes;
+    final ByteBuffer buffer;
+
+    Encoded(byte[] bytes, boolean offHeap) {
+      if (offHeap) {
+        this.buffer = ByteBuffer.allocateDirect(bytes.length);
+        this.buffer.put(bytes).flip();
+        this.bytes = null;
+      } else {
+        this.bytes = bytes;
+        this.buffer = null;
+      }
+    }
+
+    int size() {
+      return bytes != null ? bytes.length : buffer.capacity();
+    }
+  }
+
+  private static final class Decoded<V> {
+    final Encoded encoded;
+    final V value;
+
+    Decoded(Encoded encoded, V value) {
+      this.encoded = encoded;
+      this.value = value;
+    }
+  }
+
+  private final ConcurrentHashMap<String, Encoded> store = new ConcurrentHashMap<>();
+  private final Map<String, Decoded<V>> decoded;
+  private final Function<V, String> keyFunction;
+  private final Class<V> typeClass;
+  private final ObjectMapper mapper;
+  private final boolean offHeap;
+
+  /**
+   * Create a store that holds items as JSON on the heap, with the default decoded cache size
+   *
+   * @param keyFunction the key function, which should match the informer key function
+   * @param typeClass the expected type
+   */
+  public CompactItemStore(Function<V, String> keyFunction, Class<V> typeClass) {
+    this(keyFunction, typeClass, Serialization.jsonMapper(), DEFAULT_DECODED_CACHE_SIZE, false);
+  }
+
+  /**
+   * @param keyFunction the key function, which should match the informer key function
+   * @param typeClass the expected type
+   * @param mapper used to encode and decode the items
+   * @param decodedCacheSize the number of decoded items to retain, may be 0
+   * @param offHeap true if the serialized items should be held in direct buffers
+   */
+  public CompactItemStore(Function<V, String> keyFunction, Class<V> typeClass, ObjectMapper mapper, int decodedCacheSize,
+      boolean offHeap) {
+    this.keyFunction = keyFunction;
+    this.typeClass = typeClass;
+    this.mapper = mapper;
+    this.offHeap = offHeap;
+    this.decoded = new LinkedHashMap<String, Decoded<V>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Decoded<V>> eldest) {
+        return size() > decodedCacheSize;
+      }
+    };
+  }
+
+  Encoded encode(V value) {
+    try {
+      return new Encoded(mapper.writeValueAsBytes(value), offHeap);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  V decode(String key, Encoded encoded) {
+    if (encoded == null) {
+      return null;
+    }
+    synchronized (decoded) {
+      Decoded<V> result = decoded.get(key);
+      // a stale entry may remain when a read raced with a write
+      if (result != null && result.encoded == encoded) {
+        return result.value;
+      }
+    }
+    V value;
+    try {
+      if (encoded.bytes != null) {
+        value = mapper.readValue(encoded.bytes, typeClass);
+      } else {
+        value = mapper.readValue(new ByteBufferBackedInputStream(encoded.buffer.duplicate()), typeClass);
+      }
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+    cacheDecoded(key, encoded, value);
+    return value;
+  }
+
+  private void cacheDecoded(String key, Encoded encoded, V value) {
+    synchronized (decoded) {
+      decoded.put(key, new Decoded<>(encoded, value));
+    }
+  }
+
+  @Override
+  public V put(String key, V obj) {
+    Encoded encoded = encode(obj);
+    Encoded old = store.put(key, encoded);
+    V result = decode(key, old);
+    // the latest version is the most likely to be read next
+    cacheDecoded(key, encoded, obj);
+    return result;
+  }
+
+  @Override
+  public V remove(String key) {
+    Encoded old = store.remove(key);
+    V result = decode(key, old);
+    synchronized (decoded) {
+      decoded.remove(key);
+    }
+    return result;
+  }
+
+  @Override
+  public Stream<String> keySet() {
+    return store.keySet().stream();
+  }
+
+  @Override
+  public Stream<V> values() {
+    return store.entrySet().stream().map(e -> decode(e.getKey(), e.getValue()));
+  }
+
+  @Override
+  public V get(String key) {
+    return decode(key, store.get(key));
+  }
+
+  @Override
+  public int size() {
+    return store.size();
+  }
+
+  /**
+   * @return the total size in bytes of the serialized items
+   */
+  public long getSerializedSize() {
+    return store.values().stream().mapToLong(Encoded::size).sum();
+  }
+
+  @Override
+  public String getKey(V obj) {
+    return keyFunction.apply(obj);
+  }
+
+}
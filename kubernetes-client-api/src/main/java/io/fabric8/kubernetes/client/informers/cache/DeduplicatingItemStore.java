@@ -0,0 +1,211 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntry;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodSpec;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * An {@link ItemStore} decorator that reduces the retained size of the cached items by de-duplicating
+ * their content.
+ * <p>
+ * Commonly repeated strings - namespaces, label and annotation keys and values, owner references,
+ * managedFields managers, container names and images - are replaced by canonical instances. Labels,
+ * annotations and owner references that are unchanged from the previously cached version of the same item
+ * are shared with that version.
+ * <p>
+ * The items are modified in place when they are added. As with other stores, items should not be modified
+ * once they have been added - with this store that may also affect other cached items.
+ *
+ * @param <V> resource
+ */
+public class DeduplicatingItemStore<V extends HasMetadata> implements ItemStore<V> {
+
+  // rough sizes, assuming compressed oops and compact strings
+  private static final int STRING_OVERHEAD = 40;
+  private static final int MAP_OVERHEAD = 48;
+  private static final int MAP_ENTRY_SIZE = 40;
+  private static final int OWNER_REFERENCE_SIZE = 120;
+
+  private final ItemStore<V> delegate;
+  private final Map<String, WeakReference<String>> strings = new WeakHashMap<>();
+  private final LongAdder bytesSaved = new LongAdder();
+
+  public DeduplicatingItemStore(ItemStore<V> delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * @return an estimate of the number of bytes that have been saved by de-duplication. This does
+   *         not account for items that have since been removed or replaced.
+   */
+  public long getBytesSaved() {
+    return bytesSaved.sum();
+  }
+
+  String intern(String value) {
+    if (value == null) {
+      return null;
+    }
+    synchronized (strings) {
+      WeakReference<String> ref = strings.get(value);
+      String existing = ref != null ? ref.get() : null;
+      if (existing == null) {
+        strings.put(value, new WeakReference<>(value));
+        return value;
+      }
+      if (existing != value) {
+        bytesSaved.add(STRING_OVERHEAD + (long) value.length());
+      }
+      return existing;
+    }
+  }
+
+  void deduplicate(V obj, V previous) {
+    ObjectMeta metadata = obj.getMetadata();
+    if (metadata == null) {
+      return;
+    }
+    ObjectMeta previousMetadata = previous != null ? previous.getMetadata() : null;
+    metadata.setNamespace(intern(metadata.getNamespace()));
+    metadata.setGenerateName(intern(metadata.getGenerateName()));
+    metadata.setLabels(deduplicate(metadata.getLabels(), previousMetadata != null ? previousMetadata.getLabels() : null,
+        true));
+    metadata.setAnnotations(deduplicate(metadata.getAnnotations(),
+        previousMetadata != null ? previousMetadata.getAnnotations() : null, false));
+    metadata.setOwnerReferences(deduplicateOwnerReferences(metadata.getOwnerReferences(),
+        previousMetadata != null ? previousMetadata.getOwnerReferences() : null));
+    List<ManagedFieldsEntry> managedFields = metadata.getManagedFields();
+    if (managedFields != null) {
+      for (ManagedFieldsEntry entry : managedFields) {
+        entry.setManager(intern(entry.getManager()));
+        entry.setOperation(intern(entry.getOperation()));
+        entry.setApiVersion(intern(entry.getApiVersion()));
+        entry.setFieldsType(intern(entry.getFieldsType()));
+        entry.setSubresource(intern(entry.getSubresource()));
+      }
+    }
+    if (obj instanceof Pod) {
+      deduplicate(((Pod) obj).getSpec());
+    }
+  }
+
+  private Map<String, String> deduplicate(Map<String, String> map, Map<String, String> previous, boolean values) {
+    if (map == null || map.isEmpty()) {
+      return map;
+    }
+    if (map != previous && map.equals(previous)) {
+      bytesSaved.add(MAP_OVERHEAD + (long) map.size() * MAP_ENTRY_SIZE);
+      return previous;
+    }
+    Map<String, String> result = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+    map.forEach((k, v) -> result.put(intern(k), values ? intern(v) : v));
+    return result;
+  }
+
+  private List<OwnerReference> deduplicateOwnerReferences(List<OwnerReference> ownerReferences,
+      List<OwnerReference> previous) {
+    if (ownerReferences == null || ownerReferences.isEmpty()) {
+      return ownerReferences;
+    }
+    if (ownerReferences != previous && ownerReferences.equals(previous)) {
+      bytesSaved.add((long) ownerReferences.size() * OWNER_REFERENCE_SIZE);
+      return previous;
+    }
+    for (OwnerReference ownerReference : ownerReferences) {
+      ownerReference.setApiVersion(intern(ownerReference.getApiVersion()));
+      ownerReference.setKind(intern(ownerReference.getKind()));
+      ownerReference.setName(intern(ownerReference.getName()));
+      ownerReference.setUid(intern(ownerReference.getUid()));
+    }
+    return ownerReferences;
+  }
+
+  private void deduplicate(PodSpec spec) {
+    if (spec == null) {
+      return;
+    }
+    spec.setNodeName(intern(spec.getNodeName()));
+    spec.setServiceAccountName(intern(spec.getServiceAccountName()));
+    spec.setSchedulerName(intern(spec.getSchedulerName()));
+    Stream.of(spec.getContainers(), spec.getInitContainers()).filter(Objects::nonNull).flatMap(List::stream)
+        .forEach(this::deduplicate);
+  }
+
+  private void deduplicate(Container container) {
+    container.setName(intern(container.getName()));
+    container.setImage(intern(container.getImage()));
+    container.setImagePullPolicy(intern(container.getImagePullPolicy()));
+  }
+
+  @Override
+  public String getKey(V obj) {
+    return delegate.getKey(obj);
+  }
+
+  @Override
+  public V put(String key, V obj) {
+    if (obj != null) {
+      deduplicate(obj, delegate.get(key));
+    }
+    return delegate.put(key, obj);
+  }
+
+  @Override
+  public V remove(String key) {
+    return delegate.remove(key);
+  }
+
+  @Override
+  public Stream<String> keySet() {
+    return delegate.keySet();
+  }
+
+  @Override
+  public Stream<V> values() {
+    return delegate.values();
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public V get(String key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean isFullState() {
+    return delegate.isFullState();
+  }
+
+}
@@ -34,7 +34,7 @@ import java.util.stream.Stream;
  * The implementation should be safe with respect to concurrency. Modifications from the informer
  * will be single threaded, but not necessarily the same thread. Reads may be concurrent with writes.
  * <p>
- * See an example implementations {@link BasicItemStore} and {@link ReducedStateItemStore}
+ * See an example implementations {@link BasicItemStore}, {@link ReducedStateItemStore} and {@link CompactItemStore}
  *
  * @param <V>
  */
@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+
+import java.net.URI;
+
+/**
+ * A vendor neutral hook for recording client metrics.
+ * <p>
+ * A single instance is used for the whole process. It is discovered with the {@link java.util.ServiceLoader}
+ * the first time {@link #getInstance()} is called, or may be set explicitly with {@link #setInstance(ClientMetrics)}.
+ * When nothing is found {@link #NOOP} is used.
+ * <p>
+ * The methods are called inline on io, informer and watch threads, so implementations should be fast,
+ * thread safe, and should not throw. Arguments are either primitives or objects the client already holds, so
+ * recording does not allocate on behalf of the implementation.
+ * <p>
+ * The resource arguments of the watch and informer methods are the api endpoint path, for example
+ * {@code v1/namespaces/default/pods}.
+ */
+public interface ClientMetrics {
+
+  ClientMetrics NOOP = new ClientMetrics() {
+  };
+
+  /**
+   * @return the process wide instance, never null
+   */
+  static ClientMetrics getInstance() {
+    return ClientMetricsRegistry.getInstance();
+  }
+
+  /**
+   * Replace the process wide instance.
+   *
+   * @param metrics the new instance, or null to restore {@link #NOOP}
+   */
+  static void setInstance(ClientMetrics metrics) {
+    ClientMetricsRegistry.setInstance(metrics);
+  }
+
+  /**
+   * Called when a single attempt of a non-WebSocket request is about to be sent. Each call is followed by either
+   * {@link #requestCompleted(HttpRequest, int, long)} or {@link #requestFailed(HttpRequest, Throwable, long)}.
+   *
+   * @param request the request, {@link HttpRequest#method()} and {@link HttpRequest#uri()} identify the verb and resource
+   */
+  default void requestStarted(HttpRequest request) {
+  }
+
+  /**
+   * Called when the response headers for an attempt are received.
+   *
+   * @param request the request
+   * @param code the response code
+   * @param durationNanos the time since the attempt was sent
+   */
+  default void requestCompleted(HttpRequest request, int code, long durationNanos) {
+  }
+
+  /**
+   * Called when an attempt fails without a response.
+   *
+   * @param request the request
+   * @param cause the failure
+   * @param durationNanos the time since the attempt was sent
+   */
+  default void requestFailed(HttpRequest request, Throwable cause, long durationNanos) {
+  }
+
+  /**
+   * Called when a request, or a WebSocket upgrade, is scheduled for a retry.
+   *
+   * @param uri the request uri
+   * @param code the response code that caused the retry, or 0 if there was no response
+   */
+  default void requestRetried(URI uri, int code) {
+  }
+
+  /**
+   * Called when a watch schedules a reconnect.
+   *
+   * @param resource the watched endpoint
+   * @param delayMillis the delay before the reconnect
+   */
+  default void watchReconnecting(String resource, long delayMillis) {
+  }
+
+  /**
+   * Called for each event received by a watch, including bookmarks and errors.
+   *
+   * @param resource the watched endpoint
+   * @param action the event type
+   */
+  default void watchEventReceived(String resource, Watcher.Action action) {
+  }
+
+  /**
+   * Called when a watch receives a bookmark, after {@link #watchEventReceived(String, Watcher.Action)}. The
+   * api server sends bookmarks periodically, so a lag well above that period means the watch is falling behind.
+   *
+   * @param resource the watched endpoint
+   * @param lagMillis the time since the previous bookmark of the same watch request, or since the request was
+   *        started for its first bookmark
+   */
+  default void watchBookmarkReceived(String resource, long lagMillis) {
+  }
+
+  /**
+   * Called when an informer has completed the list of a list and watch cycle.
+   *
+   * @param resource the informer endpoint
+   * @param items the number of items listed, which is the size of the cache
+   * @param durationNanos the time taken to list
+   */
+  default void informerListCompleted(String resource, int items, long durationNanos) {
+  }
+
+  /**
+   * Called when an informer has established its watch.
+   *
+   * @param resource the informer endpoint
+   */
+  default void informerWatchStarted(String resource) {
+  }
+
+  /**
+   * Called when an informer notification has been added to the queue of a handler.
+   *
+   * @param resource the informer endpoint
+   * @param queueDepth the number of notifications pending for that handler
+   */
+  default void informerEventQueued(String resource, int queueDepth) {
+  }
+
+  /**
+   * Called when an informer notification is discarded for a handler - because its queue is full with the
+   * {@link io.fabric8.kubernetes.client.informers.EventQueueOptions.OverflowPolicy#DROP} policy, or because
+   * the informer thread was interrupted while waiting for room in the queue.
+   *
+   * @param resource the informer endpoint
+   * @param droppedCount the total number of notifications dropped for that handler
+   */
+  default void informerEventDropped(String resource, long droppedCount) {
+  }
+
+  /**
+   * Called when an informer notification has been distributed to all handlers.
+   *
+   * @param resource the informer endpoint
+   * @param handlers the number of handlers notified
+   * @param durationNanos the time taken to queue the notification, which includes any time blocked on a full queue
+   */
+  default void informerEventDistributed(String resource, int handlers, long durationNanos) {
+  }
+
+  /**
+   * Called when a handler has finished processing an informer notification.
+   *
+   * @param resource the informer endpoint
+   * @param durationNanos the time taken by the handler
+   */
+  default void informerHandlerCompleted(String resource, long durationNanos) {
+  }
+
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the process wide {@link ClientMetrics}
+ */
+final class ClientMetricsRegistry {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClientMetricsRegistry.class);
+
+  private static volatile ClientMetrics instance;
+
+  private ClientMetricsRegistry() {
+  }
+
+  static ClientMetrics getInstance() {
+    ClientMetrics result = instance;
+    if (result == null) {
+      synchronized (ClientMetricsRegistry.class) {
+        result = instance;
+        if (result == null) {
+          result = load();
+          instance = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  static void setInstance(ClientMetrics metrics) {
+    instance = metrics == null ? ClientMetrics.NOOP : metrics;
+  }
+
+  private static ClientMetrics load() {
+    List<ClientMetrics> found = new ArrayList<>();
+    ServiceLoader.load(ClientMetrics.class, Thread.currentThread().getContextClassLoader()).forEach(found::add);
+    if (found.isEmpty()) {
+      ServiceLoader.load(ClientMetrics.class, ClientMetricsRegistry.class.getClassLoader()).forEach(found::add);
+    }
+    if (found.isEmpty()) {
+      return ClientMetrics.NOOP;
+    }
+    ClientMetrics metrics = found.get(0);
+    if (found.size() > 1) {
+      LOGGER.warn("Multiple ClientMetrics implementations were detected on your classpath: {}, using {}",
+          found.stream().map(m -> m.getClass().getName()).toArray(), metrics.getClass().getName());
+    } else {
+      LOGGER.debug("Using ClientMetrics {}", metrics.getClass().getName());
+    }
+    return metrics;
+  }
+
+}
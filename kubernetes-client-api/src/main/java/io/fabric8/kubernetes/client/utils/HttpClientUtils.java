@@ -21,6 +21,7 @@ import io.fabric8.kubernetes.client.http.BasicBuilder;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.Interceptor;
+import io.fabric8.kubernetes.client.http.RateLimitingInterceptor;
 import io.fabric8.kubernetes.client.internal.SSLUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -116,6 +117,11 @@ public class HttpClientUtils {
     if (!Boolean.parseBoolean(shouldDisableBackwardsCompatibilityInterceptor)) {
       interceptors.put(BackwardsCompatibilityInterceptor.NAME, new BackwardsCompatibilityInterceptor());
     }
+    // Rate Limiting Interceptor
+    if (config.getRequestsPerSecond() > 0) {
+      interceptors.put(RateLimitingInterceptor.NAME,
+          new RateLimitingInterceptor(config.getRequestsPerSecond(), config.getRequestBurst()));
+    }
 
     return interceptors;
   }
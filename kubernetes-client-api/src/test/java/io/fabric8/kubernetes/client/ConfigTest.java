@@ -105,6 +105,11 @@ public class ConfigTest {
     System.getProperties().remove(Config.KUBERNETES_MAX_CONCURRENT_REQUESTS_PER_HOST);
     System.getProperties().remove(Config.KUBERNETES_WATCH_RECONNECT_INTERVAL_SYSTEM_PROPERTY);
     System.getProperties().remove(Config.KUBERNETES_WATCH_RECONNECT_LIMIT_SYSTEM_PROPERTY);
+    System.getProperties().remove(Config.KUBERNETES_WATCH_TRANSPORT_SYSTEM_PROPERTY);
+    System.getProperties().remove(Config.KUBERNETES_DISCOVERY_CACHE_TTL_SYSTEM_PROPERTY);
+    System.getProperties().remove(Config.KUBERNETES_DISCOVERY_CACHE_DIR_SYSTEM_PROPERTY);
+    System.getProperties().remove(Config.KUBERNETES_REQUESTS_PER_SECOND_SYSTEM_PROPERTY);
+    System.getProperties().remove(Config.KUBERNETES_REQUEST_BURST_SYSTEM_PROPERTY);
     System.getProperties().remove(Config.KUBERNETES_REQUEST_TIMEOUT_SYSTEM_PROPERTY);
     System.getProperties().remove(Config.KUBERNETES_HTTP_PROXY);
     System.getProperties().remove(Config.KUBERNETES_KUBECONFIG_FILE);
@@ -167,6 +172,46 @@ public class ConfigTest {
     assertConfig(config);
   }
 
+  @Test
+  void testWatchTransport() {
+    System.setProperty(Config.KUBERNETES_WATCH_TRANSPORT_SYSTEM_PROPERTY, "http");
+
+    Config config = new ConfigBuilder().build();
+    assertEquals(WatchTransport.HTTP, config.getWatchTransport());
+    assertEquals(WatchTransport.HTTP, config.getRequestConfig().getWatchTransport());
+
+    config = new ConfigBuilder(config).withWatchTransport(WatchTransport.AUTO).build();
+    assertEquals(WatchTransport.AUTO, new RequestConfigBuilder(config.getRequestConfig()).build().getWatchTransport());
+  }
+
+  @Test
+  void testDiscoveryCache() {
+    System.setProperty(Config.KUBERNETES_DISCOVERY_CACHE_TTL_SYSTEM_PROPERTY, "60000");
+    System.setProperty(Config.KUBERNETES_DISCOVERY_CACHE_DIR_SYSTEM_PROPERTY, "/tmp/discovery");
+
+    Config config = new ConfigBuilder().build();
+    assertEquals(60000L, config.getDiscoveryCacheTtl());
+    assertEquals("/tmp/discovery", config.getDiscoveryCacheDir());
+
+    config = new ConfigBuilder(config).withDiscoveryCacheTtl(0).build();
+    assertEquals(0L, config.getDiscoveryCacheTtl());
+    assertEquals("/tmp/discovery", config.getDiscoveryCacheDir());
+  }
+
+  @Test
+  void testRequestRateLimit() {
+    System.setProperty(Config.KUBERNETES_REQUESTS_PER_SECOND_SYSTEM_PROPERTY, "20");
+    System.setProperty(Config.KUBERNETES_REQUEST_BURST_SYSTEM_PROPERTY, "40");
+
+    Config config = new ConfigBuilder().build();
+    assertEquals(20, config.getRequestsPerSecond());
+    assertEquals(40, config.getRequestBurst());
+
+    config = new ConfigBuilder(config).withRequestsPerSecond(5).build();
+    assertEquals(5, config.getRequestsPerSecond());
+    assertEquals(40, config.getRequestBurst());
+  }
+
   @Test
   void testWithBuilder() {
     Config config = new ConfigBuilder()
@@ -590,6 +635,11 @@ public class ConfigTest {
     assertEquals("changeit", emptyConfig.getClientKeyPassphrase());
     assertEquals(1000, emptyConfig.getWatchReconnectInterval());
     assertEquals(-1, emptyConfig.getWatchReconnectLimit());
+    assertEquals(WatchTransport.WEBSOCKET, emptyConfig.getWatchTransport());
+    assertEquals(0L, emptyConfig.getDiscoveryCacheTtl());
+    assertNull(emptyConfig.getDiscoveryCacheDir());
+    assertEquals(0, emptyConfig.getRequestsPerSecond());
+    assertEquals(0, emptyConfig.getRequestBurst());
     assertEquals(10000, emptyConfig.getConnectionTimeout());
     assertEquals(10000, emptyConfig.getRequestTimeout());
     assertEquals(600000, emptyConfig.getScaleTimeout());
@@ -21,8 +21,11 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -96,4 +99,38 @@ public abstract class AbstractAsyncBodyTest {
     }
   }
 
+  @Test
+  @DisplayName("Bytes are processed in full when each buffer is released")
+  public void consumeBytesReleasingBuffers() throws Exception {
+    final String body = String.join("", Collections.nCopies(100_000, "0123456789"));
+    try (final HttpClient client = getHttpClientFactory().newBuilder().build()) {
+      server.expect().withPath("/consume-bytes-released")
+          .andReturn(200, body)
+          .always();
+      final StringBuffer responseText = new StringBuffer();
+      final HttpResponse<AsyncBody> asyncBodyResponse = client.consumeBytes(
+          client.newHttpRequestBuilder().uri(server.url("/consume-bytes-released")).build(),
+          new AsyncBody.Consumer<List<ByteBuffer>>() {
+            @Override
+            public void consume(List<ByteBuffer> value, AsyncBody asyncBody) {
+              for (ByteBuffer buffer : value) {
+                responseText.append(StandardCharsets.UTF_8.decode(buffer));
+                asyncBody.release(buffer);
+              }
+              asyncBody.consume();
+            }
+
+            @Override
+            public boolean releasesBuffers() {
+              return true;
+            }
+          })
+          .get(10L, TimeUnit.SECONDS);
+      asyncBodyResponse.body().consume();
+      asyncBodyResponse.body().done().get(10L, TimeUnit.SECONDS);
+      assertThat(responseText.length()).isEqualTo(body.length());
+      assertThat(responseText.toString()).isEqualTo(body);
+    }
+  }
+
 }
@@ -85,4 +85,37 @@ public abstract class AbstractWebSocketSendTest {
     }
   }
 
+  @Test
+  @DisplayName("sendGathering, emits the buffers as a single message to the server")
+  void sendGatheringEmitsSingleMessageToWebSocketServer() throws Exception {
+    try (final HttpClient client = getHttpClientFactory().newBuilder().build()) {
+      // Given
+      server.expect().withPath("/send-gathering")
+          .andUpgradeToWebSocket()
+          .open()
+          .expect("GiveMeSomething")
+          .andEmit("received")
+          .always()
+          .done()
+          .always();
+      final BlockingQueue<String> receivedText = new ArrayBlockingQueue<>(1);
+      final WebSocket ws = client.newWebSocketBuilder()
+          .uri(URI.create(server.url("send-gathering")))
+          .buildAsync(new WebSocket.Listener() {
+            @Override
+            public void onMessage(WebSocket webSocket, String text) {
+              assertTrue(receivedText.offer(text));
+            }
+          }).get(10L, TimeUnit.SECONDS);
+      // When
+      assertTrue(ws.sendGathering(ByteBuffer.wrap("GiveMe".getBytes(StandardCharsets.UTF_8)),
+          ByteBuffer.wrap("Something".getBytes(StandardCharsets.UTF_8))));
+      final String result = receivedText.poll(10L, TimeUnit.SECONDS);
+      // Then
+      assertThat(result).isEqualTo("received");
+      ws.whenQueueSizeAtMost(0).get(10L, TimeUnit.SECONDS);
+      assertThat(ws.queueSize()).isZero();
+    }
+  }
+
 }
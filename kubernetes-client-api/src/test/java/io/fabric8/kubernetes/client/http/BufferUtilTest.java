@@ -126,4 +126,19 @@ class BufferUtilTest {
   void copyWithNullReturnsNull() {
     assertThat(BufferUtil.copy(null)).isNull();
   }
+
+  @Test
+  void concatReturnsInstanceWithContentOfAllBuffers() {
+    final ByteBuffer first = ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8));
+    first.position(1);
+    final ByteBuffer second = ByteBuffer.wrap(" world".getBytes(StandardCharsets.UTF_8));
+    final ByteBuffer result = BufferUtil.concat(first, second);
+    assertThat(result)
+        .extracting(BufferUtil::toArray)
+        .asInstanceOf(InstanceOfAssertFactories.BYTE_ARRAY)
+        .asString(StandardCharsets.UTF_8)
+        .isEqualTo("ello world");
+    assertThat(first.position()).isEqualTo(1);
+    assertThat(second.position()).isZero();
+  }
 }
@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ByteArrayBodyHandlerTest {
+
+  @Test
+  void testSingleAndMultipleBuffers() throws Exception {
+    byte[] whole = "{}".getBytes(StandardCharsets.UTF_8);
+    ByteArrayBodyHandler single = new ByteArrayBodyHandler();
+    single.consume(Arrays.asList(ByteBuffer.wrap(whole)), new TestAsyncBody());
+    single.onResponse(new TestHttpResponse<AsyncBody>().withBody(new TestAsyncBody()));
+
+    ByteArrayBodyHandler multiple = new ByteArrayBodyHandler();
+    multiple.consume(Arrays.asList(ByteBuffer.wrap(whole), ByteBuffer.wrap("xyz".getBytes(StandardCharsets.UTF_8), 1, 2)),
+        new TestAsyncBody());
+    multiple.onResponse(new TestHttpResponse<AsyncBody>().withBody(new TestAsyncBody()));
+
+    // a buffer spanning its whole array is not copied again
+    assertSame(whole, single.getResult().get());
+    assertArrayEquals("{}yz".getBytes(StandardCharsets.UTF_8), multiple.getResult().get());
+  }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpClientReadableByteChannelTest {
+
+  @Test
+  void testReadAcrossBuffers() throws Exception {
+    HttpClientReadableByteChannel channel = new HttpClientReadableByteChannel();
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    TestAsyncBody body = new TestAsyncBody(done);
+    channel.consume(Arrays.asList(ByteBuffer.wrap("hello ".getBytes(StandardCharsets.UTF_8)),
+        ByteBuffer.wrap("world".getBytes(StandardCharsets.UTF_8))), body);
+    channel.onResponse(new TestHttpResponse<AsyncBody>().withBody(body));
+    done.complete(null);
+
+    ByteBuffer target = ByteBuffer.allocate(4);
+    StringBuilder result = new StringBuilder();
+    int read;
+    while ((read = channel.read(target)) != -1) {
+      target.flip();
+      result.append(StandardCharsets.UTF_8.decode(target));
+      target.clear();
+      assertTrue(read <= 4);
+    }
+
+    assertEquals("hello world", result.toString());
+  }
+
+  @Test
+  void testBuffersReleasedOnceRead() throws Exception {
+    HttpClientReadableByteChannel channel = new HttpClientReadableByteChannel();
+    List<ByteBuffer> released = new CopyOnWriteArrayList<>();
+    TestAsyncBody body = new TestAsyncBody(new CompletableFuture<>()) {
+      @Override
+      public void release(ByteBuffer buffer) {
+        released.add(buffer);
+      }
+    };
+    ByteBuffer hello = ByteBuffer.wrap("hello ".getBytes(StandardCharsets.UTF_8));
+    ByteBuffer world = ByteBuffer.wrap("world".getBytes(StandardCharsets.UTF_8));
+    channel.onResponse(new TestHttpResponse<AsyncBody>().withBody(body));
+    channel.consume(Arrays.asList(hello, world), body);
+
+    assertTrue(channel.releasesBuffers());
+    ByteBuffer target = ByteBuffer.allocate(4);
+    assertEquals(4, channel.read(target));
+    assertThat(released).isEmpty();
+
+    target.clear();
+    assertEquals(4, channel.read(target));
+    assertThat(released).containsExactly(hello);
+
+    target = ByteBuffer.allocate(16);
+    assertEquals(3, channel.read(target));
+    assertThat(released).containsExactly(hello, world);
+  }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitingInterceptorTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private static HttpRequest request(String uri) {
+    return new StandardHttpRequest.Builder().uri(uri).build();
+  }
+
+  @Test
+  void testTokenBucket() {
+    RateLimitingInterceptor limiter = new RateLimitingInterceptor(2, 2);
+    long now = System.nanoTime();
+
+    // the burst is available immediately
+    assertEquals(0, limiter.reserve(now));
+    assertEquals(0, limiter.reserve(now));
+    // then requests are spread at the rate
+    assertEquals(SECOND / 2, limiter.reserve(now));
+    assertEquals(SECOND, limiter.reserve(now));
+    // and the bucket refills over time
+    assertEquals(0, limiter.reserve(now + 3 * SECOND));
+  }
+
+  @Test
+  void testBurstDefaultsToRate() {
+    RateLimitingInterceptor limiter = new RateLimitingInterceptor(3, 0);
+    long now = System.nanoTime();
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(0, limiter.reserve(now));
+    }
+    assertTrue(limiter.reserve(now) > 0);
+    assertThrows(IllegalArgumentException.class, () -> new RateLimitingInterceptor(0, 1));
+  }
+
+  @Test
+  void testThrottlingPausesLimitedRequests() {
+    RateLimitingInterceptor limiter = new RateLimitingInterceptor(100, 100);
+    HttpRequest request = request("https://localhost/api/v1/pods");
+
+    limiter.after(request, new TestHttpResponse<>(
+        Collections.singletonMap("Retry-After", Collections.singletonList("2"))).withCode(429), null);
+
+    assertTrue(limiter.reserve(System.nanoTime()) > SECOND);
+    assertTrue(limiter.beforeSend(request("https://localhost/api/v1/pods?watch=true")).isDone());
+    assertFalse(limiter.beforeSend(request).isDone());
+  }
+
+  @Test
+  void testExemptRequests() {
+    assertTrue(RateLimitingInterceptor.isExempt(request("https://localhost/api/v1/pods?watch=true")));
+    assertTrue(RateLimitingInterceptor.isExempt(
+        request("https://localhost/api/v1/pods?labelSelector=a&watch=true&resourceVersion=1")));
+    assertTrue(RateLimitingInterceptor.isExempt(
+        request("https://localhost/apis/coordination.k8s.io/v1/namespaces/ns/leases/leader")));
+    assertFalse(RateLimitingInterceptor.isExempt(request("https://localhost/api/v1/pods?watch=false")));
+    assertFalse(RateLimitingInterceptor.isExempt(request("https://localhost/apis/apps/v1/deployments")));
+  }
+
+  @Test
+  void testRetryAfter() {
+    assertEquals(3000, RateLimitingInterceptor.retryAfterMillis(
+        new TestHttpResponse<>(Collections.singletonMap("Retry-After", Collections.singletonList("3")))));
+    assertEquals(0, RateLimitingInterceptor.retryAfterMillis(new TestHttpResponse<>(
+        Collections.singletonMap("Retry-After", Collections.singletonList("Wed, 21 Oct 2015 07:28:00 GMT")))));
+    assertEquals(0, RateLimitingInterceptor.retryAfterMillis(new TestHttpResponse<>()));
+  }
+}
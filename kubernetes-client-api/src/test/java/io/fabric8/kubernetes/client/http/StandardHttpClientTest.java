@@ -17,6 +17,7 @@ package io.fabric8.kubernetes.client.http;
 
 import io.fabric8.kubernetes.client.RequestConfigBuilder;
 import io.fabric8.kubernetes.client.http.WebSocket.Listener;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,9 +26,13 @@ import org.mockito.Mockito;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -212,6 +217,103 @@ class StandardHttpClientTest {
         .hasSize(2);
   }
 
+  @Test
+  void testThrottledRetryAfter() throws Exception {
+    client = client.newBuilder().tag(new RequestConfigBuilder()
+        .withRequestRetryBackoffLimit(1)
+        .withRequestRetryBackoffInterval(50).build())
+        .build();
+    client.expect(".*", new TestHttpResponse<AsyncBody>(
+        Collections.singletonMap("Retry-After", Collections.singletonList("0"))).withCode(429).withBody(new TestAsyncBody()));
+    client.expect(".*", new TestHttpResponse<AsyncBody>().withCode(200));
+
+    CompletableFuture<HttpResponse<AsyncBody>> consumeFuture = client.consumeBytes(
+        client.newHttpRequestBuilder().uri("http://localhost").build(),
+        (value, asyncBody) -> {
+        });
+
+    assertEquals(200, consumeFuture.get(2, TimeUnit.MINUTES).code());
+    assertThat(client.getRecordedConsumeBytesDirects())
+        .hasSize(2);
+  }
+
+  @Test
+  void testTooManyRequestsWithoutRetryAfter() throws Exception {
+    client = client.newBuilder().tag(new RequestConfigBuilder()
+        .withRequestRetryBackoffLimit(1)
+        .withRequestRetryBackoffInterval(50).build())
+        .build();
+    client.expect(".*", new TestHttpResponse<AsyncBody>().withCode(429).withBody(new TestAsyncBody()));
+
+    CompletableFuture<HttpResponse<AsyncBody>> consumeFuture = client.consumeBytes(
+        client.newHttpRequestBuilder().uri("http://localhost").build(),
+        (value, asyncBody) -> {
+        });
+
+    assertEquals(429, consumeFuture.get(2, TimeUnit.MINUTES).code());
+    assertThat(client.getRecordedConsumeBytesDirects())
+        .hasSize(1);
+  }
+
+  @Test
+  void testCodeExtractorOverloadRetriesServerErrorsOnly() throws Exception {
+    client = client.newBuilder().tag(new RequestConfigBuilder()
+        .withRequestRetryBackoffLimit(3)
+        .withRequestRetryBackoffInterval(50).build())
+        .build();
+    AtomicInteger attempts = new AtomicInteger();
+    HttpResponse<AsyncBody> throttled = new TestHttpResponse<AsyncBody>(
+        Collections.singletonMap("Retry-After", Collections.singletonList("0"))).withCode(429);
+    CompletableFuture<HttpResponse<AsyncBody>> result = new CompletableFuture<>();
+
+    // the overload used by subclasses before Retry-After was supported
+    client.retryWithExponentialBackoff(result, () -> CompletableFuture.completedFuture(
+        attempts.getAndIncrement() == 0 ? new TestHttpResponse<AsyncBody>().withCode(500) : throttled),
+        URI.create("http://localhost"), HttpResponse::code, r -> {
+        }, null);
+
+    assertEquals(429, result.get(2, TimeUnit.MINUTES).code());
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void testMetricsRecordedForEachAttempt() throws Exception {
+    List<Integer> completed = new CopyOnWriteArrayList<>();
+    List<Integer> retried = new CopyOnWriteArrayList<>();
+    ClientMetrics.setInstance(new ClientMetrics() {
+      @Override
+      public void requestCompleted(HttpRequest request, int code, long durationNanos) {
+        completed.add(code);
+      }
+
+      @Override
+      public void requestRetried(URI uri, int code) {
+        retried.add(code);
+      }
+    });
+    try {
+      client = client.newBuilder().tag(new RequestConfigBuilder()
+          .withRequestRetryBackoffLimit(3)
+          .withRequestRetryBackoffInterval(50).build())
+          .build();
+      client.expect(".*", new TestHttpResponse<AsyncBody>().withCode(500).withBody(new TestAsyncBody()));
+      client.expect(".*", new TestHttpResponse<AsyncBody>().withCode(200));
+
+      CompletableFuture<HttpResponse<AsyncBody>> consumeFuture = client.consumeBytes(
+          client.newHttpRequestBuilder().uri("http://localhost").build(),
+          (value, asyncBody) -> {
+          });
+
+      assertEquals(200, consumeFuture.get(2, TimeUnit.MINUTES).code());
+      // the metrics callbacks are not ordered with respect to the result future
+      Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> completed.size() == 2);
+      assertThat(completed).containsExactly(500, 200);
+      assertThat(retried).containsExactly(500);
+    } finally {
+      ClientMetrics.setInstance(null);
+    }
+  }
+
   @Test
   void testRequestTimeout() {
     client.expect(".*", new CompletableFuture<>());
@@ -16,6 +16,8 @@
 package io.fabric8.kubernetes.client.http;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -30,6 +32,14 @@ public class TestHttpResponse<T> extends StandardHttpHeaders implements HttpResp
   private HttpRequest request;
   private HttpResponse<T> previousResponse;
 
+  public TestHttpResponse() {
+    super();
+  }
+
+  public TestHttpResponse(Map<String, List<String>> headers) {
+    super(headers);
+  }
+
   @Override
   public int code() {
     return code;
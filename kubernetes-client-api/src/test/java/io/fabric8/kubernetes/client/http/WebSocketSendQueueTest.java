@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketSendQueueTest {
+
+  @Test
+  void whenSizeAtMostCompletesImmediatelyIfDrained() {
+    WebSocketSendQueue queue = new WebSocketSendQueue();
+    queue.add(10);
+
+    assertThat(queue.whenSizeAtMost(10)).isDone();
+  }
+
+  @Test
+  void whenSizeAtMostCompletesAsSendsComplete() {
+    WebSocketSendQueue queue = new WebSocketSendQueue();
+    queue.add(10);
+    queue.add(10);
+
+    CompletableFuture<Void> halfDrained = queue.whenSizeAtMost(10);
+    CompletableFuture<Void> drained = queue.whenSizeAtMost(0);
+    assertThat(halfDrained).isNotDone();
+
+    queue.remove(10);
+    assertThat(halfDrained).isDone();
+    assertThat(drained).isNotDone();
+
+    queue.remove(10);
+    assertThat(drained).isDone();
+    assertThat(queue.size()).isZero();
+  }
+
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkQueueTest {
+
+  @SuppressWarnings("unchecked")
+  private final SharedIndexInformer<Pod> informer = Mockito.mock(SharedIndexInformer.class);
+  @SuppressWarnings("unchecked")
+  private final Indexer<Pod> indexer = Mockito.mock(Indexer.class);
+
+  WorkQueueTest() {
+    Mockito.when(informer.getIndexer()).thenReturn(indexer);
+    Mockito.when(indexer.getKey(Mockito.any())).thenAnswer(i -> Cache.metaNamespaceKeyFunc(i.getArgument(0)));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testEventsAreCoalescedAndLookedUp() throws InterruptedException {
+    Pod pod = new PodBuilder().withNewMetadata().withName("foo").withNamespace("default").endMetadata().build();
+    Mockito.when(indexer.getByKey("default/foo")).thenReturn(pod);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(2);
+    List<Pod> reconciled = new CopyOnWriteArrayList<>();
+
+    try (WorkQueue<Pod> queue = new WorkQueue<Pod>(informer, (key, obj) -> {
+      started.countDown();
+      release.await();
+      reconciled.add(obj);
+      done.countDown();
+    }).withWorkers(2).start()) {
+      ArgumentCaptor<ResourceEventHandler<Pod>> handler = ArgumentCaptor.forClass(ResourceEventHandler.class);
+      Mockito.verify(informer).addEventHandler(handler.capture());
+
+      handler.getValue().onAdd(pod);
+      assertTrue(started.await(10, TimeUnit.SECONDS));
+      // while processing, further events result in a single additional pass
+      for (int i = 0; i < 5; i++) {
+        handler.getValue().onUpdate(pod, pod);
+      }
+      assertEquals(1, queue.size());
+      release.countDown();
+
+      assertTrue(done.await(10, TimeUnit.SECONDS));
+      // nothing is pending after the second pass, so there will not be a third
+      assertEquals(2, reconciled.size());
+      assertSame(pod, reconciled.get(0));
+      assertEquals(0, queue.size());
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testKeysAreFromTheIndexer() throws InterruptedException {
+    Pod pod = new PodBuilder().withNewMetadata().withName("foo").withNamespace("default").endMetadata().build();
+    Mockito.when(indexer.getKey(pod)).thenReturn("custom-key");
+    Mockito.when(indexer.getByKey("custom-key")).thenReturn(pod);
+    CountDownLatch done = new CountDownLatch(1);
+    List<String> keys = new CopyOnWriteArrayList<>();
+
+    try (WorkQueue<Pod> queue = new WorkQueue<Pod>(informer, (key, obj) -> {
+      assertSame(pod, obj);
+      keys.add(key);
+      done.countDown();
+    }).start()) {
+      ArgumentCaptor<ResourceEventHandler<Pod>> handler = ArgumentCaptor.forClass(ResourceEventHandler.class);
+      Mockito.verify(informer).addEventHandler(handler.capture());
+
+      handler.getValue().onAdd(pod);
+
+      assertTrue(done.await(10, TimeUnit.SECONDS));
+      assertEquals("custom-key", keys.get(0));
+    }
+  }
+
+  @Test
+  void testFailuresAreRetriedWithBackoff() throws InterruptedException {
+    AtomicInteger attempts = new AtomicInteger();
+    CountDownLatch succeeded = new CountDownLatch(1);
+
+    try (WorkQueue<Pod> queue = new WorkQueue<Pod>(informer, (key, obj) -> {
+      if (attempts.incrementAndGet() < 3) {
+        throw new IllegalStateException("not yet");
+      }
+      succeeded.countDown();
+    }).withBackoff(Duration.ofMillis(10), Duration.ofMillis(50)).start()) {
+      queue.add("default/foo");
+
+      assertTrue(succeeded.await(10, TimeUnit.SECONDS));
+      assertEquals(3, attempts.get());
+      await().atMost(10, TimeUnit.SECONDS).until(() -> queue.getFailures("default/foo") == 0);
+    }
+  }
+
+}
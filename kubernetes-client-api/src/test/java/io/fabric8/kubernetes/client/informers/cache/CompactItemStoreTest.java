@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactItemStoreTest {
+
+  @ParameterizedTest
+  @ValueSource(booleans = { false, true })
+  void testStoreRestore(boolean offHeap) {
+    CompactItemStore<Pod> store = new CompactItemStore<>(Cache::metaNamespaceKeyFunc, Pod.class, Serialization.jsonMapper(),
+        1, offHeap);
+
+    Pod pod1 = pod("a", "1");
+    Pod pod2 = pod("b", "1");
+    String key1 = store.getKey(pod1);
+    String key2 = store.getKey(pod2);
+
+    assertNull(store.put(key1, pod1));
+    assertNull(store.put(key2, pod2));
+    assertEquals(2, store.size());
+    assertTrue(store.getSerializedSize() > 0);
+
+    // pod1 is no longer in the decoded cache
+    Pod restored = store.get(key1);
+    assertNotSame(pod1, restored);
+    assertEquals(pod1, restored);
+
+    Pod pod1Updated = pod("a", "2");
+    assertEquals(pod1, store.put(key1, pod1Updated));
+    assertEquals(pod1Updated, store.get(key1));
+    assertEquals(pod2, store.get(key2));
+
+    assertEquals("1,2", store.values().map(p -> p.getMetadata().getResourceVersion()).sorted()
+        .collect(Collectors.joining(",")));
+    assertEquals(pod2, store.remove(key2));
+    assertNull(store.get(key2));
+    assertEquals(1, store.keySet().count());
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace("default").withResourceVersion(resourceVersion)
+        .addToLabels("app", name).endMetadata().withNewSpec().addNewContainer().withName("c").withImage("image")
+        .endContainer().endSpec().build();
+  }
+
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeduplicatingItemStoreTest {
+
+  @Test
+  void testStringsAndLabelsAreShared() {
+    DeduplicatingItemStore<Pod> store = new DeduplicatingItemStore<>(new BasicItemStore<>(Cache::metaNamespaceKeyFunc));
+
+    Pod pod1 = pod("a", "1");
+    Pod pod2 = pod("b", "1");
+    store.put(store.getKey(pod1), pod1);
+    store.put(store.getKey(pod2), pod2);
+
+    assertSame(pod1.getMetadata().getNamespace(), pod2.getMetadata().getNamespace());
+    assertSame(pod1.getSpec().getContainers().get(0).getImage(), pod2.getSpec().getContainers().get(0).getImage());
+    String label1 = pod1.getMetadata().getLabels().keySet().iterator().next();
+    String label2 = pod2.getMetadata().getLabels().keySet().iterator().next();
+    assertSame(label1, label2);
+    long saved = store.getBytesSaved();
+    assertTrue(saved > 0);
+
+    // an update with the same labels shares the map with the previous version
+    Pod pod1Updated = pod("a", "2");
+    assertEquals(pod1, store.put(store.getKey(pod1Updated), pod1Updated));
+    assertSame(pod1.getMetadata().getLabels(), pod1Updated.getMetadata().getLabels());
+    assertTrue(store.getBytesSaved() > saved);
+    assertEquals(2, store.size());
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    // new String instances, as they would be from deserialization
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace(new String("default"))
+        .withResourceVersion(resourceVersion).addToLabels(new String("app"), new String("web")).endMetadata()
+        .withNewSpec().addNewContainer().withName(new String("c")).withImage(new String("nginx:latest")).endContainer()
+        .endSpec().build();
+  }
+
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CacheImpl#byIndex(String, String)} throughput with 1, 8 and 32 reader threads
+ * while a single writer keeps updating the cache, as the informer watch does.
+ * <p>
+ * The {@code synchronized} mode takes the cache lock around every read, which is how the reads were
+ * performed before they were made lock-free, and serves as the baseline.
+ */
+@State(Scope.Group)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Fork(2)
+public class CacheImplBenchmark {
+
+  private static final int NAMESPACES = 100;
+  private static final int PODS = 10_000;
+
+  @Param({ "concurrent", "synchronized" })
+  public String mode;
+
+  private CacheImpl<Pod> cache;
+  private Pod[] pods;
+  private boolean lockReads;
+
+  @Setup
+  public void setup() {
+    cache = new CacheImpl<>();
+    lockReads = "synchronized".equals(mode);
+    pods = new Pod[PODS];
+    for (int i = 0; i < PODS; i++) {
+      pods[i] = new PodBuilder().withNewMetadata()
+          .withNamespace("namespace-" + (i % NAMESPACES))
+          .withName("pod-" + i)
+          .withResourceVersion("1")
+          .endMetadata()
+          .build();
+      cache.put(pods[i]);
+    }
+  }
+
+  private List<Pod> read() {
+    String namespace = "namespace-" + ThreadLocalRandom.current().nextInt(NAMESPACES);
+    if (lockReads) {
+      synchronized (cache.getLockObject()) {
+        return cache.byIndex(Cache.NAMESPACE_INDEX, namespace);
+      }
+    }
+    return cache.byIndex(Cache.NAMESPACE_INDEX, namespace);
+  }
+
+  private Pod write() {
+    return cache.put(pods[ThreadLocalRandom.current().nextInt(PODS)]);
+  }
+
+  @Benchmark
+  @Group("readers1")
+  @GroupThreads(1)
+  public List<Pod> readers1Read() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readers1")
+  @GroupThreads(1)
+  public Pod readers1Write() {
+    return write();
+  }
+
+  @Benchmark
+  @Group("readers8")
+  @GroupThreads(8)
+  public List<Pod> readers8Read() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readers8")
+  @GroupThreads(1)
+  public Pod readers8Write() {
+    return write();
+  }
+
+  @Benchmark
+  @Group("readers32")
+  @GroupThreads(32)
+  public List<Pod> readers32Read() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readers32")
+  @GroupThreads(1)
+  public Pod readers32Write() {
+    return write();
+  }
+
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.internal.KubernetesDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the token buffering {@link KubernetesDeserializer} with the previous approach of reading
+ * each polymorphic resource into a tree before binding it to the resolved type.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Fork(2)
+public class KubernetesDeserializerBenchmark {
+
+  @Param({ "10", "1000" })
+  public int items;
+
+  private String list;
+  private ObjectMapper treeMapper;
+
+  @Setup
+  public void setup() {
+    KubernetesListBuilder builder = new KubernetesListBuilder();
+    for (int i = 0; i < items; i++) {
+      builder.addToItems(new PodBuilder().withNewMetadata()
+          .withName("pod-" + i).withNamespace("namespace").withResourceVersion(String.valueOf(i))
+          .addToLabels("app", "benchmark")
+          .endMetadata()
+          .withNewSpec().withNodeName("node")
+          .addNewContainer().withName("container").withImage("image:latest").endContainer()
+          .endSpec()
+          .build());
+    }
+    list = Serialization.asJson(builder.build());
+    treeMapper = Serialization.jsonMapper().copy().addMixIn(KubernetesResource.class, TreeDeserialized.class);
+  }
+
+  @Benchmark
+  public KubernetesList tokenBuffer() throws IOException {
+    return Serialization.jsonMapper().readValue(list, KubernetesList.class);
+  }
+
+  @Benchmark
+  public KubernetesList tree() throws IOException {
+    return treeMapper.readValue(list, KubernetesList.class);
+  }
+
+  @JsonDeserialize(using = TreeDeserializer.class)
+  interface TreeDeserialized {
+  }
+
+  /**
+   * The previous deserialization approach, limited to the kinds used by this benchmark.
+   */
+  public static class TreeDeserializer extends JsonDeserializer<KubernetesResource> {
+
+    @Override
+    public KubernetesResource deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+      JsonNode node = jp.readValueAsTree();
+      JsonNode kind = node.get("kind");
+      Class<? extends KubernetesResource> type = kind != null && "Pod".equals(kind.textValue()) ? Pod.class
+          : GenericKubernetesResource.class;
+      return jp.getCodec().treeToValue(node, type);
+    }
+
+  }
+
+}
@@ -0,0 +1,273 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.BufferUtil;
+import io.fabric8.kubernetes.client.http.ByteArrayBodyHandler;
+import io.fabric8.kubernetes.client.http.HttpClientReadableByteChannel;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the steps of the response body path with the copies they used to make: collecting the body
+ * into an array with {@link ByteArrayBodyHandler} (against always copying the buffers), reading it through
+ * {@link HttpClientReadableByteChannel} (against copying one byte at a time) and parsing json straight from
+ * the array (against going through a buffered stream).
+ * <p>
+ * Run with {@code -prof gc} to compare the bytes allocated per operation. The byte at a time baseline copies
+ * without the channel's locking, which slightly favours the baseline.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Fork(2)
+public class ResponseBodyBenchmark {
+
+  private static final int READ_BUFFER_SIZE = 8192;
+
+  @Param({ "10", "1000" })
+  public int items;
+
+  /**
+   * The number of buffers the body is delivered in.
+   */
+  @Param({ "1", "16" })
+  public int chunks;
+
+  private byte[] body;
+  private List<ByteBuffer> buffers;
+  private ByteBuffer readBuffer;
+
+  @Setup
+  public void setup() {
+    KubernetesListBuilder builder = new KubernetesListBuilder();
+    for (int i = 0; i < items; i++) {
+      builder.addToItems(new PodBuilder().withNewMetadata()
+          .withName("pod-" + i).withNamespace("namespace").withResourceVersion(String.valueOf(i))
+          .addToLabels("app", "benchmark")
+          .endMetadata()
+          .withNewSpec().withNodeName("node")
+          .addNewContainer().withName("container").withImage("image:latest").endContainer()
+          .endSpec()
+          .build());
+    }
+    body = Serialization.asJson(builder.build()).getBytes(StandardCharsets.UTF_8);
+    buffers = new ArrayList<>();
+    int chunkSize = (body.length + chunks - 1) / chunks;
+    for (int offset = 0; offset < body.length; offset += chunkSize) {
+      buffers.add(ByteBuffer.wrap(body, offset, Math.min(chunkSize, body.length - offset)));
+    }
+    readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+  }
+
+  @Benchmark
+  public byte[] byteArrayHandler() throws Exception {
+    BodyHandler handler = new BodyHandler();
+    handler.consume(delivered(), CompletedBody.INSTANCE);
+    handler.complete();
+    return handler.getResult().get();
+  }
+
+  @Benchmark
+  public byte[] byteArrayCopy() {
+    List<ByteBuffer> received = Collections.synchronizedList(new LinkedList<>(delivered()));
+    synchronized (received) {
+      return BufferUtil.toArray(received);
+    }
+  }
+
+  @Benchmark
+  public long channelBulk() throws Exception {
+    BodyChannel channel = new BodyChannel();
+    channel.consume(delivered(), CompletedBody.INSTANCE);
+    channel.complete();
+    long total = 0;
+    int read;
+    while ((read = channel.read(clearedReadBuffer())) != -1) {
+      total += read;
+    }
+    channel.close();
+    return total;
+  }
+
+  @Benchmark
+  public long channelByteAtATime() {
+    LinkedList<ByteBuffer> received = new LinkedList<>(delivered());
+    ByteBuffer current = null;
+    long total = 0;
+    while (true) {
+      ByteBuffer dst = clearedReadBuffer();
+      int read = 0;
+      while (dst.hasRemaining()) {
+        while (current == null || !current.hasRemaining()) {
+          if (received.isEmpty()) {
+            break;
+          }
+          current = received.poll();
+        }
+        if (current == null || !current.hasRemaining()) {
+          break;
+        }
+        int remaining = Math.min(dst.remaining(), current.remaining());
+        for (int i = 0; i < remaining; i++) {
+          dst.put(current.get());
+        }
+        read += remaining;
+      }
+      if (read == 0) {
+        return total;
+      }
+      total += read;
+    }
+  }
+
+  @Benchmark
+  public KubernetesList unmarshalArray() throws IOException {
+    // what OperationSupport does for json responses
+    return Serialization.jsonMapper().readerFor(KubernetesList.class).readValue(body);
+  }
+
+  @Benchmark
+  public KubernetesList unmarshalStream() {
+    return Serialization.unmarshal(new ByteArrayInputStream(body), KubernetesList.class);
+  }
+
+  /**
+   * The buffers as a client would deliver them, each read from its start.
+   */
+  private List<ByteBuffer> delivered() {
+    List<ByteBuffer> result = new ArrayList<>(buffers.size());
+    for (ByteBuffer buffer : buffers) {
+      result.add(buffer.duplicate());
+    }
+    return result;
+  }
+
+  private ByteBuffer clearedReadBuffer() {
+    readBuffer.clear();
+    return readBuffer;
+  }
+
+  static class BodyHandler extends ByteArrayBodyHandler {
+
+    void complete() {
+      onResponse(CompletedResponse.INSTANCE);
+    }
+
+  }
+
+  static class BodyChannel extends HttpClientReadableByteChannel {
+
+    void complete() {
+      onResponse(CompletedResponse.INSTANCE);
+    }
+
+  }
+
+  /**
+   * A body that has been fully delivered.
+   */
+  static class CompletedBody implements AsyncBody {
+
+    static final CompletedBody INSTANCE = new CompletedBody();
+
+    private final CompletableFuture<Void> done = CompletableFuture.completedFuture(null);
+
+    @Override
+    public void consume() {
+      // everything has been delivered
+    }
+
+    @Override
+    public CompletableFuture<Void> done() {
+      return done;
+    }
+
+    @Override
+    public void cancel() {
+      // nothing to cancel
+    }
+
+  }
+
+  static class CompletedResponse implements HttpResponse<AsyncBody> {
+
+    static final CompletedResponse INSTANCE = new CompletedResponse();
+
+    @Override
+    public List<String> headers(String key) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, List<String>> headers() {
+      return Collections.emptyMap();
+    }
+
+    @Override
+    public int code() {
+      return 200;
+    }
+
+    @Override
+    public AsyncBody body() {
+      return CompletedBody.INSTANCE;
+    }
+
+    @Override
+    public HttpRequest request() {
+      return null;
+    }
+
+    @Override
+    public Optional<HttpResponse<?>> previousResponse() {
+      return Optional.empty();
+    }
+
+  }
+
+}
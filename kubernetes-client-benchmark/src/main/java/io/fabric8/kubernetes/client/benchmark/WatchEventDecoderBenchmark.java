@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.dsl.internal.WatchEventDecoder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single pass {@link WatchEventDecoder} with the previous watch event handling, which
+ * deserialized the event polymorphically by kind, falling back to a tree, and then converted the
+ * object if it did not match the watched type.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Fork(2)
+public class WatchEventDecoderBenchmark {
+
+  @Param({ "io.fabric8.kubernetes.api.model.Pod", "io.fabric8.kubernetes.api.model.GenericKubernetesResource" })
+  public String watchedType;
+
+  private Class<? extends KubernetesResource> type;
+  private WatchEventDecoder decoder;
+  private String message;
+
+  @Setup
+  public void setup() throws ClassNotFoundException {
+    type = Class.forName(watchedType).asSubclass(KubernetesResource.class);
+    decoder = new WatchEventDecoder(Serialization.jsonMapper(), type);
+    Pod pod = new PodBuilder().withNewMetadata()
+        .withName("pod").withNamespace("namespace").withResourceVersion("12345")
+        .addToLabels("app", "benchmark").addToAnnotations("annotation", "value")
+        .endMetadata()
+        .withNewSpec().withNodeName("node")
+        .addNewContainer().withName("container").withImage("image:latest").endContainer()
+        .endSpec()
+        .withNewStatus().withPhase("Running").withPodIP("10.0.0.1").endStatus()
+        .build();
+    message = Serialization.asJson(new WatchEvent(pod, "MODIFIED"));
+  }
+
+  @Benchmark
+  public WatchEvent decoder() throws IOException {
+    return decoder.decode(message);
+  }
+
+  @Benchmark
+  public Object legacy() throws IOException {
+    WatchEvent event;
+    try {
+      event = Serialization.unmarshal(message, WatchEvent.class);
+    } catch (Exception e) {
+      JsonNode json = Serialization.jsonMapper().readTree(message);
+      JsonNode objectJson = ((ObjectNode) json).remove("object");
+      event = Serialization.jsonMapper().treeToValue(json, WatchEvent.class);
+      event.setObject(Serialization.jsonMapper().treeToValue(objectJson, type));
+    }
+    Object object = event.getObject();
+    if (object != null && !type.isAssignableFrom(object.getClass())) {
+      object = Serialization.jsonMapper().convertValue(object, type);
+    }
+    return object;
+  }
+
+}
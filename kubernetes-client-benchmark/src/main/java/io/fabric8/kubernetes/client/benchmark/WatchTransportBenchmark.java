@@ -0,0 +1,155 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.WatchTransport;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of establishing a number of concurrent watches, and receiving the first event on
+ * each, against the TLS mock server using each {@link WatchTransport}. The requests and connections made
+ * are reported as secondary results of each iteration: a connection is counted for every request that
+ * is the first on its connection.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class WatchTransportBenchmark {
+
+  private static final String PATH = "/api/v1/namespaces/test/pods?allowWatchBookmarks=true&watch=true";
+
+  @Param({ "WEBSOCKET", "HTTP" })
+  public WatchTransport transport;
+
+  @Param({ "10", "100" })
+  public int watches;
+
+  /**
+   * The requests and connections seen by the mock server, reported alongside the timings
+   */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Connections {
+
+    public long requests;
+    public long connections;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      requests = 0;
+      connections = 0;
+    }
+
+    @TearDown(Level.Invocation)
+    public void count(WatchTransportBenchmark benchmark) throws InterruptedException {
+      RecordedRequest request;
+      while ((request = benchmark.server.takeRequest(0, TimeUnit.SECONDS)) != null) {
+        requests++;
+        if (request.getSequenceNumber() == 0) {
+          connections++;
+        }
+      }
+    }
+
+  }
+
+  private KubernetesMockServer server;
+  private KubernetesClient client;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    server = new KubernetesMockServer(true);
+    server.init();
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withNamespace("test").withResourceVersion("1")
+        .endMetadata().build();
+    String event = Serialization.asJson(new WatchEvent(pod, "ADDED"));
+    if (transport == WatchTransport.HTTP) {
+      server.expect().withPath(PATH).andReturn(200, event + "\n").always();
+    } else {
+      server.expect().withPath(PATH).andUpgradeToWebSocket().open().immediately().andEmit(event).done().always();
+    }
+    try (KubernetesClient mockClient = server.createClient()) {
+      client = new KubernetesClientBuilder()
+          .withConfig(new ConfigBuilder(mockClient.getConfiguration()).withNamespace("test")
+              .withWatchTransport(transport).withWatchReconnectInterval(60_000).build())
+          .build();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    server.destroy();
+  }
+
+  @Benchmark
+  public void openWatches(Connections connections) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(watches);
+    List<Watch> opened = new ArrayList<>(watches);
+    Watcher<Pod> watcher = new Watcher<Pod>() {
+      @Override
+      public void eventReceived(Action action, Pod resource) {
+        latch.countDown();
+      }
+
+      @Override
+      public void onClose(WatcherException cause) {
+        // reconnects are pushed out by the reconnect interval
+      }
+    };
+    for (int i = 0; i < watches; i++) {
+      opened.add(client.pods().watch(watcher));
+    }
+    if (!latch.await(30, TimeUnit.SECONDS)) {
+      throw new IllegalStateException("not all watches received an event");
+    }
+    opened.forEach(Watch::close);
+  }
+
+}
@@ -16,10 +16,7 @@
 package io.fabric8.kubernetes.client.dsl.internal;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.WatchEvent;
@@ -29,6 +26,7 @@ import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -36,8 +34,10 @@ import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -45,11 +45,20 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static java.net.HttpURLConnection.HTTP_GONE;
 
 public abstract class AbstractWatchManager<T extends HasMetadata> implements Watch {
 
+  /**
+   * The {@link ListOptions} additional property requesting that the watch start with ADDED events for the
+   * current state, ended by a bookmark annotated with {@link #INITIAL_EVENTS_END_ANNOTATION}
+   */
+  public static final String SEND_INITIAL_EVENTS = "sendInitialEvents";
+  public static final String INITIAL_EVENTS_END_ANNOTATION = "k8s.io/initial-events-end";
+  public static final String RESOURCE_VERSION_MATCH_NOT_OLDER_THAN = "NotOlderThan";
+
   private static final class SerialWatcher<T> implements Watcher<T> {
     private final Watcher<T> watcher;
     SerialExecutor serialExecutor;
@@ -90,6 +99,8 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
     private final AtomicBoolean reconnected = new AtomicBoolean();
     private final AtomicBoolean closed = new AtomicBoolean();
+    // messages for a request are handled one at a time
+    private long lastBookmarkNanos = System.nanoTime();
 
   }
 
@@ -107,10 +118,13 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
   protected BaseOperation<T, ?, ?> baseOperation;
   private final ListOptions listOptions;
   private final URL requestUrl;
+  private final String endpointPath;
 
   private final boolean receiveBookmarks;
+  private final WatchEventDecoder eventDecoder;
 
   private volatile WatchRequestState latestRequestState;
+  private volatile boolean receivingInitialEvents;
 
   AbstractWatchManager(
       Watcher<T> watcher, BaseOperation<T, ?, ?> baseOperation, ListOptions listOptions, int reconnectLimit,
@@ -122,12 +136,15 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     this.resourceVersion = new AtomicReference<>(listOptions.getResourceVersion());
     this.forceClosed = new AtomicBoolean();
     this.receiveBookmarks = Boolean.TRUE.equals(listOptions.getAllowWatchBookmarks());
+    this.receivingInitialEvents = Boolean.TRUE.equals(listOptions.getAdditionalProperties().get(SEND_INITIAL_EVENTS));
     // opt into bookmarks by default
     if (listOptions.getAllowWatchBookmarks() == null) {
       listOptions.setAllowWatchBookmarks(true);
     }
     this.baseOperation = baseOperation;
+    this.eventDecoder = new WatchEventDecoder(Serialization.jsonMapper(), baseOperation.getType());
     this.requestUrl = baseOperation.getNamespacedUrl();
+    this.endpointPath = baseOperation.getApiEndpointPath();
     this.listOptions = listOptions;
     this.client = client;
 
@@ -197,6 +214,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     long delay = nextReconnectInterval();
 
     logger.debug("Scheduling reconnect task in {} ms", delay);
+    ClientMetrics.getInstance().watchReconnecting(endpointPath, delay);
 
     synchronized (this) {
       reconnectAttempt = Utils.schedule(baseOperation.context.getExecutor(), this::reconnect, delay, TimeUnit.MILLISECONDS);
@@ -244,7 +262,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
       // the user didn't ask for bookmarks, just filter them
       return;
     }
-    // the WatchEvent deserialization is not specifically typed
+    // events are decoded as the watched type, but subclasses may supply other resources
     // modify the type here if needed
     if (resource != null && !baseOperation.getType().isAssignableFrom(resource.getClass())) {
       resource = Serialization.jsonMapper().convertValue(resource, baseOperation.getType());
@@ -294,33 +312,38 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     cancelReconnect();
   }
 
-  private WatchEvent contextAwareWatchEventDeserializer(String messageSource)
-      throws JsonProcessingException {
-    try {
-      return Serialization.unmarshal(messageSource, WatchEvent.class);
-    } catch (Exception ex1) {
-      JsonNode json = Serialization.jsonMapper().readTree(messageSource);
-      JsonNode objectJson = null;
-      if (json instanceof ObjectNode && json.has("object")) {
-        objectJson = ((ObjectNode) json).remove("object");
-      }
+  @FunctionalInterface
+  private interface EventSource {
+    WatchEvent decode() throws IOException;
+  }
 
-      WatchEvent watchEvent = Serialization.jsonMapper().treeToValue(json, WatchEvent.class);
-      KubernetesResource object = Serialization.jsonMapper().treeToValue(objectJson, baseOperation.getType());
+  protected void onMessage(String message, WatchRequestState state) {
+    onMessage(() -> eventDecoder.decode(message), () -> message, state);
+  }
 
-      watchEvent.setObject(object);
-      return watchEvent;
-    }
+  /**
+   * Handle a single message without first converting it to a String
+   */
+  protected void onMessage(byte[] bytes, int offset, int length, WatchRequestState state) {
+    onMessage(() -> eventDecoder.decode(bytes, offset, length), () -> new String(bytes, offset, length, StandardCharsets.UTF_8),
+        state);
   }
 
-  protected void onMessage(String message, WatchRequestState state) {
+  private void onMessage(EventSource source, Supplier<String> messageSupplier, WatchRequestState state) {
     if (state.closed.get() || forceClosed.get()) {
       return;
     }
     try {
-      WatchEvent event = contextAwareWatchEventDeserializer(message);
+      WatchEvent event = source.decode();
       Object object = event.getObject();
       Action action = Action.valueOf(event.getType());
+      ClientMetrics.getInstance().watchEventReceived(endpointPath, action);
+      if (action == Action.BOOKMARK) {
+        long now = System.nanoTime();
+        ClientMetrics.getInstance().watchBookmarkReceived(endpointPath,
+            TimeUnit.NANOSECONDS.toMillis(now - state.lastBookmarkNanos));
+        state.lastBookmarkNanos = now;
+      }
       if (action == Action.ERROR) {
         if (object instanceof Status) {
           Status status = (Status) object;
@@ -332,24 +355,40 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
         }
       } else if (object instanceof HasMetadata) {
         HasMetadata hasMetadata = (HasMetadata) object;
-        updateResourceVersion(hasMetadata.getMetadata().getResourceVersion());
+        if (!receivingInitialEvents) {
+          updateResourceVersion(hasMetadata.getMetadata().getResourceVersion());
+        } else if (action == Action.BOOKMARK && isInitialEventsEnd(hasMetadata)) {
+          // the initial events are not in resourceVersion order, so only the bookmark is a valid place to resume
+          // a reconnect from - after which a normal watch is all that is needed
+          receivingInitialEvents = false;
+          listOptions.getAdditionalProperties().remove(SEND_INITIAL_EVENTS);
+          listOptions.setResourceVersionMatch(null);
+          updateResourceVersion(hasMetadata.getMetadata().getResourceVersion());
+        }
         eventReceived(action, hasMetadata);
       } else {
+        String message = messageSupplier.get();
         final String msg = String.format("Invalid object received: %s", message);
         close(new WatcherException(msg, null, message));
       }
     } catch (ClassCastException e) {
       final String msg = "Received wrong type of object for watch";
-      close(new WatcherException(msg, e, message));
+      close(new WatcherException(msg, e, messageSupplier.get()));
     } catch (JsonProcessingException e) {
+      String message = messageSupplier.get();
       final String msg = "Couldn't deserialize watch event: " + message;
       close(new WatcherException(msg, e, message));
     } catch (Exception e) {
       final String msg = "Unexpected exception processing watch event";
-      close(new WatcherException(msg, e, message));
+      close(new WatcherException(msg, e, messageSupplier.get()));
     }
   }
 
+  public static boolean isInitialEventsEnd(HasMetadata resource) {
+    return resource.getMetadata() != null && resource.getMetadata().getAnnotations() != null
+        && "true".equals(resource.getMetadata().getAnnotations().get(INITIAL_EVENTS_END_ANNOTATION));
+  }
+
   protected boolean onStatus(Status status, WatchRequestState state) {
     if (state.closed.get()) {
       return true;
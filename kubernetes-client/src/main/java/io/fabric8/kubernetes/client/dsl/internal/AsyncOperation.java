@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.OperationInfo;
+import io.fabric8.kubernetes.client.dsl.AsyncListOperation;
+import io.fabric8.kubernetes.client.dsl.AsyncResource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The non-blocking view of a {@link BaseOperation}, which serves as both the resource and list level
+ * operations in the same way the {@link BaseOperation} does.
+ */
+public class AsyncOperation<T extends HasMetadata, L extends KubernetesResourceList<T>>
+    implements AsyncResource<T>, AsyncListOperation<T, L> {
+
+  private final BaseOperation<T, L, ?> operation;
+
+  AsyncOperation(BaseOperation<T, L, ?> operation) {
+    this.operation = operation;
+  }
+
+  @Override
+  public CompletableFuture<T> get() {
+    return operation.getAsync();
+  }
+
+  @Override
+  public CompletableFuture<T> create() {
+    return operation.createAsync();
+  }
+
+  @Override
+  public CompletableFuture<T> update() {
+    return operation.updateAsync();
+  }
+
+  @Override
+  public CompletableFuture<T> replace() {
+    return operation.replaceAsync();
+  }
+
+  @Override
+  public CompletableFuture<T> createOrReplace() {
+    return operation.createOrReplaceAsync();
+  }
+
+  @Override
+  public CompletableFuture<T> patch(PatchContext patchContext, String patch) {
+    return operation.patchAsync(patchContext, patch);
+  }
+
+  @Override
+  public CompletableFuture<T> serverSideApply() {
+    return operation.serverSideApplyAsync();
+  }
+
+  @Override
+  public CompletableFuture<List<StatusDetails>> delete() {
+    return operation.deleteAsync();
+  }
+
+  @Override
+  public CompletableFuture<L> list() {
+    return list(new ListOptions());
+  }
+
+  @Override
+  public CompletableFuture<L> list(ListOptions listOptions) {
+    try {
+      return operation.submitList(listOptions);
+    } catch (KubernetesClientException e) {
+      return failed(e);
+    }
+  }
+
+  @Override
+  public AsyncResource<T> resource(T item) {
+    return operation.resource(item).async();
+  }
+
+  static <V> CompletableFuture<V> failed(Throwable t) {
+    CompletableFuture<V> result = new CompletableFuture<>();
+    result.completeExceptionally(t instanceof RuntimeException ? t : new KubernetesClientException(t.getMessage(), t));
+    return result;
+  }
+
+  /**
+   * Fail in the same way as the blocking operation, describing the operation if the cause is not already a
+   * {@link RuntimeException}
+   */
+  static <V> CompletableFuture<V> failed(OperationInfo operationInfo, Throwable t) {
+    try {
+      return failed(KubernetesClientException.launderThrowable(operationInfo, t));
+    } catch (KubernetesClientException e) {
+      return failed(e);
+    }
+  }
+
+  /**
+   * Get the exception a future was completed with
+   */
+  static Throwable unwrap(Throwable t) {
+    if (t instanceof CompletionException && t.getCause() != null) {
+      return t.getCause();
+    }
+    return t;
+  }
+
+  /**
+   * Rethrow the unwrapped exception from inside of a completion stage
+   */
+  static RuntimeException rethrow(Throwable t) {
+    if (t instanceof RuntimeException) {
+      return (RuntimeException) t;
+    }
+    return new CompletionException(t);
+  }
+
+}
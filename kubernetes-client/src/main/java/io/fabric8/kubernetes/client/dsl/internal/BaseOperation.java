@@ -24,6 +24,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
@@ -40,6 +41,7 @@ import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
 import io.fabric8.kubernetes.client.OperationInfo;
 import io.fabric8.kubernetes.client.ResourceNotFoundException;
 import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.WatchTransport;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterNested;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
@@ -75,10 +77,14 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -89,6 +95,7 @@ import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceList<T>, R extends Resource<T>>
     extends CreateOnlyResourceOperation<T, T>
@@ -114,6 +121,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   // informable state
   private Map<String, Function<T, List<String>>> indexers;
   private Long limit;
+  private UnaryOperator<T> transform;
 
   protected BaseOperation(OperationContext ctx) {
     super(ctx);
@@ -192,6 +200,135 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public AsyncOperation<T, L> async() {
+    return new AsyncOperation<>(this);
+  }
+
+  /**
+   * The non-blocking variant of {@link #requireFromServer()}
+   */
+  protected CompletableFuture<T> requireFromServerAsync() {
+    if (Utils.isNullOrEmpty(getName())) {
+      return AsyncOperation.failed(new KubernetesClientException("name not specified for an operation requiring one."));
+    }
+    try {
+      return handleGetAsync(getCompleteResourceUrl(), getType()).thenApply(answer -> {
+        updateApiVersion(answer);
+        return answer;
+      });
+    } catch (IOException e) {
+      return AsyncOperation.failed(forOperationType("get"), e);
+    }
+  }
+
+  CompletableFuture<T> getAsync() {
+    return requireFromServerAsync().handle((answer, t) -> {
+      if (t == null) {
+        return answer;
+      }
+      Throwable cause = AsyncOperation.unwrap(t);
+      if (cause instanceof KubernetesClientException
+          && ((KubernetesClientException) cause).getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+        return null;
+      }
+      throw AsyncOperation.rethrow(cause);
+    });
+  }
+
+  CompletableFuture<T> createAsync() {
+    try {
+      return handleCreateAsync(getNonNullItem());
+    } catch (IOException | RuntimeException e) {
+      return AsyncOperation.failed(e);
+    }
+  }
+
+  /**
+   * The non-blocking variant of {@link #createOrReplace()}. Rather than waiting for a resource
+   * that could not be created or reloaded to appear, the create is tried again after a delay.
+   */
+  CompletableFuture<T> createOrReplaceAsync() {
+    if (item == null) {
+      return AsyncOperation.failed(new IllegalArgumentException("Nothing to create."));
+    }
+    return CreateOrReplaceHelper.createOrReplaceAsync(item, i -> resource(i).async().create(),
+        i -> resource(i).async().replace(), i -> resource(i).async().get(), context.getExecutor());
+  }
+
+  CompletableFuture<T> updateAsync() {
+    return AsyncOperation.failed(new KubernetesClientException(READ_ONLY_UPDATE_EXCEPTION_MESSAGE));
+  }
+
+  CompletableFuture<T> replaceAsync() {
+    return AsyncOperation.failed(new KubernetesClientException(READ_ONLY_UPDATE_EXCEPTION_MESSAGE));
+  }
+
+  CompletableFuture<T> patchAsync(PatchContext patchContext, String patch) {
+    return AsyncOperation.failed(new KubernetesClientException(READ_ONLY_UPDATE_EXCEPTION_MESSAGE));
+  }
+
+  CompletableFuture<T> serverSideApplyAsync() {
+    return AsyncOperation.failed(new KubernetesClientException(READ_ONLY_UPDATE_EXCEPTION_MESSAGE));
+  }
+
+  /**
+   * The non-blocking variant of {@link #deleteAll()}. The wait for the deletion to complete,
+   * as set with withTimeout, is not applied.
+   */
+  CompletableFuture<List<StatusDetails>> deleteAsync() {
+    if (Utils.isNullOrEmpty(name) && Utils.isNullOrEmpty(namespace) && isResourceNamespaced()) {
+      // find each applicable namespace and issue a delete
+      return async().list().thenCompose(list -> {
+        Set<String> namespaces = list.getItems().stream().map(i -> i.getMetadata().getNamespace())
+            .collect(Collectors.toSet());
+        return allDetails(namespaces.stream().map(n -> inNamespace(n).deleteAsync()));
+      });
+    }
+    CompletableFuture<KubernetesResource> result;
+    try {
+      URL resourceURLForWriteOperation = getResourceURLForWriteOperation(getResourceUrl());
+      if (Utils.isNullOrEmpty(name)) {
+        ListOptions options = new ListOptions();
+        options.setFieldSelector(context.getFieldQueryParam());
+        options.setLabelSelector(context.getLabelQueryParam());
+        if (options.getFieldSelector() != null || options.getLabelSelector() != null) {
+          resourceURLForWriteOperation = appendListOptionParams(resourceURLForWriteOperation, options);
+        }
+      }
+      result = handleDeleteAsync(resourceURLForWriteOperation, gracePeriodSeconds, propagationPolicy, resourceVersion);
+    } catch (IOException e) {
+      return AsyncOperation.failed(e);
+    }
+    return result.<CompletableFuture<List<StatusDetails>>> handle((deleted, t) -> {
+      if (t == null) {
+        List<StatusDetails> details = new ArrayList<>();
+        toStatusDetails(deleted, details);
+        return CompletableFuture.completedFuture(details);
+      }
+      Throwable cause = AsyncOperation.unwrap(t);
+      if (cause instanceof KubernetesClientException) {
+        int code = ((KubernetesClientException) cause).getCode();
+        if (Utils.isNotNullOrEmpty(name)) {
+          if (code == HttpURLConnection.HTTP_NOT_FOUND) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+          }
+        } else if (code == HttpURLConnection.HTTP_BAD_METHOD) {
+          // collection delete may not be supported, fall-back to single item delete
+          return async().list()
+              .thenCompose(list -> allDetails(list.getItems().stream().map(i -> resource(i).async().delete())));
+        }
+      }
+      return AsyncOperation.failed(cause);
+    }).thenCompose(Function.identity());
+  }
+
+  private static CompletableFuture<List<StatusDetails>> allDetails(Stream<CompletableFuture<List<StatusDetails>>> stream) {
+    List<CompletableFuture<List<StatusDetails>>> futures = stream.collect(Collectors.toList());
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+        .thenApply(v -> futures.stream().flatMap(f -> f.join().stream()).collect(Collectors.toList()));
+  }
+
   @Override
   public T edit(UnaryOperator<T> function) {
     throw new KubernetesClientException(READ_ONLY_EDIT_EXCEPTION_MESSAGE);
@@ -418,6 +555,55 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public CompletableFuture<ListMeta> submitList(ListOptions listOptions, Consumer<? super T> itemConsumer) {
+    try {
+      URL fetchListUrl = fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null));
+      HttpRequest.Builder requestBuilder = withRequestTimeout(httpClient.newHttpRequestBuilder()).url(fetchListUrl);
+      return handleStreamingListResponse(httpClient, requestBuilder, getType(), item -> {
+        updateApiVersion(item);
+        itemConsumer.accept(item);
+      });
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<ListMeta> submitListPipelined(ListOptions listOptions, int readAhead,
+      Consumer<? super T> itemConsumer) {
+    return new PipelinedList((options, itemGate, listMetaConsumer) -> {
+      try {
+        URL fetchListUrl = fetchListUrl(getNamespacedUrl(), defaultListOptions(options, null));
+        HttpRequest.Builder requestBuilder = withRequestTimeout(httpClient.newHttpRequestBuilder()).url(fetchListUrl);
+        return handleStreamingListResponse(httpClient, requestBuilder, getType(), item -> {
+          updateApiVersion(item);
+          itemConsumer.accept(item);
+        }, itemGate, listMetaConsumer);
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+      }
+    }, listOptions, readAhead).start();
+  }
+
+  @Override
+  public ListMeta listPipelined(ListOptions listOptions, int readAhead, Consumer<? super T> itemConsumer) {
+    try {
+      return waitForResult(submitListPipelined(listOptions, readAhead, itemConsumer));
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+  }
+
+  @Override
+  public ListMeta list(ListOptions listOptions, Consumer<? super T> itemConsumer) {
+    try {
+      return waitForResult(submitList(listOptions, itemConsumer));
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+  }
+
   @Override
   public L list(ListOptions listOptions) {
     try {
@@ -618,8 +804,21 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   @Override
   public CompletableFuture<AbstractWatchManager<T>> submitWatch(ListOptions options, final Watcher<T> watcher) {
-    WatcherToggle<T> watcherToggle = new WatcherToggle<>(watcher, true);
     ListOptions optionsToUse = defaultListOptions(options, true);
+    if (resolveWatchTransport() == WatchTransport.HTTP) {
+      try {
+        return CompletableFuture.completedFuture(new WatchHTTPManager<>(
+            httpClient,
+            this,
+            optionsToUse,
+            watcher,
+            getRequestConfig().getWatchReconnectInterval(),
+            getRequestConfig().getWatchReconnectLimit()));
+      } catch (MalformedURLException e) {
+        throw KubernetesClientException.launderThrowable(forOperationType(WATCH), e);
+      }
+    }
+    WatcherToggle<T> watcherToggle = new WatcherToggle<>(watcher, true);
     WatchConnectionManager<T, L> watch;
     try {
       watch = new WatchConnectionManager<>(
@@ -672,6 +871,23 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   }
 
+  /**
+   * Resolves {@link WatchTransport#AUTO} to {@link WatchTransport#HTTP} only when HTTP/2 may be negotiated,
+   * that is when it has not been disabled and the server is reached over TLS, so that watches can share
+   * a connection rather than each holding its own websocket.
+   */
+  WatchTransport resolveWatchTransport() {
+    WatchTransport transport = getRequestConfig().getWatchTransport();
+    if (transport != WatchTransport.AUTO) {
+      return transport;
+    }
+    if (config != null && !config.isHttp2Disable() && config.getMasterUrl() != null
+        && config.getMasterUrl().toLowerCase(Locale.ROOT).startsWith(Config.HTTPS_PROTOCOL_PREFIX)) {
+      return WatchTransport.HTTP;
+    }
+    return WatchTransport.WEBSOCKET;
+  }
+
   @Override
   public T replace() {
     throw new KubernetesClientException(READ_ONLY_UPDATE_EXCEPTION_MESSAGE);
@@ -701,20 +917,54 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return handleResponse(requestBuilder, getType());
   }
 
+  /**
+   * Waits for {@link #handleCreateAsync(HasMetadata)}, which is the hook to override for kind specific behavior.
+   */
   @Override
   protected T handleCreate(T resource) throws InterruptedException, IOException {
-    updateApiVersion(resource);
-    return handleCreate(resource, getType());
+    return waitForResult(handleCreateAsync(resource));
   }
 
+  /**
+   * Waits for {@link #handleUpdateAsync(HasMetadata)}, which is the hook to override for kind specific behavior.
+   */
   protected T handleUpdate(T updated) throws InterruptedException, IOException {
-    updateApiVersion(updated);
-    return handleUpdate(updated, getType());
+    return waitForResult(handleUpdateAsync(updated));
   }
 
+  /**
+   * Waits for {@link #handlePatchAsync(PatchContext, HasMetadata, HasMetadata)}, which is the hook to override for kind
+   * specific behavior.
+   */
   protected T handlePatch(PatchContext context, T current, T updated) throws InterruptedException, IOException {
+    return waitForResult(handlePatchAsync(context, current, updated));
+  }
+
+  /**
+   * Create the resource. Both the blocking and non-blocking operations go through this method, so kind specific
+   * behavior only needs to be added here.
+   */
+  protected CompletableFuture<T> handleCreateAsync(T resource) throws IOException {
+    updateApiVersion(resource);
+    return handleCreateAsync(resource, getType());
+  }
+
+  /**
+   * Update the resource. Both the blocking and non-blocking operations go through this method, so kind specific
+   * behavior only needs to be added here.
+   */
+  protected CompletableFuture<T> handleUpdateAsync(T updated) throws IOException {
+    updateApiVersion(updated);
+    return handleUpdateAsync(updated, getType());
+  }
+
+  /**
+   * Patch the resource. Both the blocking and non-blocking operations go through this method, so kind specific
+   * behavior only needs to be added here.
+   */
+  protected CompletableFuture<T> handlePatchAsync(PatchContext context, T current, T updated) throws IOException {
     updateApiVersion(updated);
-    return handlePatch(context, current, updated, getType());
+    return handlePatchAsync(context, current, updated, getType());
   }
 
   protected <S> S handleScale(S scaleParam, Class<S> scaleType) {
@@ -970,6 +1220,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     BaseOperation<T, L, R> result = newInstance(context);
     result.indexers = indexers;
     result.limit = this.limit;
+    result.transform = this.transform;
     return result;
   }
 
@@ -978,6 +1229,16 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     BaseOperation<T, L, R> result = newInstance(context);
     result.indexers = this.indexers;
     result.limit = limit;
+    result.transform = this.transform;
+    return result;
+  }
+
+  @Override
+  public BaseOperation<T, L, R> withTransform(UnaryOperator<T> transform) {
+    BaseOperation<T, L, R> result = newInstance(context);
+    result.indexers = this.indexers;
+    result.limit = this.limit;
+    result.transform = transform;
     return result;
   }
 
@@ -1016,6 +1277,9 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     if (indexers != null) {
       informer.addIndexers(indexers);
     }
+    if (transform != null) {
+      informer.transform(transform);
+    }
     return informer;
   }
 
@@ -1043,6 +1307,15 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
       urlBuilder.addQueryParameter("resourceVersion", listOptions.getResourceVersion());
     }
 
+    if (listOptions.getResourceVersionMatch() != null) {
+      urlBuilder.addQueryParameter("resourceVersionMatch", listOptions.getResourceVersionMatch());
+    }
+
+    Object sendInitialEvents = listOptions.getAdditionalProperties().get(AbstractWatchManager.SEND_INITIAL_EVENTS);
+    if (sendInitialEvents != null) {
+      urlBuilder.addQueryParameter(AbstractWatchManager.SEND_INITIAL_EVENTS, sendInitialEvents.toString());
+    }
+
     if (listOptions.getTimeoutSeconds() != null) {
       urlBuilder.addQueryParameter("timeoutSeconds", listOptions.getTimeoutSeconds().toString());
     }
@@ -1072,6 +1345,19 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return list().getItems().stream().map(this::resource);
   }
 
+  @Override
+  public Stream<T> stream(ListOptions listOptions) {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(new PagingIterator<>(this::list, listOptions),
+            Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  @Override
+  public Iterator<T> listAsIterator(int pageSize) {
+    return new PagingIterator<>(this::list, new ListOptionsBuilder().withLimit((long) pageSize).build());
+  }
+
   @Override
   public T createOrReplace(T item) {
     return resource(item).createOrReplace();
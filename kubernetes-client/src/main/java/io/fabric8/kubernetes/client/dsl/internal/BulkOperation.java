@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Applies an asynchronous operation to a batch of items with a bounded number of operations in flight.
+ * <p>
+ * Items are started in order of their phase - no item of a later phase is started until every item of
+ * the earlier phases has completed. After the first failure no further items are started, and once the
+ * in-flight operations have finished the first failure is reported with any later ones added as suppressed.
+ * <p>
+ * The results are returned in the order of the items.
+ *
+ * @param <I> the item type
+ * @param <R> the result type
+ */
+class BulkOperation<I, R> {
+
+  private final List<I> items;
+  private final Function<I, CompletableFuture<R>> operation;
+  private final int maxInFlight;
+  private final int[] phases;
+  private final Integer[] order;
+  private final List<R> results;
+  private final List<Throwable> failures = new ArrayList<>();
+  private final CompletableFuture<List<R>> done = new CompletableFuture<>();
+
+  private int next;
+  private int inFlight;
+  private boolean launching;
+
+  BulkOperation(List<I> items, int maxInFlight, ToIntFunction<I> phase, Function<I, CompletableFuture<R>> operation) {
+    this.items = items;
+    this.operation = operation;
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.phases = items.stream().mapToInt(phase).toArray();
+    this.order = new Integer[items.size()];
+    Arrays.setAll(order, i -> i);
+    // stable, so items keep their relative order within a phase
+    Arrays.sort(order, Comparator.comparingInt(i -> phases[i]));
+    this.results = new ArrayList<>(items.size());
+    for (int i = 0; i < items.size(); i++) {
+      results.add(null);
+    }
+  }
+
+  /**
+   * Apply a blocking operation to each item, waiting for the results.
+   * <p>
+   * With a maxInFlight of 1 the operation runs on the calling thread, otherwise on the executor of the context.
+   */
+  static <I, R> List<R> run(List<I> items, int maxInFlight, ToIntFunction<I> phase, Function<I, R> operation,
+      OperationContext context) {
+    return run(items, maxInFlight, phase, operation, null, context);
+  }
+
+  /**
+   * Apply an operation to each item, waiting for the results.
+   * <p>
+   * With a maxInFlight of 1 the blocking operation runs on the calling thread. Otherwise the non-blocking operation
+   * is used if there is one, else the blocking operation runs on the executor of the context.
+   */
+  static <I, R> List<R> run(List<I> items, int maxInFlight, ToIntFunction<I> phase, Function<I, R> operation,
+      Function<I, CompletableFuture<R>> nonBlockingOperation, OperationContext context) {
+    Function<I, CompletableFuture<R>> asyncOperation;
+    if (maxInFlight <= 1) {
+      asyncOperation = item -> CompletableFuture.completedFuture(operation.apply(item));
+    } else if (nonBlockingOperation != null) {
+      asyncOperation = nonBlockingOperation;
+    } else {
+      asyncOperation = item -> CompletableFuture.supplyAsync(() -> operation.apply(item), context.getExecutor());
+    }
+    return waitFor(new BulkOperation<>(items, maxInFlight, phase, asyncOperation).start());
+  }
+
+  static <R> List<R> waitFor(CompletableFuture<List<R>> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(e);
+    } catch (ExecutionException e) {
+      throw KubernetesClientException.launderThrowable(e.getCause());
+    }
+  }
+
+  CompletableFuture<List<R>> start() {
+    launch();
+    return done;
+  }
+
+  private void launch() {
+    synchronized (this) {
+      if (launching) {
+        // the launching thread will pick up the freed capacity
+        return;
+      }
+      launching = true;
+    }
+    while (true) {
+      int index;
+      synchronized (this) {
+        if (!canLaunch()) {
+          launching = false;
+          if (inFlight == 0) {
+            complete();
+          }
+          return;
+        }
+        index = order[next++];
+        inFlight++;
+      }
+      CompletableFuture<R> future;
+      try {
+        future = operation.apply(items.get(index));
+      } catch (RuntimeException e) {
+        future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+      }
+      future.whenComplete((r, t) -> onComplete(index, r, t));
+    }
+  }
+
+  private boolean canLaunch() {
+    if (!failures.isEmpty() || next >= order.length || inFlight >= maxInFlight) {
+      return false;
+    }
+    // a new phase may only start once the previous one has drained
+    return inFlight == 0 || next == 0 || phases[order[next]] == phases[order[next - 1]];
+  }
+
+  private void onComplete(int index, R result, Throwable t) {
+    synchronized (this) {
+      inFlight--;
+      if (t != null) {
+        failures.add(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+      } else {
+        results.set(index, result);
+      }
+    }
+    launch();
+  }
+
+  private void complete() {
+    if (failures.isEmpty()) {
+      done.complete(results);
+      return;
+    }
+    Throwable first = failures.get(0);
+    for (int i = 1; i < failures.size(); i++) {
+      first.addSuppressed(failures.get(i));
+    }
+    done.completeExceptionally(first);
+  }
+
+}
@@ -38,14 +38,19 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -71,6 +76,8 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
   static final String STATUS_SUCCESS = "Success";
 
   private static final long MAX_QUEUE_SIZE = 16 * 1024 * 1024L;
+  private static final byte STDIN = 0;
+  private static final byte RESIZE = 4;
 
   private final class SimpleResponse implements Response {
     private final HttpResponse<?> response;
@@ -125,12 +132,48 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
     }
   }
 
+  /**
+   * A non-blocking stdIn, writes are limited to what fits in the send queue
+   */
+  private final class InputChannel implements WritableByteChannel {
+    private volatile boolean open = true;
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      if (!open) {
+        throw new ClosedChannelException();
+      }
+      checkError();
+      long available = MAX_QUEUE_SIZE - webSocketRef.get().queueSize();
+      int length = (int) Math.min(src.remaining(), available);
+      if (length <= 0) {
+        return 0;
+      }
+      ByteBuffer toSend = src.duplicate();
+      toSend.limit(toSend.position() + length);
+      send(toSend, STDIN);
+      src.position(src.position() + length);
+      return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+  }
+
   static final Logger LOGGER = LoggerFactory.getLogger(ExecWebSocketListener.class);
   private static final String HEIGHT = "Height";
   private static final String WIDTH = "Width";
 
   private final InputStream in;
   private final OutputStream input;
+  private final InputChannel inputChannel;
 
   private final ListenerStream out;
   private final ListenerStream error;
@@ -144,6 +187,8 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
   private final SerialExecutor serialExecutor;
   private final AtomicBoolean closed = new AtomicBoolean(false);
   private final CompletableFuture<Integer> exitCode = new CompletableFuture<>();
+  // waiting for the send queue to drain, released early on exit
+  private final Set<CompletableFuture<Void>> queueWaiters = ConcurrentHashMap.newKeySet();
   private ObjectMapper objectMapper = new ObjectMapper();
 
   public static String toString(ByteBuffer buffer) {
@@ -160,11 +205,14 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
     Integer bufferSize = context.getBufferSize();
     if (context.isRedirectingIn()) {
       this.input = InputStreamPumper.writableOutputStream(this::sendWithErrorChecking, bufferSize);
+      this.inputChannel = new InputChannel();
       this.in = null;
     } else {
       this.input = null;
+      this.inputChannel = null;
       this.in = context.getIn();
     }
+    this.exitCode.whenComplete((i, t) -> queueWaiters.forEach(f -> f.complete(null)));
 
     this.terminateOnError = context.isTerminateOnError();
     this.out = createStream("stdOut", context.getOutput());
@@ -395,6 +443,16 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
     return input;
   }
 
+  @Override
+  public WritableByteChannel getInputChannel() {
+    return inputChannel;
+  }
+
+  @Override
+  public CompletableFuture<Void> inputWritable() {
+    return whenQueueSizeAtMost(MAX_QUEUE_SIZE - 1);
+  }
+
   @Override
   public InputStream getOutput() {
     return out.inputStream;
@@ -420,7 +478,7 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
       map.put(HEIGHT, rows);
       map.put(WIDTH, cols);
       byte[] bytes = objectMapper.writeValueAsBytes(map);
-      send(bytes, 0, bytes.length, (byte) 4);
+      send(bytes, 0, bytes.length, RESIZE);
     } catch (Exception e) {
       throw KubernetesClientException.launderThrowable(e);
     }
@@ -429,18 +487,22 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
   private void send(byte[] bytes, int offset, int length, byte flag) {
     if (length > 0) {
       waitForQueue(length);
-      WebSocket ws = webSocketRef.get();
-      byte[] toSend = new byte[length + 1];
-      toSend[0] = flag;
-      System.arraycopy(bytes, offset, toSend, 1, length);
-      if (!ws.send(ByteBuffer.wrap(toSend))) {
-        this.exitCode.completeExceptionally(new IOException("could not send"));
-      }
+      send(ByteBuffer.wrap(bytes, offset, length), flag);
+    }
+  }
+
+  /**
+   * Send the data prefixed by the channel flag, without first copying it
+   */
+  private void send(ByteBuffer data, byte flag) {
+    WebSocket ws = webSocketRef.get();
+    if (!ws.sendGathering(ByteBuffer.wrap(new byte[] { flag }), data)) {
+      this.exitCode.completeExceptionally(new IOException("could not send"));
     }
   }
 
   private void send(byte[] bytes, int offset, int length) {
-    send(bytes, offset, length, (byte) 0);
+    send(bytes, offset, length, STDIN);
   }
 
   void sendWithErrorChecking(byte[] bytes, int offset, int length) {
@@ -477,14 +539,39 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
   }
 
   final void waitForQueue(int length) {
+    CompletableFuture<Void> drained = whenQueueSizeAtMost(Math.max(0, MAX_QUEUE_SIZE - length));
+    if (drained.isDone()) {
+      return;
+    }
     try {
-      while (webSocketRef.get().queueSize() + length > MAX_QUEUE_SIZE && !Thread.interrupted()) {
-        checkError();
-        Thread.sleep(50L);
-      }
+      drained.get();
     } catch (InterruptedException ex) {
       Thread.currentThread().interrupt();
+    } catch (ExecutionException | CancellationException e) {
+      // not expected, proceed with the send
+    } finally {
+      drained.cancel(false);
+    }
+    checkError();
+  }
+
+  /**
+   * Get a future that completes when the send queue has drained to the given size, or on exit
+   */
+  private CompletableFuture<Void> whenQueueSizeAtMost(long bytes) {
+    WebSocket ws = webSocketRef.get();
+    if (ws.queueSize() <= bytes) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Void> drained = ws.whenQueueSizeAtMost(bytes);
+    if (!drained.isDone()) {
+      queueWaiters.add(drained);
+      drained.whenComplete((v, t) -> queueWaiters.remove(drained));
+      if (exitCode.isDone()) {
+        drained.complete(null);
+      }
     }
+    return drained;
   }
 
   final void checkError() {
@@ -35,11 +35,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
@@ -55,6 +57,7 @@ public class HasMetadataOperation<T extends HasMetadata, L extends KubernetesRes
   private static final String PATCH_OPERATION = "patch";
   private static final String REPLACE_OPERATION = "replace";
   private static final String UPDATE_OPERATION = "update";
+  private static final int REPLACE_TRIES = 10;
 
   public HasMetadataOperation(OperationContext ctx, Class<T> type, Class<L> listType) {
     super(ctx);
@@ -150,13 +153,62 @@ public class HasMetadataOperation<T extends HasMetadata, L extends KubernetesRes
     }
   }
 
+  @Override
+  CompletableFuture<T> updateAsync() {
+    T item;
+    try {
+      item = getNonNullItem();
+    } catch (KubernetesClientException e) {
+      return AsyncOperation.failed(e);
+    }
+    CompletableFuture<T> versioned;
+    if (KubernetesResourceUtil.getResourceVersion(item) == null) {
+      versioned = requireFromServerAsync().thenApply(got -> {
+        T withVersion = clone(item);
+        withVersion.getMetadata().setResourceVersion(KubernetesResourceUtil.getResourceVersion(got));
+        return withVersion;
+      });
+    } else {
+      versioned = CompletableFuture.completedFuture(item);
+    }
+    return versioned.thenCompose(toUpdate -> {
+      try {
+        return handleUpdateAsync(toUpdate);
+      } catch (IOException e) {
+        return AsyncOperation.failed(forOperationType(UPDATE_OPERATION), e);
+      }
+    });
+  }
+
+  @Override
+  CompletableFuture<T> patchAsync(PatchContext patchContext, String patch) {
+    T item = getItem();
+    CompletableFuture<T> base = item != null ? CompletableFuture.completedFuture(clone(item)) : requireFromServerAsync();
+    return base.thenCompose(got -> {
+      try {
+        return handlePatchAsync(patchContext, got, convertToJson(patch), getType());
+      } catch (IOException e) {
+        return AsyncOperation.failed(forOperationType(PATCH_OPERATION), e);
+      }
+    });
+  }
+
+  @Override
+  CompletableFuture<T> serverSideApplyAsync() {
+    try {
+      return handlePatchAsync(PatchContext.of(PatchType.SERVER_SIDE_APPLY), null, getNonNullItem());
+    } catch (IOException | RuntimeException e) {
+      return AsyncOperation.failed(forOperationType(PATCH_OPERATION), e);
+    }
+  }
+
   /**
    * base replace operation, which is effectively a forced update with retries
    */
   protected T handleReplace(T item) {
     String fixedResourceVersion = getResourceVersion();
     Exception caught = null;
-    int maxTries = 10;
+    int maxTries = REPLACE_TRIES;
     item = clone(item);
     if (item.getMetadata() == null) {
       item.setMetadata(new ObjectMeta());
@@ -213,6 +265,77 @@ public class HasMetadataOperation<T extends HasMetadata, L extends KubernetesRes
     throw KubernetesClientException.launderThrowable(forOperationType(REPLACE_OPERATION), caught);
   }
 
+  /**
+   * The non-blocking variant of {@link #handleReplace(HasMetadata)}. The current resource is fetched up front,
+   * rather than on demand, so that {@link #modifyItemForReplaceOrPatch(Supplier, HasMetadata)} does not block.
+   * Conflicts are retried after the same delay as the blocking replace, without holding a thread.
+   */
+  @Override
+  CompletableFuture<T> replaceAsync() {
+    T item;
+    try {
+      item = clone(getNonNullItem());
+    } catch (KubernetesClientException e) {
+      return AsyncOperation.failed(e);
+    }
+    if (item.getMetadata() == null) {
+      item.setMetadata(new ObjectMeta());
+    }
+    String fixedResourceVersion = getResourceVersion();
+    CompletableFuture<T> current = context.getSubresource() == null ? requireFromServerAsync()
+        : CompletableFuture.completedFuture(null);
+    return current.thenCompose(got -> {
+      T toReplace = item;
+      if (got != null) {
+        try {
+          toReplace = modifyItemForReplaceOrPatch(() -> got, toReplace);
+        } catch (Exception e) {
+          return AsyncOperation.failed(forOperationType(REPLACE_OPERATION), e);
+        }
+      }
+      String resourceVersion = fixedResourceVersion;
+      if (resourceVersion == null) {
+        resourceVersion = KubernetesResourceUtil.getResourceVersion(toReplace);
+      }
+      if (resourceVersion == null && got != null) {
+        resourceVersion = KubernetesResourceUtil.getResourceVersion(got);
+      }
+      return replaceAsync(toReplace, resourceVersion, fixedResourceVersion != null, 1);
+    });
+  }
+
+  private CompletableFuture<T> replaceAsync(T item, String resourceVersion, boolean fixedResourceVersion, int attempt) {
+    CompletableFuture<String> version = resourceVersion != null ? CompletableFuture.completedFuture(resourceVersion)
+        : requireFromServerAsync().thenApply(KubernetesResourceUtil::getResourceVersion);
+    return version.thenCompose(v -> {
+      item.getMetadata().setResourceVersion(v);
+      try {
+        return handleUpdateAsync(item);
+      } catch (IOException e) {
+        return AsyncOperation.<T> failed(e);
+      }
+    }).handle((replaced, t) -> {
+      if (t == null) {
+        return CompletableFuture.completedFuture(replaced);
+      }
+      Throwable cause = AsyncOperation.unwrap(t);
+      // as with the blocking replace, only a conflict with a dynamic resource version is retried
+      if (fixedResourceVersion || attempt >= REPLACE_TRIES || !(cause instanceof KubernetesClientException)
+          || ((KubernetesClientException) cause).getCode() != HttpURLConnection.HTTP_CONFLICT) {
+        return AsyncOperation.<T> failed(forOperationType(REPLACE_OPERATION), cause);
+      }
+      CompletableFuture<T> retry = new CompletableFuture<>();
+      Utils.schedule(context.getExecutor(), () -> replaceAsync(item, null, false, attempt + 1).whenComplete((r, e) -> {
+        if (e != null) {
+          retry.completeExceptionally(AsyncOperation.unwrap(e));
+        } else {
+          retry.complete(r);
+        }
+      }), 1, TimeUnit.SECONDS);
+      return retry;
+    }).thenCompose(Function.identity());
+  }
+
   /**
    * Perform a patch. If the base is not provided and one is required, it will
    * be fetched from the server.
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Splits a byte stream into newline delimited frames without decoding it.
+ * <p>
+ * Frames that are contained in a single heap buffer are passed on directly from the backing array. Only frames
+ * that span buffers, or that come from direct buffers, are copied into a reusable pending buffer. Empty frames are
+ * ignored.
+ * <p>
+ * Not thread safe - buffers are expected to be supplied one at a time.
+ */
+class LineFramer {
+
+  @FunctionalInterface
+  interface FrameHandler {
+    /**
+     * The bytes are only valid for the duration of the call
+     */
+    void onFrame(byte[] bytes, int offset, int length);
+  }
+
+  private static final int INITIAL_CAPACITY = 8192;
+  // don't hold onto the memory for an unusually large frame
+  private static final int RETAINED_CAPACITY = 1 << 20;
+
+  private final FrameHandler handler;
+  private byte[] pending = new byte[INITIAL_CAPACITY];
+  private int pendingLength;
+
+  LineFramer(FrameHandler handler) {
+    this.handler = handler;
+  }
+
+  void accept(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      acceptArray(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.arrayOffset() + buffer.limit());
+      buffer.position(buffer.limit());
+      return;
+    }
+    int remaining = buffer.remaining();
+    int scanFrom = pendingLength;
+    ensureCapacity(pendingLength + remaining);
+    buffer.get(pending, pendingLength, remaining);
+    pendingLength += remaining;
+    int frameStart = 0;
+    for (int i = scanFrom; i < pendingLength; i++) {
+      if (pending[i] == '\n') {
+        emit(pending, frameStart, i - frameStart);
+        frameStart = i + 1;
+      }
+    }
+    compact(frameStart);
+  }
+
+  private void acceptArray(byte[] array, int start, int end) {
+    int frameStart = start;
+    for (int i = start; i < end; i++) {
+      if (array[i] != '\n') {
+        continue;
+      }
+      if (pendingLength == 0) {
+        emit(array, frameStart, i - frameStart);
+      } else {
+        append(array, frameStart, i - frameStart);
+        emit(pending, 0, pendingLength);
+        reset();
+      }
+      frameStart = i + 1;
+    }
+    append(array, frameStart, end - frameStart);
+  }
+
+  private void emit(byte[] bytes, int offset, int length) {
+    if (length > 0) {
+      handler.onFrame(bytes, offset, length);
+    }
+  }
+
+  private void append(byte[] bytes, int offset, int length) {
+    if (length == 0) {
+      return;
+    }
+    ensureCapacity(pendingLength + length);
+    System.arraycopy(bytes, offset, pending, pendingLength, length);
+    pendingLength += length;
+  }
+
+  private void compact(int from) {
+    if (from == pendingLength) {
+      reset();
+    } else if (from > 0) {
+      System.arraycopy(pending, from, pending, 0, pendingLength - from);
+      pendingLength -= from;
+    }
+  }
+
+  private void reset() {
+    pendingLength = 0;
+    if (pending.length > RETAINED_CAPACITY) {
+      pending = new byte[INITIAL_CAPACITY];
+    }
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > pending.length) {
+      pending = Arrays.copyOf(pending, Math.max(capacity, pending.length * 2));
+    }
+  }
+
+  /**
+   * @return the number of bytes belonging to an incomplete frame
+   */
+  int getPendingLength() {
+    return pendingLength;
+  }
+
+}
@@ -36,6 +36,7 @@ import io.fabric8.kubernetes.client.dsl.ParameterNamespaceListVisitFromServerGet
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.Waitable;
 import io.fabric8.kubernetes.client.readiness.Readiness;
+import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -192,24 +193,24 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> createOrReplace() {
-    List<? extends Resource<HasMetadata>> operations = getResources();
-
-    return operations.stream()
-        .map(Resource::createOrReplace)
+    return performOperation(Resource::createOrReplace, r -> r.async().createOrReplace()).stream()
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
 
   @Override
   public List<StatusDetails> delete() {
-    List<StatusDetails> deleted = resources().flatMap(r -> r.delete().stream()).collect(Collectors.toList());
+    List<StatusDetails> deleted = BulkOperation.run(getResources(), context.getMaxInFlight(),
+        r -> -dependencyPhase(r.item()), Resource::delete, r -> r.async().delete(), context).stream()
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
     BaseOperation.waitForDelete(deleted, this.context, this);
     return deleted;
   }
 
   @Override
   public List<HasMetadata> get() {
-    return performOperation(Resource::get);
+    return performOperation(Resource::get, r -> r.async().get());
   }
 
   @Override
@@ -284,7 +285,7 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> create() {
-    return performOperation(Resource::create);
+    return performOperation(Resource::create, r -> r.async().create());
   }
 
   @Override
@@ -299,12 +300,36 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> replace() {
-    return performOperation(Resource::replace);
+    return performOperation(Resource::replace, r -> r.async().replace());
+  }
+
+  private List<HasMetadata> performOperation(
+      Function<NamespaceableResource<HasMetadata>, HasMetadata> operation) {
+    return performOperation(operation, null);
   }
 
   private List<HasMetadata> performOperation(
-      Function<? super NamespaceableResource<HasMetadata>, ? extends HasMetadata> operation) {
-    return getResources().stream().map(operation).collect(Collectors.toList());
+      Function<NamespaceableResource<HasMetadata>, HasMetadata> operation,
+      Function<NamespaceableResource<HasMetadata>, CompletableFuture<HasMetadata>> nonBlockingOperation) {
+    return BulkOperation.run(getResources(), context.getMaxInFlight(), r -> dependencyPhase(r.item()), operation,
+        nonBlockingOperation, context);
+  }
+
+  /**
+   * Namespaces and CustomResourceDefinitions need to exist before the items that are in them or of their type
+   */
+  static int dependencyPhase(HasMetadata item) {
+    if (item == null) {
+      return 1;
+    }
+    if ("Namespace".equals(item.getKind()) && "v1".equals(item.getApiVersion())) {
+      return 0;
+    }
+    if ("CustomResourceDefinition".equals(item.getKind())
+        && "apiextensions.k8s.io".equals(ApiVersionUtil.trimGroupOrNull(item.getApiVersion()))) {
+      return 0;
+    }
+    return 1;
   }
 
   @Override
@@ -312,6 +337,11 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
     return performOperation(Resource::replaceStatus);
   }
 
+  @Override
+  public ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> withConcurrency(int maxInFlight) {
+    return newInstance(context.withMaxInFlight(maxInFlight));
+  }
+
   @Override
   public DeletableWithOptions withTimeout(long timeout, TimeUnit unit) {
     return newInstance(context.withTimeout(timeout, unit));
@@ -329,12 +359,12 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> update() {
-    return performOperation(Resource::update);
+    return performOperation(Resource::update, r -> r.async().update());
   }
 
   @Override
   public List<HasMetadata> serverSideApply() {
-    return performOperation(Resource::serverSideApply);
+    return performOperation(Resource::serverSideApply, r -> r.async().serverSideApply());
   }
 
   @Override
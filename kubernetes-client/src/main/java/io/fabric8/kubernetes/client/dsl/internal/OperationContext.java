@@ -74,6 +74,7 @@ public class OperationContext {
 
   private long timeout;
   private TimeUnit timeoutUnit = TimeUnit.MILLISECONDS;
+  private int maxInFlight = 1;
 
   public OperationContext() {
   }
@@ -84,6 +85,7 @@ public class OperationContext {
         other.fieldsNot, other.resourceVersion, other.gracePeriodSeconds, other.propagationPolicy,
         other.dryRun, other.selectorAsString, other.defaultNamespace, other.fieldValidation, other.fieldManager,
         other.forceConflicts, other.timeout, other.timeoutUnit, other.requestConfig);
+    this.maxInFlight = other.maxInFlight;
   }
 
   @SuppressWarnings("java:S107")
@@ -561,6 +563,19 @@ public class OperationContext {
     return context;
   }
 
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public OperationContext withMaxInFlight(int maxInFlight) {
+    if (maxInFlight == this.maxInFlight) {
+      return this;
+    }
+    final OperationContext context = new OperationContext(this);
+    context.maxInFlight = maxInFlight;
+    return context;
+  }
+
   public OperationContext withRequestConfig(RequestConfig requestConfig) {
     if (requestConfig == this.requestConfig) {
       return this;
@@ -21,6 +21,7 @@ import io.fabric8.kubernetes.api.model.DeleteOptions;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.Preconditions;
 import io.fabric8.kubernetes.api.model.Status;
@@ -60,6 +61,7 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public class OperationSupport {
 
@@ -302,6 +304,11 @@ public class OperationSupport {
 
   protected KubernetesResource handleDelete(URL requestUrl, long gracePeriodSeconds, DeletionPropagation propagationPolicy,
       String resourceVersion) throws InterruptedException, IOException {
+    return waitForResult(handleDeleteAsync(requestUrl, gracePeriodSeconds, propagationPolicy, resourceVersion));
+  }
+
+  protected CompletableFuture<KubernetesResource> handleDeleteAsync(URL requestUrl, long gracePeriodSeconds,
+      DeletionPropagation propagationPolicy, String resourceVersion) throws IOException {
     DeleteOptions deleteOptions = new DeleteOptions();
     if (gracePeriodSeconds >= 0) {
       deleteOptions.setGracePeriodSeconds(gracePeriodSeconds);
@@ -320,7 +327,7 @@ public class OperationSupport {
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .delete(JSON, JSON_MAPPER.writeValueAsString(deleteOptions)).url(requestUrl);
 
-    return handleResponse(requestBuilder, KubernetesResource.class);
+    return handleResponseAsync(requestBuilder, KubernetesResource.class);
   }
 
   /**
@@ -336,11 +343,15 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T, I> T handleCreate(I resource, Class<T> outputType) throws InterruptedException, IOException {
+    return waitForResult(handleCreateAsync(resource, outputType));
+  }
+
+  protected <T, I> CompletableFuture<T> handleCreateAsync(I resource, Class<T> outputType) throws IOException {
     resource = correctNamespace(resource);
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .post(JSON, JSON_MAPPER.writeValueAsString(resource))
         .url(getResourceURLForWriteOperation(getResourceUrl(checkNamespace(resource), null)));
-    return handleResponse(requestBuilder, outputType);
+    return handleResponseAsync(requestBuilder, outputType);
   }
 
   /**
@@ -354,11 +365,15 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T> T handleUpdate(T updated, Class<T> type) throws IOException {
+    return waitForResult(handleUpdateAsync(updated, type));
+  }
+
+  protected <T> CompletableFuture<T> handleUpdateAsync(T updated, Class<T> type) throws IOException {
     updated = correctNamespace(updated);
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .put(JSON, JSON_MAPPER.writeValueAsString(updated))
         .url(getResourceURLForWriteOperation(getResourceUrl(checkNamespace(updated), checkName(updated))));
-    return handleResponse(requestBuilder, type);
+    return handleResponseAsync(requestBuilder, type);
   }
 
   /**
@@ -379,6 +394,11 @@ public class OperationSupport {
    */
   protected <T> T handlePatch(PatchContext patchContext, T current, T updated, Class<T> type)
       throws InterruptedException, IOException {
+    return waitForResult(handlePatchAsync(patchContext, current, updated, type));
+  }
+
+  protected <T> CompletableFuture<T> handlePatchAsync(PatchContext patchContext, T current, T updated, Class<T> type)
+      throws IOException {
     String patchForUpdate;
     if (current != null && (patchContext == null || patchContext.getPatchType() == PatchType.JSON)) {
       if (current instanceof HasMetadata) {
@@ -408,7 +428,7 @@ public class OperationSupport {
       patchForUpdate = Serialization.asJson(updated);
       current = updated; // use the updated to determine the path
     }
-    return handlePatch(patchContext, current, patchForUpdate, type);
+    return handlePatchAsync(patchContext, current, patchForUpdate, type);
   }
 
   /**
@@ -425,12 +445,17 @@ public class OperationSupport {
    */
   protected <T> T handlePatch(PatchContext patchContext, T current, String patchForUpdate, Class<T> type)
       throws InterruptedException, IOException {
+    return waitForResult(handlePatchAsync(patchContext, current, patchForUpdate, type));
+  }
+
+  protected <T> CompletableFuture<T> handlePatchAsync(PatchContext patchContext, T current, String patchForUpdate,
+      Class<T> type) throws IOException {
     String bodyContentType = getContentTypeFromPatchContextOrDefault(patchContext);
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .patch(bodyContentType, patchForUpdate)
         .url(getResourceURLForPatchOperation(getResourceUrl(checkNamespace(current), checkName(current)),
             patchContext));
-    return handleResponse(requestBuilder, type);
+    return handleResponseAsync(requestBuilder, type);
   }
 
   /**
@@ -478,8 +503,12 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T> T handleGet(URL resourceUrl, Class<T> type) throws InterruptedException, IOException {
+    return waitForResult(handleGetAsync(resourceUrl, type));
+  }
+
+  protected <T> CompletableFuture<T> handleGetAsync(URL resourceUrl, Class<T> type) {
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder().url(resourceUrl);
-    return handleResponse(requestBuilder, type);
+    return handleResponseAsync(requestBuilder, type);
   }
 
   /**
@@ -536,12 +565,25 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T> T handleResponse(HttpRequest.Builder requestBuilder, Class<T> type) throws IOException {
-    return waitForResult(handleResponse(httpClient, withRequestTimeout(requestBuilder), new TypeReference<T>() {
+    return waitForResult(handleResponseAsync(requestBuilder, type));
+  }
+
+  /**
+   * Send an http request and handle the response without waiting for it.
+   *
+   * @param requestBuilder Request Builder object
+   * @param type type of resource
+   * @param <T> template argument provided
+   *
+   * @return the future de-serialized api server response of the provided type.
+   */
+  protected <T> CompletableFuture<T> handleResponseAsync(HttpRequest.Builder requestBuilder, Class<T> type) {
+    return handleResponse(httpClient, withRequestTimeout(requestBuilder), new TypeReference<T>() {
       @Override
       public Type getType() {
         return type;
       }
-    }));
+    });
   }
 
   /**
@@ -563,7 +605,7 @@ public class OperationSupport {
       try {
         assertResponseCode(request, response);
         if (type != null && type.getType() != null) {
-          return Serialization.unmarshal(new ByteArrayInputStream(response.body()), type);
+          return unmarshal(response.body(), type);
         } else {
           return null;
         }
@@ -575,6 +617,52 @@ public class OperationSupport {
     });
   }
 
+  /**
+   * Send a list request and stream the items of the response to the consumer as they are parsed,
+   * rather than materializing the whole list.
+   *
+   * @param client the client
+   * @param requestBuilder Request builder
+   * @param itemType the type of the list items
+   * @param itemConsumer called with each item as it is read
+   * @param <T> Template argument provided
+   *
+   * @return the list metadata, which completes after all the items have been consumed
+   */
+  protected <T> CompletableFuture<ListMeta> handleStreamingListResponse(HttpClient client, HttpRequest.Builder requestBuilder,
+      Class<T> itemType, Consumer<? super T> itemConsumer) {
+    return handleStreamingListResponse(client, requestBuilder, itemType, itemConsumer, null, null);
+  }
+
+  /**
+   * Send a list request and stream the items of the response to the consumer as they are parsed.
+   *
+   * @param client the client
+   * @param requestBuilder Request builder
+   * @param itemType the type of the list items
+   * @param itemConsumer called with each item as it is read
+   * @param itemGate if not null, items are not read until it completes
+   * @param listMetaConsumer if not null, called with the list metadata as soon as it is read
+   * @param <T> Template argument provided
+   *
+   * @return the list metadata, which completes after all the items have been consumed
+   */
+  protected <T> CompletableFuture<ListMeta> handleStreamingListResponse(HttpClient client, HttpRequest.Builder requestBuilder,
+      Class<T> itemType, Consumer<? super T> itemConsumer, CompletableFuture<?> itemGate,
+      Consumer<ListMeta> listMetaConsumer) {
+    VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
+    HttpRequest request = requestBuilder.build();
+
+    StreamingListConsumer<T> consumer;
+    try {
+      consumer = new StreamingListConsumer<>(Serialization.jsonMapper(), request, itemType, itemConsumer,
+          response -> assertResponseCode(request, response), itemGate, listMetaConsumer);
+    } catch (IOException e) {
+      throw requestException(request, e);
+    }
+    return client.consumeBytes(request, consumer).thenCompose(consumer::onResponse);
+  }
+
   /**
    * Checks if the response status code is the expected and throws the appropriate KubernetesClientException if not.
    *
@@ -703,6 +791,25 @@ public class OperationSupport {
     return Serialization.unmarshal(is, type);
   }
 
+  /**
+   * Json is read straight from the array, other content goes through the yaml aware stream handling.
+   */
+  protected static <T> T unmarshal(byte[] body, TypeReference<T> type) {
+    for (byte b : body) {
+      if (!Character.isWhitespace(b)) {
+        if (b == '{' || b == '[') {
+          try {
+            return JSON_MAPPER.readerFor(type).readValue(body);
+          } catch (IOException e) {
+            throw KubernetesClientException.launderThrowable(e);
+          }
+        }
+        break;
+      }
+    }
+    return Serialization.unmarshal(new ByteArrayInputStream(body), type);
+  }
+
   protected static <T> Map<String, Object> getObjectValueAsMap(T object) {
     return JSON_MAPPER.convertValue(object, new TypeReference<Map<String, Object>>() {
     });
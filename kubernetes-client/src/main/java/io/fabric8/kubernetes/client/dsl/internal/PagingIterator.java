@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Iterates over the items of a list a page at a time, fetching the next page only once the
+ * items of the current page have been consumed.
+ *
+ * @param <T> the item type
+ */
+class PagingIterator<T> implements Iterator<T> {
+
+  private final Function<ListOptions, ? extends KubernetesResourceList<T>> lister;
+  private final ListOptions listOptions;
+
+  private Iterator<T> page = Collections.emptyIterator();
+  private String continueVal;
+  private boolean started;
+  private boolean done;
+
+  PagingIterator(Function<ListOptions, ? extends KubernetesResourceList<T>> lister, ListOptions listOptions) {
+    this.lister = lister;
+    this.listOptions = listOptions;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!page.hasNext() && !done) {
+      fetchNextPage();
+    }
+    return page.hasNext();
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return page.next();
+  }
+
+  private void fetchNextPage() {
+    ListOptions options = listOptions;
+    if (started) {
+      // a specific resourceVersion is not allowed with continue
+      options = new ListOptionsBuilder(listOptions).withContinue(continueVal).withResourceVersion(null)
+          .withResourceVersionMatch(null).build();
+    }
+    KubernetesResourceList<T> result;
+    try {
+      result = lister.apply(options);
+    } catch (KubernetesClientException e) {
+      done = true;
+      if (started && e.getCode() == HttpURLConnection.HTTP_GONE) {
+        throw new KubernetesClientException(
+            "The continue token expired before all pages were read, the listing must be restarted", e, e.getCode(),
+            e.getStatus(), (HttpRequest) null);
+      }
+      throw e;
+    }
+    started = true;
+    page = result.getItems() == null ? Collections.emptyIterator() : result.getItems().iterator();
+    continueVal = result.getMetadata() == null ? null : result.getMetadata().getContinue();
+    done = Utils.isNullOrEmpty(continueVal);
+  }
+
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * Fetches all of the pages of a list, sending the request for the next page as soon as its continue token
+ * has been read rather than after the previous page has been consumed.
+ * <p>
+ * At most readAhead pages are requested beyond the page whose items are being consumed. The items of
+ * a page are not read until those of the previous page have been handed over, so they remain in order.
+ */
+class PipelinedList {
+
+  @FunctionalInterface
+  interface PageFetcher {
+    /**
+     * @param listOptions the options for the page
+     * @param itemGate the items of the page must not be consumed until this completes
+     * @param listMetaConsumer to be called with the list metadata of the page as soon as it is read
+     * @return a future that completes with the list metadata after the items have been consumed
+     */
+    CompletableFuture<ListMeta> fetch(ListOptions listOptions, CompletableFuture<?> itemGate,
+        Consumer<ListMeta> listMetaConsumer);
+  }
+
+  private final PageFetcher fetcher;
+  private final ListOptions listOptions;
+  private final int readAhead;
+  private final CompletableFuture<ListMeta> result = new CompletableFuture<>();
+
+  private int requested;
+  private int completed;
+  private String nextContinue;
+  // completes after all of the requested pages have been consumed
+  private CompletableFuture<ListMeta> lastPage = CompletableFuture.completedFuture(null);
+
+  PipelinedList(PageFetcher fetcher, ListOptions listOptions, int readAhead) {
+    if (readAhead < 0) {
+      throw new IllegalArgumentException("readAhead must not be negative");
+    }
+    this.fetcher = fetcher;
+    this.listOptions = listOptions;
+    this.readAhead = readAhead;
+  }
+
+  /**
+   * @return a future that completes with the list metadata of the last page once all items have been consumed
+   */
+  CompletableFuture<ListMeta> start() {
+    synchronized (this) {
+      requested++;
+    }
+    request(listOptions);
+    return result;
+  }
+
+  private void request(ListOptions options) {
+    CompletableFuture<ListMeta> page = new CompletableFuture<>();
+    CompletableFuture<ListMeta> previous;
+    CompletableFuture<ListMeta> ordered;
+    synchronized (this) {
+      // the page is complete only once its predecessors are
+      previous = lastPage;
+      ordered = previous.thenCompose(v -> page);
+      lastPage = ordered;
+    }
+    try {
+      fetcher.fetch(options, previous, this::onListMeta).whenComplete((listMeta, t) -> {
+        if (t != null) {
+          page.completeExceptionally(t);
+        } else {
+          page.complete(listMeta);
+        }
+      });
+    } catch (RuntimeException e) {
+      page.completeExceptionally(e);
+    }
+    ordered.whenComplete(this::onPageDone);
+  }
+
+  private void onListMeta(ListMeta listMeta) {
+    if (Utils.isNotNullOrEmpty(listMeta.getContinue())) {
+      synchronized (this) {
+        nextContinue = listMeta.getContinue();
+      }
+      requestNext();
+    }
+  }
+
+  private void onPageDone(ListMeta listMeta, Throwable t) {
+    if (t != null) {
+      result.completeExceptionally(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+      return;
+    }
+    if (Utils.isNullOrEmpty(listMeta.getContinue())) {
+      result.complete(listMeta);
+      return;
+    }
+    synchronized (this) {
+      completed++;
+    }
+    requestNext();
+  }
+
+  private void requestNext() {
+    String continueVal;
+    synchronized (this) {
+      if (nextContinue == null || result.isDone() || requested > completed + readAhead) {
+        return;
+      }
+      continueVal = nextContinue;
+      nextContinue = null;
+      requested++;
+    }
+    // a specific resourceVersion is not allowed with continue
+    request(new ListOptionsBuilder(listOptions).withContinue(continueVal).withResourceVersion(null)
+        .withResourceVersionMatch(null).build());
+  }
+
+}
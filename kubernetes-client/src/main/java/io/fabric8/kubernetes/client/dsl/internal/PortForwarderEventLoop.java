@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Multiplexes the listening socket and all of the accepted sockets of a local port forward
+ * on a single thread.
+ * <p>
+ * All selection key and buffer manipulation must happen on the loop thread - other threads use
+ * {@link #execute(Runnable)}.
+ */
+class PortForwarderEventLoop implements Runnable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PortForwarderEventLoop.class);
+
+  static final int BUFFER_SIZE = 16 * 1024;
+
+  @FunctionalInterface
+  interface Handler {
+
+    /**
+     * Called on the loop thread when the channel is ready for one of its interest operations
+     */
+    void ready(SelectionKey key) throws IOException;
+
+  }
+
+  private final Selector selector;
+  private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+  // only used on the loop thread, the websocket implementations copy what is sent
+  private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private volatile boolean running = true;
+
+  PortForwarderEventLoop() throws IOException {
+    this.selector = Selector.open();
+  }
+
+  /**
+   * Run the task on the loop thread
+   */
+  void execute(Runnable task) {
+    tasks.add(task);
+    selector.wakeup();
+  }
+
+  /**
+   * Register the channel, must be called on the loop thread
+   */
+  SelectionKey register(SelectableChannel channel, int ops, Handler handler) throws IOException {
+    channel.configureBlocking(false);
+    return channel.register(selector, ops, handler);
+  }
+
+  /**
+   * @return the shared buffer for reads, must be used on the loop thread
+   */
+  ByteBuffer getReadBuffer() {
+    return readBuffer;
+  }
+
+  void stop() {
+    running = false;
+    selector.wakeup();
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (running && !Thread.currentThread().isInterrupted()) {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+          task.run();
+        }
+        selector.select();
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          SelectionKey key = keys.next();
+          keys.remove();
+          if (key.isValid()) {
+            ready(key);
+          }
+        }
+      }
+    } catch (IOException | ClosedSelectorException e) {
+      if (running) {
+        LOG.error("Error in the port forward selector", e);
+      }
+    } finally {
+      tasks.clear();
+      try {
+        selector.close();
+      } catch (IOException e) {
+        LOG.debug("Error closing the port forward selector", e);
+      }
+    }
+  }
+
+  private static void ready(SelectionKey key) {
+    try {
+      ((Handler) key.attachment()).ready(key);
+    } catch (IOException | RuntimeException e) {
+      // handlers are expected to deal with their own failures
+      LOG.debug("Unhandled exception in port forward handler", e);
+      key.cancel();
+    }
+  }
+
+}
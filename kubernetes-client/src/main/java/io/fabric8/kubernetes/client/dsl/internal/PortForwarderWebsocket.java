@@ -30,11 +30,13 @@ import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URL;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectionKey;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
@@ -42,6 +44,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A port-forwarder using the websocket protocol.
@@ -67,8 +70,15 @@ public class PortForwarderWebsocket {
       final ServerSocketChannel server = ServerSocketChannel.open().bind(inetSocketAddress);
 
       final AtomicBoolean alive = new AtomicBoolean(true);
+      // the open connections, closed connections are removed and added to the totals below
       final CopyOnWriteArrayList<PortForward> handles = new CopyOnWriteArrayList<>();
+      final AtomicLong closedBytesSent = new AtomicLong();
+      final AtomicLong closedBytesReceived = new AtomicLong();
+      final Collection<Throwable> closedClientThrowables = new CopyOnWriteArrayList<>();
+      final Collection<Throwable> closedServerThrowables = new CopyOnWriteArrayList<>();
 
+      // a single thread handles accepting and all socket io for this local port
+      final PortForwarderEventLoop loop = new PortForwarderEventLoop();
       final ExecutorService executorService = Executors.newSingleThreadExecutor();
 
       // Create a handle that can be used to retrieve information and stop the port-forward
@@ -80,6 +90,7 @@ public class PortForwarderWebsocket {
             server.close();
           } finally {
             Utils.closeQuietly(handles);
+            loop.stop();
             executorService.shutdownNow();
           }
         }
@@ -91,6 +102,9 @@ public class PortForwarderWebsocket {
 
         @Override
         public boolean errorOccurred() {
+          if (!closedClientThrowables.isEmpty() || !closedServerThrowables.isEmpty()) {
+            return true;
+          }
           for (PortForward handle : handles) {
             if (handle.errorOccurred()) {
               return true;
@@ -119,7 +133,7 @@ public class PortForwarderWebsocket {
 
         @Override
         public Collection<Throwable> getClientThrowables() {
-          Collection<Throwable> clientThrowables = new ArrayList<>();
+          Collection<Throwable> clientThrowables = new ArrayList<>(closedClientThrowables);
           for (PortForward handle : handles) {
             clientThrowables.addAll(handle.getClientThrowables());
           }
@@ -128,30 +142,62 @@ public class PortForwarderWebsocket {
 
         @Override
         public Collection<Throwable> getServerThrowables() {
-          Collection<Throwable> serverThrowables = new ArrayList<>();
+          Collection<Throwable> serverThrowables = new ArrayList<>(closedServerThrowables);
           for (PortForward handle : handles) {
             serverThrowables.addAll(handle.getServerThrowables());
           }
           return serverThrowables;
         }
+
+        @Override
+        public long getBytesSent() {
+          return closedBytesSent.get() + handles.stream().mapToLong(PortForward::getBytesSent).sum();
+        }
+
+        @Override
+        public long getBytesReceived() {
+          return closedBytesReceived.get() + handles.stream().mapToLong(PortForward::getBytesReceived).sum();
+        }
+
+        @Override
+        public Collection<PortForward> getConnections() {
+          return Collections.unmodifiableList(handles);
+        }
       };
 
       // Start listening on localhost for new connections.
       // Every new connection will open its own stream on the remote resource.
-      executorService.execute(() -> {
-        // accept cycle
-        while (alive.get()) {
-          try {
-            SocketChannel socket = server.accept();
-            handles.add(forward(resourceBaseUrl, port, socket, socket));
-          } catch (IOException e) {
-            if (alive.get()) {
-              LOG.error("Error while listening for connections", e);
+      loop.execute(() -> {
+        try {
+          loop.register(server, SelectionKey.OP_ACCEPT, key -> {
+            try {
+              SocketChannel socket;
+              while ((socket = server.accept()) != null) {
+                PortForwarderWebsocketListener listener = new PortForwarderWebsocketListener(socket, executor, loop);
+                PortForward handle = forward(resourceBaseUrl, port, listener);
+                handles.add(handle);
+                listener.whenClosed().thenRun(() -> {
+                  if (handles.remove(handle)) {
+                    closedBytesSent.addAndGet(handle.getBytesSent());
+                    closedBytesReceived.addAndGet(handle.getBytesReceived());
+                    closedClientThrowables.addAll(handle.getClientThrowables());
+                    closedServerThrowables.addAll(handle.getServerThrowables());
+                  }
+                });
+              }
+            } catch (IOException e) {
+              if (alive.get()) {
+                LOG.error("Error while listening for connections", e);
+              }
+              Utils.closeQuietly(localPortForwardHandle);
             }
-            Utils.closeQuietly(localPortForwardHandle);
-          }
+          });
+        } catch (IOException e) {
+          LOG.error("Error while listening for connections", e);
+          Utils.closeQuietly(localPortForwardHandle);
         }
       });
+      executorService.execute(loop);
 
       return localPortForwardHandle;
     } catch (IOException e) {
@@ -160,7 +206,10 @@ public class PortForwarderWebsocket {
   }
 
   public PortForward forward(URL resourceBaseUrl, int port, final ReadableByteChannel in, final WritableByteChannel out) {
-    final PortForwarderWebsocketListener listener = new PortForwarderWebsocketListener(in, out, executor);
+    return forward(resourceBaseUrl, port, new PortForwarderWebsocketListener(in, out, executor));
+  }
+
+  private PortForward forward(URL resourceBaseUrl, int port, final PortForwarderWebsocketListener listener) {
     CompletableFuture<WebSocket> socket = client
         .newWebSocketBuilder()
         .uri(URI.create(URLUtils.join(resourceBaseUrl.toString(), "portforward?ports=" + port)))
@@ -208,6 +257,16 @@ public class PortForwarderWebsocket {
       public Collection<Throwable> getServerThrowables() {
         return listener.getServerThrowables();
       }
+
+      @Override
+      public long getBytesSent() {
+        return listener.getBytesSent();
+      }
+
+      @Override
+      public long getBytesReceived() {
+        return listener.getBytesReceived();
+      }
     };
   }
 
@@ -25,14 +25,18 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BooleanSupplier;
 
 public class PortForwarderWebsocketListener implements WebSocket.Listener {
@@ -41,6 +45,8 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
   private static final String LOG_PREFIX = "FWD";
   private static final String PROTOCOL_ERROR = "Protocol error";
   private static final int BUFFER_SIZE = 4096;
+  // the websocket send queue size above which reading from an event loop client is paused
+  private static final long MAX_QUEUE_SIZE = 64L * PortForwarderEventLoop.BUFFER_SIZE;
 
   private final ExecutorService pumperService = Executors.newSingleThreadExecutor();
 
@@ -56,35 +62,150 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
 
   private final WritableByteChannel out;
 
+  private final AtomicLong bytesSent = new AtomicLong();
+
+  private final AtomicLong bytesReceived = new AtomicLong();
+
+  private final CompletableFuture<Void> closed = new CompletableFuture<>();
+
   private int messagesRead = 0;
 
+  // when non-null the socket is driven by the event loop, and the following fields are only used on the loop thread
+  private final PortForwarderEventLoop loop;
+  private SelectionKey key;
+  private ByteBuffer pending;
+  private boolean clientDone;
+
   public PortForwarderWebsocketListener(ReadableByteChannel in, WritableByteChannel out, Executor executor) {
+    this(in, out, executor, null);
+  }
+
+  /**
+   * Forward the socket using the event loop rather than a dedicated thread
+   */
+  PortForwarderWebsocketListener(SocketChannel socket, Executor executor, PortForwarderEventLoop loop) {
+    this(socket, socket, executor, loop);
+  }
+
+  private PortForwarderWebsocketListener(ReadableByteChannel in, WritableByteChannel out, Executor executor,
+      PortForwarderEventLoop loop) {
     this.in = in;
     this.out = out;
     this.serialExecutor = new SerialExecutor(executor);
+    this.loop = loop;
   }
 
   @Override
   public void onOpen(final WebSocket webSocket) {
     logger.debug("{}: onOpen", LOG_PREFIX);
-    if (in != null) {
+    if (loop != null) {
+      loop.execute(() -> {
+        try {
+          key = loop.register((SocketChannel) in, SelectionKey.OP_READ, k -> onReady(webSocket, k));
+        } catch (IOException e) {
+          onClientReadError(webSocket, e);
+        }
+      });
+    } else if (in != null) {
       pumperService.execute(() -> {
         try {
-          pipe(in, webSocket, alive::get);
+          pipe(in, webSocket, alive::get, bytesSent);
         } catch (IOException | InterruptedException e) {
           if (e instanceof InterruptedException) {
             Thread.currentThread().interrupt();
           }
-          logger.debug("Error while writing client data");
-          if (alive.get()) {
-            clientThrowables.add(e);
-            closeBothWays(webSocket, 1001, "Client error");
-          }
+          onClientReadError(webSocket, e);
         }
       });
     }
   }
 
+  private void onClientReadError(WebSocket webSocket, Exception e) {
+    logger.debug("Error while writing client data");
+    if (alive.get()) {
+      clientThrowables.add(e);
+      closeBothWays(webSocket, 1001, "Client error");
+    }
+  }
+
+  private void onClientWriteError(WebSocket webSocket, Exception e) {
+    if (alive.get()) {
+      clientThrowables.add(e);
+      logger.debug("Error while forwarding data to the client", e);
+      closeBothWays(webSocket, 1002, PROTOCOL_ERROR);
+    }
+  }
+
+  private void onReady(WebSocket webSocket, SelectionKey selectionKey) {
+    if (selectionKey.isWritable()) {
+      flush(webSocket);
+    }
+    if (selectionKey.isValid() && selectionKey.isReadable()) {
+      readFromClient(webSocket);
+    }
+  }
+
+  private void readFromClient(WebSocket webSocket) {
+    if (webSocket.queueSize() > MAX_QUEUE_SIZE) {
+      // stop reading until the websocket has caught up
+      setInterest(SelectionKey.OP_READ, false);
+      webSocket.whenQueueSizeAtMost(MAX_QUEUE_SIZE / 2)
+          .thenRun(() -> loop.execute(() -> setInterest(SelectionKey.OP_READ, !clientDone)));
+      return;
+    }
+    ByteBuffer buffer = loop.getReadBuffer();
+    buffer.clear();
+    buffer.put((byte) 0); // channel byte
+    try {
+      int read = in.read(buffer);
+      if (read > 0) {
+        buffer.flip();
+        webSocket.send(buffer);
+        bytesSent.addAndGet(read);
+      } else if (read < 0) {
+        // there's no way to convey a half close to the remote side, just stop reading
+        clientDone = true;
+        setInterest(SelectionKey.OP_READ, false);
+      }
+    } catch (IOException e) {
+      onClientReadError(webSocket, e);
+    }
+  }
+
+  /**
+   * Write as much of the pending message to the client as possible. The next message is only requested
+   * once the current one has been fully written.
+   */
+  private void flush(WebSocket webSocket) {
+    if (pending == null) {
+      setInterest(SelectionKey.OP_WRITE, false);
+      return;
+    }
+    try {
+      int written;
+      while (pending.hasRemaining() && (written = out.write(pending)) > 0) {
+        bytesReceived.addAndGet(written);
+      }
+    } catch (IOException e) {
+      pending = null;
+      onClientWriteError(webSocket, e);
+      return;
+    }
+    if (pending.hasRemaining()) {
+      setInterest(SelectionKey.OP_WRITE, true);
+    } else {
+      pending = null;
+      setInterest(SelectionKey.OP_WRITE, false);
+      webSocket.request();
+    }
+  }
+
+  private void setInterest(int op, boolean interested) {
+    if (key != null && key.isValid()) {
+      key.interestOps(interested ? key.interestOps() | op : key.interestOps() & ~op);
+    }
+  }
+
   @Override
   public void onMessage(WebSocket webSocket, String text) {
     logger.debug("{}: onMessage(String)", LOG_PREFIX);
@@ -124,11 +245,17 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
       closeForwarder();
     } else {
       // Data
-      if (out != null) {
+      if (loop != null) {
+        loop.execute(() -> {
+          pending = buffer; // channel byte already skipped
+          flush(webSocket);
+        });
+      } else if (out != null) {
         serialExecutor.execute(() -> {
           try {
             while (buffer.hasRemaining()) {
               int written = out.write(buffer); // channel byte already skipped
+              bytesReceived.addAndGet(written);
               if (written == 0) {
                 // out is non-blocking, prevent a busy loop
                 Thread.sleep(50);
@@ -139,11 +266,7 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
             if (e instanceof InterruptedException) {
               Thread.currentThread().interrupt();
             }
-            if (alive.get()) {
-              clientThrowables.add(e);
-              logger.debug("Error while forwarding data to the client", e);
-              closeBothWays(webSocket, 1002, PROTOCOL_ERROR);
-            }
+            onClientWriteError(webSocket, e);
           }
         });
       }
@@ -183,6 +306,14 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
     return serverThrowables;
   }
 
+  long getBytesSent() {
+    return bytesSent.get();
+  }
+
+  long getBytesReceived() {
+    return bytesReceived.get();
+  }
+
   void closeBothWays(WebSocket webSocket, int code, String message) {
     logger.debug("{}: Closing with code {} and reason: {}", LOG_PREFIX, code, message);
     alive.set(false);
@@ -206,10 +337,18 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
       }
       pumperService.shutdownNow();
       serialExecutor.shutdownNow();
+      closed.complete(null);
     });
   }
 
-  private static void pipe(ReadableByteChannel in, WebSocket webSocket, BooleanSupplier isAlive)
+  /**
+   * @return a future completed once both the client side and the websocket have been closed
+   */
+  CompletableFuture<Void> whenClosed() {
+    return closed;
+  }
+
+  private static void pipe(ReadableByteChannel in, WebSocket webSocket, BooleanSupplier isAlive, AtomicLong bytesSent)
       throws IOException, InterruptedException {
     final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
     int read;
@@ -220,6 +359,7 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
       if (read > 0) {
         buffer.flip();
         webSocket.send(buffer);
+        bytesSent.addAndGet(read);
       } else if (read == 0) {
         // in is non-blocking, prevent a busy loop
         Thread.sleep(50);
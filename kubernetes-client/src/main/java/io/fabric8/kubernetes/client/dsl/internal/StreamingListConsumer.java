@@ -0,0 +1,321 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.BufferUtil;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.HttpResponseAdapter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally parses a list response as the bytes arrive, handing each item to a consumer
+ * as soon as it has been read.
+ * <p>
+ * Only the tokens of the item currently being read are buffered, so neither the raw response
+ * nor the full list need to be held in memory.
+ * <p>
+ * When pipelining pages, an item gate may be supplied. The list metadata, and therefore the continue
+ * token, is still read eagerly, but reading of the items waits for the gate - without requesting more
+ * of the body - so that the items of the previous page are handed over first.
+ *
+ * @param <T> the item type
+ */
+class StreamingListConsumer<T> implements AsyncBody.Consumer<List<ByteBuffer>> {
+
+  private static final String ITEMS = "items";
+  private static final String METADATA = "metadata";
+
+  private final ObjectMapper mapper;
+  private final HttpRequest request;
+  private final Class<T> itemType;
+  private final Consumer<? super T> itemConsumer;
+  private final Consumer<HttpResponse<?>> responseValidator;
+  private final JsonParser parser;
+  private final ByteArrayFeeder feeder;
+  private final CompletableFuture<ListMeta> result = new CompletableFuture<>();
+  private final CompletableFuture<?> itemGate;
+  private final Consumer<ListMeta> listMetaConsumer;
+  // input that has been received, but not yet fed to the parser
+  private final ArrayDeque<ByteBuffer> pending = new ArrayDeque<>();
+
+  // non-null only when the response is an error, which is read fully to build the status
+  private List<ByteBuffer> errorBody;
+
+  private boolean started;
+  private boolean inItems;
+  private String field;
+  private int valueDepth;
+  private TokenBuffer value;
+  private ListMeta listMeta;
+  private AsyncBody asyncBody;
+  private boolean paused;
+  private HttpResponse<AsyncBody> doneResponse;
+
+  /**
+   * @param mapper the mapper used to bind the list metadata and the items
+   * @param request the request, used when reporting failures
+   * @param itemType the item type
+   * @param itemConsumer called with each item as it is read
+   * @param responseValidator should throw an exception if the response is not acceptable
+   */
+  StreamingListConsumer(ObjectMapper mapper, HttpRequest request, Class<T> itemType, Consumer<? super T> itemConsumer,
+      Consumer<HttpResponse<?>> responseValidator) throws IOException {
+    this(mapper, request, itemType, itemConsumer, responseValidator, null, null);
+  }
+
+  /**
+   * @param mapper the mapper used to bind the list metadata and the items
+   * @param request the request, used when reporting failures
+   * @param itemType the item type
+   * @param itemConsumer called with each item as it is read
+   * @param responseValidator should throw an exception if the response is not acceptable
+   * @param itemGate if not null, items are not read until it completes. If it completes exceptionally the
+   *        response is cancelled.
+   * @param listMetaConsumer if not null, called with the list metadata as soon as it is read
+   */
+  StreamingListConsumer(ObjectMapper mapper, HttpRequest request, Class<T> itemType, Consumer<? super T> itemConsumer,
+      Consumer<HttpResponse<?>> responseValidator, CompletableFuture<?> itemGate, Consumer<ListMeta> listMetaConsumer)
+      throws IOException {
+    this.mapper = mapper;
+    this.request = request;
+    this.itemType = itemType;
+    this.itemConsumer = itemConsumer;
+    this.responseValidator = responseValidator;
+    this.parser = mapper.getFactory().createNonBlockingByteArrayParser();
+    this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    this.itemGate = itemGate;
+    this.listMetaConsumer = listMetaConsumer;
+    if (itemGate != null) {
+      itemGate.whenComplete((v, t) -> resume());
+    }
+  }
+
+  /**
+   * Start consuming the body of the response.
+   *
+   * @param response the response
+   * @return a future that completes with the list metadata once all the items have been consumed
+   */
+  CompletableFuture<ListMeta> onResponse(HttpResponse<AsyncBody> response) {
+    AsyncBody body = response.body();
+    synchronized (this) {
+      this.asyncBody = body;
+      if (!response.isSuccessful()) {
+        errorBody = new ArrayList<>();
+      }
+    }
+    body.done().whenComplete((v, t) -> onBodyDone(response, t));
+    body.consume();
+    return result;
+  }
+
+  @Override
+  public synchronized void consume(List<ByteBuffer> buffers, AsyncBody asyncBody) throws Exception {
+    this.asyncBody = asyncBody;
+    if (errorBody != null) {
+      errorBody.addAll(buffers);
+      asyncBody.consume();
+      return;
+    }
+    // the buffers may need to be retained if the items are not yet to be read
+    boolean retain = itemGate != null && !itemGate.isDone();
+    for (ByteBuffer buffer : buffers) {
+      pending.add(retain ? ByteBuffer.wrap(BufferUtil.toArray(buffer)) : buffer);
+    }
+    drain();
+  }
+
+  private synchronized void resume() {
+    if (paused) {
+      paused = false;
+      drain();
+    }
+  }
+
+  /**
+   * Parse as much of the pending input as possible, then either request more or finish
+   */
+  private void drain() {
+    try {
+      if (itemGate != null && itemGate.isCompletedExceptionally()) {
+        asyncBody.cancel();
+        itemGate.join(); // throws the failure
+      }
+      if (!parseAvailable()) {
+        paused = true;
+        return;
+      }
+      ByteBuffer buffer;
+      while ((buffer = pending.poll()) != null) {
+        feed(buffer);
+        if (!parseAvailable()) {
+          paused = true;
+          return;
+        }
+      }
+    } catch (Exception e) {
+      asyncBody.cancel();
+      pending.clear();
+      result.completeExceptionally(e instanceof CompletionException ? e.getCause() : failure(e));
+      return;
+    }
+    if (doneResponse != null) {
+      finish(doneResponse);
+    } else {
+      asyncBody.consume();
+    }
+  }
+
+  private synchronized void onBodyDone(HttpResponse<AsyncBody> response, Throwable t) {
+    if (t != null) {
+      result.completeExceptionally(t);
+      return;
+    }
+    if (paused || !pending.isEmpty()) {
+      // finish once the remaining input has been parsed
+      doneResponse = response;
+      return;
+    }
+    finish(response);
+  }
+
+  private void finish(HttpResponse<AsyncBody> response) {
+    if (result.isDone()) {
+      return;
+    }
+    try {
+      if (errorBody != null) {
+        responseValidator.accept(new HttpResponseAdapter<>(response, BufferUtil.toArray(errorBody)));
+      } else {
+        responseValidator.accept(response);
+        feeder.endOfInput();
+        if (!started || parser.nextToken() != null) {
+          throw new IOException("Unexpected end of list response");
+        }
+      }
+      result.complete(listMeta == null ? new ListMeta() : listMeta);
+    } catch (Exception e) {
+      result.completeExceptionally(failure(e));
+    } finally {
+      errorBody = null;
+    }
+  }
+
+  private Exception failure(Exception e) {
+    if (e instanceof KubernetesClientException) {
+      return e;
+    }
+    return OperationSupport.requestException(request, e);
+  }
+
+  private void feed(ByteBuffer buffer) throws IOException {
+    if (buffer.hasArray()) {
+      int start = buffer.arrayOffset() + buffer.position();
+      feeder.feedInput(buffer.array(), start, start + buffer.remaining());
+    } else {
+      byte[] bytes = BufferUtil.toArray(buffer);
+      feeder.feedInput(bytes, 0, bytes.length);
+    }
+  }
+
+  /**
+   * The input must be fully consumed before more may be fed
+   *
+   * @return false if parsing is waiting on the item gate
+   */
+  private boolean parseAvailable() throws IOException {
+    while (true) {
+      if (inItems && valueDepth == 0 && itemGate != null && !itemGate.isDone()) {
+        return false;
+      }
+      JsonToken token = parser.nextToken();
+      if (token == null || token == JsonToken.NOT_AVAILABLE) {
+        return true;
+      }
+      onToken(token);
+    }
+  }
+
+  private void onToken(JsonToken token) throws IOException {
+    if (valueDepth > 0) {
+      // inside of a nested value - either collect it or skip it
+      if (value != null) {
+        value.copyCurrentEvent(parser);
+      }
+      if (token.isStructStart()) {
+        valueDepth++;
+      } else if (token.isStructEnd() && --valueDepth == 0) {
+        onValue();
+      }
+      return;
+    }
+    if (!started) {
+      if (token != JsonToken.START_OBJECT) {
+        throw new IOException("Expected a list object, but found " + token);
+      }
+      started = true;
+    } else if (token == JsonToken.FIELD_NAME) {
+      field = parser.getCurrentName();
+    } else if (token == JsonToken.START_ARRAY && !inItems && ITEMS.equals(field)) {
+      inItems = true;
+    } else if (token == JsonToken.END_ARRAY && inItems) {
+      inItems = false;
+    } else if (token.isStructStart()) {
+      // only the list metadata and the items are of interest
+      if (inItems || METADATA.equals(field)) {
+        value = new TokenBuffer(parser);
+        value.copyCurrentEvent(parser);
+      }
+      valueDepth = 1;
+    }
+  }
+
+  private void onValue() throws IOException {
+    TokenBuffer tokens = value;
+    value = null;
+    if (tokens == null) {
+      return;
+    }
+    try (JsonParser valueParser = tokens.asParser(mapper)) {
+      if (inItems) {
+        itemConsumer.accept(mapper.readValue(valueParser, itemType));
+      } else {
+        listMeta = mapper.readValue(valueParser, ListMeta.class);
+        if (listMetaConsumer != null) {
+          listMetaConsumer.accept(listMeta);
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.Watcher.Action;
+
+import java.io.IOException;
+
+/**
+ * Decodes watch events in a single streaming pass.
+ * <p>
+ * The {@code type} is read first and the {@code object} is then bound directly to the watched type, or to
+ * {@link Status} for error events, without building an intermediate tree or relying on the polymorphic
+ * deserialization by kind.
+ */
+public class WatchEventDecoder {
+
+  private static final String TYPE = "type";
+  private static final String OBJECT = "object";
+
+  private final ObjectMapper mapper;
+  private final Class<? extends KubernetesResource> type;
+
+  public WatchEventDecoder(ObjectMapper mapper, Class<? extends KubernetesResource> type) {
+    this.mapper = mapper;
+    this.type = type;
+  }
+
+  public WatchEvent decode(String message) throws IOException {
+    try (JsonParser parser = mapper.createParser(message)) {
+      return decode(parser);
+    }
+  }
+
+  public WatchEvent decode(byte[] message, int offset, int length) throws IOException {
+    try (JsonParser parser = mapper.createParser(message, offset, length)) {
+      return decode(parser);
+    }
+  }
+
+  WatchEvent decode(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw JsonMappingException.from(parser, "Expected a watch event object");
+    }
+    String eventType = null;
+    KubernetesResource object = null;
+    // the api server writes the type first, but that is not guaranteed
+    TokenBuffer deferredObject = null;
+    JsonToken token;
+    while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken valueToken = parser.nextToken();
+      if (TYPE.equals(field)) {
+        eventType = parser.getValueAsString();
+      } else if (OBJECT.equals(field) && valueToken != JsonToken.VALUE_NULL) {
+        if (eventType != null) {
+          object = readObject(parser, eventType);
+        } else {
+          deferredObject = new TokenBuffer(parser);
+          deferredObject.copyCurrentStructure(parser);
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+    if (token != JsonToken.END_OBJECT) {
+      throw JsonMappingException.from(parser, "Unexpected token in watch event " + token);
+    }
+    if (deferredObject != null) {
+      try (JsonParser objectParser = deferredObject.asParser(mapper)) {
+        object = readObject(objectParser, eventType);
+      }
+    }
+    return new WatchEvent(object, eventType);
+  }
+
+  private KubernetesResource readObject(JsonParser parser, String eventType) throws IOException {
+    return mapper.readValue(parser, Action.ERROR.name().equals(eventType) ? Status.class : type);
+  }
+
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.impl;
+
+import io.fabric8.kubernetes.api.model.APIResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Fetches the resources of the group versions ahead of a visit, with a bounded number of requests in flight.
+ * <p>
+ * At most maxInFlight group versions starting from the one currently being visited are fetched. Failures are
+ * only reported when the failed group version is actually requested, so skipped group versions behave as if
+ * they were never fetched.
+ * <p>
+ * A fetch that has not yet started when it is needed is run on the visiting thread, so a saturated
+ * executor delays the prefetching but never the visit.
+ */
+class ApiResourcesPrefetch implements AutoCloseable {
+
+  private final class Fetch implements Runnable {
+    private final String groupVersion;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CompletableFuture<APIResourceList> result = new CompletableFuture<>();
+
+    private Fetch(String groupVersion) {
+      this.groupVersion = groupVersion;
+    }
+
+    @Override
+    public void run() {
+      if (!started.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        result.complete(fetch.apply(groupVersion));
+      } catch (Throwable t) {
+        result.completeExceptionally(t);
+      }
+    }
+  }
+
+  private final List<String> groupVersions;
+  private final Function<String, APIResourceList> fetch;
+  private final Executor executor;
+  private final int maxInFlight;
+  private final Map<Integer, Fetch> fetches = new HashMap<>();
+
+  private int position;
+  private int next;
+  private int inFlight;
+  private boolean launching;
+  private boolean closed;
+
+  ApiResourcesPrefetch(List<String> groupVersions, int maxInFlight, Function<String, APIResourceList> fetch,
+      Executor executor) {
+    this.groupVersions = groupVersions;
+    this.fetch = fetch;
+    this.executor = executor;
+    this.maxInFlight = Math.max(1, maxInFlight);
+  }
+
+  /**
+   * Get the resources of the group version at the given index, which must not be lower than any previously
+   * requested index.
+   */
+  APIResourceList get(int index) {
+    Fetch current;
+    synchronized (this) {
+      position = index;
+      next = Math.max(next, index);
+      fetches.keySet().removeIf(i -> i < index);
+      current = fetches.get(index);
+      if (current == null) {
+        current = new Fetch(groupVersions.get(index));
+        fetches.put(index, current);
+        next = index + 1;
+      }
+    }
+    launch();
+    // run it here if no executor thread picked it up yet
+    current.run();
+    try {
+      return current.result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(e);
+    } catch (ExecutionException e) {
+      throw KubernetesClientException.launderThrowable(e.getCause());
+    }
+  }
+
+  private void launch() {
+    synchronized (this) {
+      if (launching) {
+        // the launching thread will pick up the freed capacity
+        return;
+      }
+      launching = true;
+    }
+    while (true) {
+      Fetch toStart;
+      synchronized (this) {
+        if (closed || inFlight >= maxInFlight || next >= groupVersions.size() || next >= position + maxInFlight) {
+          launching = false;
+          return;
+        }
+        toStart = new Fetch(groupVersions.get(next));
+        fetches.put(next++, toStart);
+        inFlight++;
+      }
+      toStart.result.whenComplete((r, t) -> {
+        synchronized (this) {
+          inFlight--;
+        }
+        launch();
+      });
+      try {
+        executor.execute(toStart);
+      } catch (RejectedExecutionException e) {
+        // it will be run by the visiting thread if needed
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    for (Fetch pending : fetches.values()) {
+      if (pending.started.compareAndSet(false, true)) {
+        pending.result.cancel(false);
+      }
+    }
+    fetches.clear();
+  }
+}
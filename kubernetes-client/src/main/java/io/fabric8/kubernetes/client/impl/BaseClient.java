@@ -249,11 +249,22 @@ public abstract class BaseClient implements Client {
 
   @Override
   public APIGroupList getApiGroups() {
+    DiscoveryCache discoveryCache = DiscoveryCache.forConfig(config);
+    if (discoveryCache != null) {
+      return discoveryCache.getApiGroups(httpClient, config.getRequestTimeout());
+    }
     return getOperationSupport().restCall(APIGroupList.class, APIS);
   }
 
   @Override
   public APIGroup getApiGroup(String name) {
+    if (DiscoveryCache.forConfig(config) != null) {
+      APIGroupList apiGroups = getApiGroups();
+      if (apiGroups == null) {
+        return null;
+      }
+      return apiGroups.getGroups().stream().filter(g -> name.equals(g.getName())).findFirst().orElse(null);
+    }
     return getOperationSupport().restCall(APIGroup.class, APIS, name);
   }
 
@@ -266,6 +277,10 @@ public abstract class BaseClient implements Client {
 
   @Override
   public APIResourceList getApiResources(String groupVersion) {
+    DiscoveryCache discoveryCache = DiscoveryCache.forConfig(config);
+    if (discoveryCache != null) {
+      return discoveryCache.getApiResources(httpClient, config.getRequestTimeout(), groupVersion);
+    }
     if ("v1".equals(groupVersion)) {
       return getOperationSupport().restCall(APIResourceList.class, "api", "v1");
     }
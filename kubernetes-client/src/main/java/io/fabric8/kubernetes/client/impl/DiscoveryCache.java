@@ -0,0 +1,369 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.APIGroupBuilder;
+import io.fabric8.kubernetes.api.model.APIGroupList;
+import io.fabric8.kubernetes.api.model.APIGroupListBuilder;
+import io.fabric8.kubernetes.api.model.APIResourceBuilder;
+import io.fabric8.kubernetes.api.model.APIResourceList;
+import io.fabric8.kubernetes.api.model.APIResourceListBuilder;
+import io.fabric8.kubernetes.api.model.GroupVersionForDiscovery;
+import io.fabric8.kubernetes.api.model.GroupVersionForDiscoveryBuilder;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.URLUtils;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the api discovery documents of a cluster, similar to the kubectl discovery cache.
+ * <p>
+ * A cache instance is shared by all clients of the same master url and optionally persisted to disk.
+ * Entries are considered fresh for the configured ttl, stale entries are revalidated using their ETag.
+ * <p>
+ * If the server supports aggregated discovery all groups and their resources are obtained with
+ * a single request to /apis, otherwise each group version is fetched, and cached, on demand.
+ */
+class DiscoveryCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DiscoveryCache.class);
+
+  static final String AGGREGATED_DISCOVERY_ACCEPT = "application/json;g=apidiscovery.k8s.io;v=v2;as=APIGroupDiscoveryList,"
+      + "application/json;g=apidiscovery.k8s.io;v=v2beta1;as=APIGroupDiscoveryList,application/json";
+  static final String APIS = "apis";
+  static final String API = "api";
+  private static final String AGGREGATED_DISCOVERY_KIND = "APIGroupDiscoveryList";
+
+  private static final Map<String, DiscoveryCache> CACHES = new ConcurrentHashMap<>();
+
+  private static final class Entry {
+    private final Object value;
+    private final String etag;
+    private final long fetched;
+    // the raw document, only for entries backed by their own request
+    private final JsonNode document;
+
+    private Entry(Object value, String etag, long fetched, JsonNode document) {
+      this.value = value;
+      this.etag = etag;
+      this.fetched = fetched;
+      this.document = document;
+    }
+  }
+
+  private final String masterUrl;
+  private final long ttl;
+  private final Path directory;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<String, Object> locks = new ConcurrentHashMap<>();
+  private volatile Boolean aggregated;
+
+  DiscoveryCache(String masterUrl, long ttl, Path directory) {
+    this.masterUrl = masterUrl;
+    this.ttl = ttl;
+    this.directory = directory;
+  }
+
+  /**
+   * Obtain the cache shared by all clients with the same master url and cache settings.
+   *
+   * @param config the client configuration
+   * @return the cache, or null if discovery caching is not enabled
+   */
+  static DiscoveryCache forConfig(Config config) {
+    if (config.getDiscoveryCacheTtl() <= 0 || config.getMasterUrl() == null) {
+      return null;
+    }
+    String dir = config.getDiscoveryCacheDir();
+    String key = config.getMasterUrl() + "|" + config.getDiscoveryCacheTtl() + "|" + dir;
+    return CACHES.computeIfAbsent(key, k -> new DiscoveryCache(config.getMasterUrl(), config.getDiscoveryCacheTtl(),
+        Utils.isNullOrEmpty(dir) ? null : Paths.get(dir).resolve(hostDirectory(config.getMasterUrl()))));
+  }
+
+  static String hostDirectory(String masterUrl) {
+    try {
+      URL url = new URL(masterUrl);
+      int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+      return (url.getHost() + "_" + port).replaceAll("[^a-zA-Z0-9._-]", "_");
+    } catch (MalformedURLException e) {
+      return masterUrl.replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+  }
+
+  APIGroupList getApiGroups(HttpClient client, long requestTimeout) {
+    return (APIGroupList) get(client, requestTimeout, APIS, APIS);
+  }
+
+  APIResourceList getApiResources(HttpClient client, long requestTimeout, String groupVersion) {
+    if ("v1".equals(groupVersion)) {
+      lookup(APIS);
+      return (APIResourceList) get(client, requestTimeout, API + "/v1", Boolean.TRUE.equals(aggregated) ? API : null);
+    }
+    lookup(APIS);
+    return (APIResourceList) get(client, requestTimeout, APIS + "/" + groupVersion,
+        Boolean.FALSE.equals(aggregated) ? null : APIS);
+  }
+
+  /**
+   * Get the value for the key, refreshing it if needed.
+   *
+   * @param key the discovery path
+   * @param root the aggregated discovery path that provides the key, or null if the key is fetched directly
+   */
+  private Object get(HttpClient client, long requestTimeout, String key, String root) {
+    Entry entry = lookup(key);
+    if (entry != null && isFresh(entry)) {
+      return entry.value;
+    }
+    if (root != null) {
+      Entry rootEntry = lookup(root);
+      if (rootEntry == null || !isFresh(rootEntry)) {
+        refresh(client, requestTimeout, root, rootEntry, true);
+      }
+      entry = entries.get(key);
+      if (entry != null && isFresh(entry)) {
+        return entry.value;
+      }
+      if (root.equals(key) || (APIS.equals(root) && Boolean.TRUE.equals(aggregated))) {
+        // not part of the aggregated document, so it is not served
+        return null;
+      }
+      // the server does not provide aggregated discovery for this root, fetch the key directly
+    }
+    entry = refresh(client, requestTimeout, key, entry, false);
+    return entry == null ? null : entry.value;
+  }
+
+  private boolean isFresh(Entry entry) {
+    return System.currentTimeMillis() - entry.fetched < ttl;
+  }
+
+  private Entry lookup(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null && directory != null) {
+      Path file = file(key);
+      if (Files.isRegularFile(file)) {
+        try {
+          JsonNode persisted = Serialization.jsonMapper().readTree(file.toFile());
+          JsonNode etag = persisted.get("etag");
+          store(key, persisted.get("document"), etag == null || etag.isNull() ? null : etag.asText(),
+              persisted.path("fetched").asLong(), false);
+          entry = entries.get(key);
+        } catch (IOException | RuntimeException e) {
+          LOGGER.debug("Ignoring unreadable discovery cache file {}", file, e);
+        }
+      }
+    }
+    return entry;
+  }
+
+  private Entry refresh(HttpClient client, long requestTimeout, String key, Entry previous, boolean acceptAggregated) {
+    // different keys may be refreshed concurrently, the same key only once at a time
+    synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+      return fetch(client, requestTimeout, key, previous, acceptAggregated);
+    }
+  }
+
+  private Entry fetch(HttpClient client, long requestTimeout, String key, Entry previous, boolean acceptAggregated) {
+    Entry current = entries.get(key);
+    if (current != null && current != previous && isFresh(current)) {
+      // refreshed concurrently
+      return current;
+    }
+    HttpRequest.Builder builder = client.newHttpRequestBuilder().uri(URLUtils.join(masterUrl, key));
+    if (requestTimeout > 0) {
+      builder.timeout(requestTimeout, TimeUnit.MILLISECONDS);
+    }
+    if (acceptAggregated) {
+      builder.header("Accept", AGGREGATED_DISCOVERY_ACCEPT);
+    }
+    if (previous != null && previous.etag != null && previous.document != null) {
+      builder.header("If-None-Match", previous.etag);
+    }
+    HttpRequest request = builder.build();
+    HttpResponse<String> response = waitFor(client.sendAsync(request, String.class));
+    long now = System.currentTimeMillis();
+    if (response.code() == HttpURLConnection.HTTP_NOT_MODIFIED && previous != null && previous.document != null) {
+      store(key, previous.document, previous.etag, now, true);
+      return entries.get(key);
+    }
+    if (response.code() == HttpURLConnection.HTTP_NOT_FOUND) {
+      // like restCall, a missing document is reported as null and is not cached
+      entries.remove(key);
+      return null;
+    }
+    if (!response.isSuccessful()) {
+      throw OperationSupport.requestFailure(request, OperationSupport.createStatus(response));
+    }
+    try {
+      JsonNode document = Serialization.jsonMapper().readTree(response.body());
+      List<String> etags = response.headers("ETag");
+      store(key, document, etags.isEmpty() ? null : etags.get(0), now, true);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+    return entries.get(key);
+  }
+
+  private void store(String key, JsonNode document, String etag, long fetched, boolean persist) {
+    if (AGGREGATED_DISCOVERY_KIND.equals(document.path("kind").asText())) {
+      aggregated = Boolean.TRUE;
+      storeAggregated(key, document, etag, fetched);
+    } else {
+      Object value;
+      if (APIS.equals(key)) {
+        aggregated = Boolean.FALSE;
+        value = Serialization.jsonMapper().convertValue(document, APIGroupList.class);
+      } else if (API.equals(key)) {
+        // core versions without aggregated discovery, only kept to avoid probing again
+        value = null;
+      } else {
+        value = Serialization.jsonMapper().convertValue(document, APIResourceList.class);
+      }
+      entries.put(key, new Entry(value, etag, fetched, document));
+    }
+    if (persist && directory != null) {
+      persist(key, document, etag, fetched);
+    }
+  }
+
+  private void storeAggregated(String root, JsonNode document, String etag, long fetched) {
+    APIGroupListBuilder groups = new APIGroupListBuilder();
+    for (JsonNode item : document.path("items")) {
+      String group = item.path("metadata").path("name").asText("");
+      List<GroupVersionForDiscovery> versions = new ArrayList<>();
+      for (JsonNode version : item.path("versions")) {
+        String groupVersion = group.isEmpty() ? version.path("version").asText()
+            : group + "/" + version.path("version").asText();
+        versions.add(new GroupVersionForDiscoveryBuilder()
+            .withGroupVersion(groupVersion)
+            .withVersion(version.path("version").asText())
+            .build());
+        entries.put(root + "/" + groupVersion, new Entry(toApiResourceList(groupVersion, version), null, fetched, null));
+      }
+      if (!group.isEmpty()) {
+        groups.addToGroups(new APIGroupBuilder()
+            .withName(group)
+            .withVersions(versions)
+            .withPreferredVersion(versions.isEmpty() ? null : versions.get(0))
+            .build());
+      }
+    }
+    entries.put(root, new Entry(groups.build(), etag, fetched, document));
+  }
+
+  private static APIResourceList toApiResourceList(String groupVersion, JsonNode version) {
+    APIResourceListBuilder resources = new APIResourceListBuilder().withGroupVersion(groupVersion);
+    for (JsonNode resource : version.path("resources")) {
+      String name = resource.path("resource").asText();
+      boolean namespaced = "Namespaced".equals(resource.path("scope").asText());
+      resources.addToResources(new APIResourceBuilder()
+          .withName(name)
+          .withSingularName(resource.path("singularResource").asText(""))
+          .withNamespaced(namespaced)
+          .withKind(resource.path("responseKind").path("kind").asText(null))
+          .withVerbs(strings(resource.path("verbs")))
+          .withShortNames(strings(resource.path("shortNames")))
+          .withCategories(strings(resource.path("categories")))
+          .build());
+      for (JsonNode subresource : resource.path("subresources")) {
+        resources.addToResources(new APIResourceBuilder()
+            .withName(name + "/" + subresource.path("subresource").asText())
+            .withSingularName("")
+            .withNamespaced(namespaced)
+            .withKind(subresource.path("responseKind").path("kind").asText(null))
+            .withVerbs(strings(subresource.path("verbs")))
+            .build());
+      }
+    }
+    return resources.build();
+  }
+
+  private static List<String> strings(JsonNode array) {
+    List<String> result = new ArrayList<>();
+    for (JsonNode value : array) {
+      result.add(value.asText());
+    }
+    return result;
+  }
+
+  private Path file(String key) {
+    return directory.resolve(key + ".json");
+  }
+
+  private void persist(String key, JsonNode document, String etag, long fetched) {
+    Path file = file(key);
+    try {
+      Files.createDirectories(file.getParent());
+      ObjectMapper mapper = Serialization.jsonMapper();
+      ObjectNode persisted = mapper.createObjectNode();
+      persisted.put("etag", etag);
+      persisted.put("fetched", fetched);
+      persisted.set("document", document);
+      Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+      try {
+        Files.write(temp, mapper.writeValueAsBytes(persisted));
+        try {
+          Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (IOException e) {
+      LOGGER.debug("Could not write the discovery cache file {}", file, e);
+    }
+  }
+
+  private static <T> T waitFor(CompletableFuture<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(e);
+    } catch (ExecutionException e) {
+      throw KubernetesClientException.launderThrowable(e.getCause());
+    }
+  }
+}
@@ -21,6 +21,7 @@ import io.fabric8.kubernetes.api.model.APIResourceList;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.KubernetesClientException;
@@ -30,7 +31,7 @@ import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperation;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
-import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.internal.KubernetesDeserializer;
 
 import java.util.Arrays;
 import java.util.List;
@@ -42,6 +43,7 @@ public final class Handlers {
 
   private final Map<Class<?>, ResourceHandler<?, ?>> resourceHandlers = new ConcurrentHashMap<>();
   private final Map<List<String>, ResourceDefinitionContext> genericDefinitions = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ResourceDefinitionContext> builtInDefinitions = new ConcurrentHashMap<>();
 
   public <T extends HasMetadata, L extends KubernetesResourceList<T>, R extends Resource<T>> void register(Class<T> type,
       Function<Client, HasMetadataOperation<T, L, R>> operationConstructor) {
@@ -89,12 +91,12 @@ public final class Handlers {
   public <T extends HasMetadata> ResourceDefinitionContext getResourceDefinitionContext(GenericKubernetesResource meta,
       Client client) {
     // check if it's built-in
-    Object value = Serialization.unmarshal(Serialization.asJson(meta));
-    Class<T> parsedType = (Class<T>) value.getClass();
+    Class<? extends KubernetesResource> registeredType = KubernetesDeserializer.getRegisteredType(meta.getApiVersion(),
+        meta.getKind());
 
     ResourceDefinitionContext rdc = null;
-    if (!parsedType.equals(GenericKubernetesResource.class)) {
-      rdc = ResourceDefinitionContext.fromResourceType(parsedType);
+    if (registeredType != null && !registeredType.equals(GenericKubernetesResource.class)) {
+      rdc = builtInDefinitions.computeIfAbsent(registeredType, ResourceDefinitionContext::fromResourceType);
     } else if (client != null) {
       // if a client has been supplied, we can try to look this up from the server
       String kind = meta.getKind();
@@ -166,9 +166,9 @@ import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Class for Kubernetes Client implementing KubernetesClient interface.
@@ -737,47 +737,56 @@ public class KubernetesClientImpl extends BaseClient implements NamespacedKubern
 
   @Override
   public void visitResources(ApiVisitor visitor) {
-    if (visitGroups(visitor, Arrays.asList(new APIGroupBuilder().withName("")
-        .withVersions(new GroupVersionForDiscoveryBuilder().withGroupVersion("v1").build()).build()))) {
-      return; // user terminated
+    List<APIGroup> groups = new ArrayList<>();
+    groups.add(new APIGroupBuilder().withName("")
+        .withVersions(new GroupVersionForDiscoveryBuilder().withGroupVersion("v1").build()).build());
+    groups.addAll(getApiGroups().getGroups());
+    List<String> groupVersions = groups.stream()
+        .flatMap(g -> g.getVersions().stream())
+        .map(GroupVersionForDiscovery::getGroupVersion)
+        .collect(Collectors.toList());
+    try (ApiResourcesPrefetch prefetch = new ApiResourcesPrefetch(groupVersions,
+        getConfiguration().getMaxConcurrentRequestsPerHost(), this::getApiResources, getExecutor())) {
+      visitGroups(visitor, groups, prefetch);
     }
-    visitGroups(visitor, getApiGroups().getGroups());
   }
 
-  private boolean visitGroups(ApiVisitor visitor, List<APIGroup> groups) {
+  private void visitGroups(ApiVisitor visitor, List<APIGroup> groups, ApiResourcesPrefetch prefetch) {
+    int index = -1;
     for (APIGroup group : groups) {
       switch (visitor.visitApiGroup(group.getName())) {
         case TERMINATE:
-          return true;
+          return;
         case SKIP:
+          index += group.getVersions().size();
           continue;
         case CONTINUE:
           for (GroupVersionForDiscovery groupForDiscovery : group.getVersions()) {
+            index++;
             String groupVersion = groupForDiscovery.getGroupVersion();
             String groupName = Utils.getNonNullOrElse(ApiVersionUtil.trimGroupOrNull(groupVersion), "");
             String version = ApiVersionUtil.trimVersion(groupVersion);
             ApiVisitResult versionResult = visitor.visitApiGroupVersion(groupName, version);
             switch (versionResult) {
               case TERMINATE:
-                return true;
+                return;
               case SKIP:
                 continue;
               case CONTINUE:
-                for (APIResource resource : this.getApiResources(groupVersion).getResources()) {
+                for (APIResource resource : prefetch.get(index).getResources()) {
                   if (resource.getName().contains("/")) { // skip subresources
                     continue;
                   }
                   ApiVisitResult resourceResult = visitor.visitResource(groupName, version, resource,
                       this.genericKubernetesResources(ResourceDefinitionContext.fromApiResource(groupVersion, resource)));
                   if (resourceResult == ApiVisitResult.TERMINATE) {
-                    return true;
+                    return;
                   }
                 }
             }
           }
       }
     }
-    return false;
   }
 
 }
@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.informers.impl;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.EventQueueOptions;
 import io.fabric8.kubernetes.client.informers.ExceptionHandler;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
@@ -34,6 +35,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
@@ -41,6 +43,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 public class DefaultSharedIndexInformer<T extends HasMetadata, L extends KubernetesResourceList<T>>
@@ -85,7 +89,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
     this.informerExecutor = informerExecutor;
     // reuse the informer executor, but ensure serial processing
-    this.processor = new SharedProcessor<>(informerExecutor, description);
+    this.processor = new SharedProcessor<>(informerExecutor, description, this.indexer::getKey);
 
     processorStore = new ProcessorStore<>(this.indexer, this.processor);
     this.reflector = new Reflector<>(listerWatcher, processorStore);
@@ -105,6 +109,12 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   @Override
   public SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handler,
       long resyncPeriodMillis) {
+    return addEventHandlerWithResyncPeriod(handler, resyncPeriodMillis, EventQueueOptions.unbounded());
+  }
+
+  @Override
+  public SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handler,
+      long resyncPeriodMillis, EventQueueOptions queueOptions) {
     if (stopped) {
       log.info("DefaultSharedIndexInformer#Handler was not added to {} because it has stopped already", this);
       return this;
@@ -133,7 +143,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     }
 
     this.processor.addProcessorListener(handler,
-        determineResyncPeriod(resyncPeriodMillis, this.resyncCheckPeriodMillis), this.indexer::list);
+        determineResyncPeriod(resyncPeriodMillis, this.resyncCheckPeriodMillis), this.indexer::list, queueOptions);
 
     return this;
   }
@@ -154,7 +164,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
       }
 
       if (initialState != null) {
-        initialState.forEach(indexer::put);
+        initialState.map(processorStore::transform).filter(Objects::nonNull).forEach(indexer::put);
         reflector.usingInitialState();
       }
     }
@@ -224,6 +234,11 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return reflector.isWatching();
   }
 
+  @Override
+  public long getDroppedNotificationCount() {
+    return processor.getDroppedCount();
+  }
+
   synchronized void scheduleResync(BooleanSupplier resyncFunc) {
     // schedule the resync runnable
     if (resyncCheckPeriodMillis > 0) {
@@ -270,6 +285,35 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return this;
   }
 
+  @Override
+  public synchronized SharedIndexInformer<T> transform(UnaryOperator<T> transform) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting the transform");
+    }
+    this.processorStore.setTransform(transform);
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> sendInitialEvents(boolean sendInitialEvents) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when changing how the initial state is retrieved");
+    }
+    this.reflector.sendInitialEvents(sendInitialEvents);
+    return this;
+  }
+
+  /**
+   * Exclude the resources that do not match, regardless of any {@link #transform(UnaryOperator)}
+   */
+  synchronized DefaultSharedIndexInformer<T, L> filter(Predicate<T> filter) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting the filter");
+    }
+    this.processorStore.setFilter(filter);
+    return this;
+  }
+
   @Override
   public synchronized SharedIndexInformer<T> itemStore(ItemStore<T> itemStore) {
     if (started.get()) {
@@ -16,11 +16,13 @@
 package io.fabric8.kubernetes.client.informers.impl;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * ListerWatcher is any object that knows how to perform an initial list and
@@ -34,6 +36,26 @@ public interface ListerWatcher<T extends HasMetadata, L> {
 
   CompletableFuture<L> submitList(ListOptions listOptions);
 
+  /**
+   * List the items, handing each to the consumer as it is read rather than materializing the whole list.
+   *
+   * @param listOptions the list options
+   * @param itemConsumer called with each item as it is read
+   * @return the list metadata, which completes after all the items have been consumed
+   */
+  CompletableFuture<ListMeta> submitList(ListOptions listOptions, Consumer<? super T> itemConsumer);
+
+  /**
+   * List all pages of the items, requesting the next page as soon as its continue token is read.
+   *
+   * @param listOptions the list options, including the page size limit
+   * @param readAhead the number of pages that may be requested ahead of the page being consumed
+   * @param itemConsumer called in order with each item as it is read
+   * @return the list metadata of the last page, which completes after all the items have been consumed
+   */
+  CompletableFuture<ListMeta> submitListPipelined(ListOptions listOptions, int readAhead,
+      Consumer<? super T> itemConsumer);
+
   Long getLimit();
 
   int getWatchReconnectInterval();
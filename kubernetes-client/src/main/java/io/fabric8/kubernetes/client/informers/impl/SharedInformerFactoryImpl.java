@@ -17,6 +17,8 @@ package io.fabric8.kubernetes.client.informers.impl;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.authorization.v1.SelfSubjectAccessReview;
+import io.fabric8.kubernetes.api.model.authorization.v1.SelfSubjectAccessReviewBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.Informable;
@@ -26,14 +28,22 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.SharedInformerEventListener;
 import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * SharedInformerFactory class constructs and caches informers for api types.
@@ -49,8 +59,22 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
 
   private final ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners = new ConcurrentLinkedQueue<>();
 
+  // informers waiting for a start budget slot
+  private final Queue<PendingStart> pendingStarts = new ConcurrentLinkedQueue<>();
+
+  private static final class PendingStart {
+    private final SharedIndexInformer<?> informer;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    private PendingStart(SharedIndexInformer<?> informer) {
+      this.informer = informer;
+    }
+  }
+
   private String name;
   private String namespace;
+  private volatile int maxConcurrentStarts;
+  private volatile long maxStartJitterMillis;
 
   private final KubernetesClient client;
 
@@ -94,6 +118,74 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
     return informer;
   }
 
+  @Override
+  public <T extends HasMetadata> List<SharedIndexInformer<T>> sharedIndexInformersFor(Class<T> apiTypeClass,
+      Collection<String> namespaces, long resyncPeriodInMillis) {
+    Set<String> namespaceSet = new LinkedHashSet<>(namespaces);
+    if (namespaceSet.isEmpty()) {
+      throw new IllegalArgumentException("At least one namespace is required");
+    }
+    // the access reviews are blocking requests, so they are made without holding the factory lock
+    boolean shareWatch = namespaceSet.size() > 1 && canListAndWatchAllNamespaces(apiTypeClass);
+    MixedOperation<T, KubernetesResourceList<T>, Resource<T>> resources = client.resources(apiTypeClass);
+
+    List<SharedIndexInformer<T>> result = new ArrayList<>();
+    if (shareWatch) {
+      // a single watch, demultiplexed client-side
+      Predicate<T> inNamespaces = r -> namespaceSet.contains(r.getMetadata().getNamespace());
+      SharedIndexInformer<T> informer = resources.inAnyNamespace().runnableInformer(resyncPeriodInMillis);
+      if (informer instanceof DefaultSharedIndexInformer) {
+        // kept separate from the transform, which may still be set by the caller
+        ((DefaultSharedIndexInformer<T, ?>) informer).filter(inNamespaces);
+      } else {
+        informer.transform(r -> inNamespaces.test(r) ? r : null);
+      }
+      result.add(informer);
+    } else {
+      // without access to all namespaces, each one needs its own watch
+      for (String ns : namespaceSet) {
+        result.add(resources.inNamespace(ns).runnableInformer(resyncPeriodInMillis));
+      }
+    }
+
+    synchronized (this) {
+      this.informers.addAll(result);
+    }
+    return result;
+  }
+
+  private boolean canListAndWatchAllNamespaces(Class<? extends HasMetadata> apiTypeClass) {
+    for (String verb : new String[] { "list", "watch" }) {
+      SelfSubjectAccessReview review = new SelfSubjectAccessReviewBuilder().withNewSpec().withNewResourceAttributes()
+          .withGroup(HasMetadata.getGroup(apiTypeClass))
+          .withResource(HasMetadata.getPlural(apiTypeClass))
+          .withVerb(verb)
+          .endResourceAttributes()
+          .endSpec()
+          .build();
+      try {
+        review = client.authorization().v1().selfSubjectAccessReview().create(review);
+      } catch (KubernetesClientException e) {
+        log.debug("Could not determine if {} may be watched in all namespaces", apiTypeClass, e);
+        return false;
+      }
+      if (review.getStatus() == null || !Boolean.TRUE.equals(review.getStatus().getAllowed())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized SharedInformerFactory withStartBudget(int maxConcurrentStarts, long maxJitterMillis) {
+    if (maxConcurrentStarts < 0 || maxJitterMillis < 0) {
+      throw new IllegalArgumentException("The start budget and jitter must not be negative");
+    }
+    this.maxConcurrentStarts = maxConcurrentStarts;
+    this.maxStartJitterMillis = maxJitterMillis;
+    return this;
+  }
+
   @Override
   public synchronized <T> SharedIndexInformer<T> getExistingSharedIndexInformer(Class<T> apiTypeClass) {
     for (SharedIndexInformer<?> informer : this.informers) {
@@ -110,7 +202,9 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
 
     if (!informers.isEmpty()) {
       for (SharedIndexInformer<?> informer : informers) {
-        CompletableFuture<Void> future = informer.start().toCompletableFuture();
+        PendingStart pending = new PendingStart(informer);
+        CompletableFuture<Void> future = pending.future;
+        pendingStarts.add(pending);
         startInformerTasks.add(future);
         future.whenComplete((v, t) -> {
           if (t != null) {
@@ -123,12 +217,55 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
           }
         });
       }
+      int concurrentStarts = maxConcurrentStarts == 0 ? informers.size() : Math.min(maxConcurrentStarts, informers.size());
+      for (int i = 0; i < concurrentStarts; i++) {
+        startNext();
+      }
     }
     return CompletableFuture.allOf(startInformerTasks.toArray(new CompletableFuture[] {}));
   }
 
+  private void startNext() {
+    PendingStart pending = pendingStarts.poll();
+    if (pending == null) {
+      return;
+    }
+    if (maxStartJitterMillis == 0) {
+      start(pending);
+    } else {
+      // start is non-blocking, so it may run on the scheduling thread
+      Utils.schedule(Runnable::run, () -> start(pending), ThreadLocalRandom.current().nextLong(maxStartJitterMillis + 1),
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void start(PendingStart pending) {
+    CompletableFuture<Void> started;
+    try {
+      started = pending.informer.start();
+    } catch (RuntimeException e) {
+      // for example the informer was stopped while waiting
+      started = new CompletableFuture<>();
+      started.completeExceptionally(e);
+    }
+    // the informer stop completes the start future as well
+    started.whenComplete((v, t) -> {
+      if (t != null) {
+        pending.future.completeExceptionally(t);
+      } else {
+        pending.future.complete(v);
+      }
+      // free up the budget for the next informer
+      startNext();
+    });
+  }
+
   @Override
   public synchronized void stopAllRegisteredInformers() {
+    PendingStart pending;
+    while ((pending = pendingStarts.poll()) != null) {
+      pending.future.completeExceptionally(new KubernetesClientException("informer manually stopped before starting"));
+    }
     informers.forEach(SharedIndexInformer::stop);
   }
 
@@ -24,18 +24,22 @@ import io.fabric8.kubernetes.client.utils.ReflectUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * It basically saves and indexes all the entries.
+ * <p>
+ * Modifications are serialized on the cache lock (see {@link #getLockObject()}), which keeps
+ * the ordering guarantees relied upon by the {@link ProcessorStore}. Reads do not take the lock - the
+ * items and the index buckets are held in concurrent structures so that lookups from many worker threads
+ * do not contend with the single watch event writer.
  *
  * @param <T> type for cache object
  */
@@ -44,13 +48,46 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
   public static final String NAMESPACE_INDEX = "namespace";
 
   // indexers stores index functions by their names
-  private final Map<String, Function<T, List<String>>> indexers = new HashMap<>();
+  private final Map<String, Function<T, List<String>>> indexers = new ConcurrentHashMap<>();
 
   // items stores object instances
-  private ItemStore<T> items;
+  private volatile ItemStore<T> items;
 
   // indices stores objects' key by their indices
-  private final Map<String, Map<String, Set<String>>> indices = new HashMap<>();
+  private final Map<String, Index> indices = new ConcurrentHashMap<>();
+
+  /**
+   * Holds the keys of the objects for each value of a single index.
+   * <p>
+   * The buckets are concurrent sets, so they may be read while the writer is updating them.
+   */
+  private static class Index {
+
+    // ConcurrentHashMap does not allow null keys, but index functions may return null values
+    private static final Object NULL_VALUE = new Object();
+
+    private final Map<Object, Set<String>> values = new ConcurrentHashMap<>();
+
+    void add(String indexValue, String key) {
+      values.computeIfAbsent(indexValue == null ? NULL_VALUE : indexValue, k -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    void remove(String indexValue, String key) {
+      values.computeIfPresent(indexValue == null ? NULL_VALUE : indexValue, (k, v) -> {
+        v.remove(key);
+        return v.isEmpty() ? null : v;
+      });
+    }
+
+    Set<String> get(String indexValue) {
+      return values.getOrDefault(indexValue == null ? NULL_VALUE : indexValue, Collections.emptySet());
+    }
+
+    boolean isEmpty() {
+      return values.isEmpty();
+    }
+
+  }
 
   public CacheImpl() {
     this(NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc, Cache::metaNamespaceKeyFunc);
@@ -71,7 +108,7 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return registered indexers
    */
   @Override
-  public synchronized Map<String, Function<T, List<String>>> getIndexers() {
+  public Map<String, Function<T, List<String>>> getIndexers() {
     return Collections.unmodifiableMap(indexers);
   }
 
@@ -179,31 +216,26 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> index(String indexName, T obj) {
-    if (!this.indexers.containsKey(indexName)) {
+  public List<T> index(String indexName, T obj) {
+    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
+    Index index = this.indices.get(indexName);
+    if (indexFunc == null || index == null) {
       throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
     }
-    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
-    List<String> indexKeys = indexFunc.apply(obj);
-    Map<String, Set<String>> index = this.indices.get(indexName);
     if (index.isEmpty()) {
       return new ArrayList<>();
     }
+    List<String> indexKeys = indexFunc.apply(obj);
+    if (indexKeys == null || indexKeys.isEmpty()) {
+      return new ArrayList<>();
+    }
 
     Set<String> returnKeySet = new HashSet<>();
     for (String indexKey : indexKeys) {
-      Set<String> set = index.get(indexKey);
-      if (set.isEmpty()) {
-        continue;
-      }
-      returnKeySet.addAll(set);
+      returnKeySet.addAll(index.get(indexKey));
     }
 
-    List<T> items = new ArrayList<>(returnKeySet.size());
-    for (String absoluteKey : returnKeySet) {
-      items.add(this.items.get(absoluteKey));
-    }
-    return items;
+    return getItems(returnKeySet);
   }
 
   /**
@@ -214,17 +246,8 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<String> indexKeys(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    Set<String> set = index.get(indexKey);
-    List<String> keys = new ArrayList<>(set.size());
-    for (String key : set) {
-      keys.add(key);
-    }
-    return keys;
+  public List<String> indexKeys(String indexName, String indexKey) {
+    return new ArrayList<>(getIndex(indexName).get(indexKey));
   }
 
   /**
@@ -235,20 +258,28 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> byIndex(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
+  public List<T> byIndex(String indexName, String indexKey) {
+    return getItems(getIndex(indexName).get(indexKey));
+  }
+
+  private Index getIndex(String indexName) {
+    Index index = this.indices.get(indexName);
+    if (index == null) {
       throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
     }
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    Set<String> set = index.get(indexKey);
-    if (set == null) {
-      return Arrays.asList();
-    }
-    List<T> items = new ArrayList<>(set.size());
-    for (String key : set) {
-      items.add(this.items.get(key));
+    return index;
+  }
+
+  private List<T> getItems(Set<String> keys) {
+    List<T> result = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      // the item may have been removed since the index was read
+      T item = this.items.get(key);
+      if (item != null) {
+        result.add(item);
+      }
     }
-    return items;
+    return result;
   }
 
   /**
@@ -261,27 +292,37 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param key the key
    */
   void updateIndices(T oldObj, T newObj, String key) {
-    if (oldObj != null) {
-      deleteFromIndices(oldObj, key);
-    }
-
     for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexers.entrySet()) {
       String indexName = indexEntry.getKey();
       Function<T, List<String>> indexFunc = indexEntry.getValue();
-      Map<String, Set<String>> index = this.indices.get(indexName);
-
-      updateIndex(key, newObj, indexFunc, index);
+      Index index = this.indices.get(indexName);
+      if (index == null) {
+        continue;
+      }
+      List<String> newValues = updateIndex(key, newObj, indexFunc, index);
+      if (oldObj != null) {
+        // remove the stale entries only after adding the new ones, so that lock-free readers
+        // never miss an object that remains in the same bucket
+        List<String> oldValues = indexFunc.apply(oldObj);
+        if (oldValues != null) {
+          for (String oldValue : oldValues) {
+            if (newValues == null || !newValues.contains(oldValue)) {
+              index.remove(oldValue, key);
+            }
+          }
+        }
+      }
     }
   }
 
-  private void updateIndex(String key, T newObj, Function<T, List<String>> indexFunc, Map<String, Set<String>> index) {
+  private List<String> updateIndex(String key, T newObj, Function<T, List<String>> indexFunc, Index index) {
     List<String> indexValues = indexFunc.apply(newObj);
     if (indexValues != null && !indexValues.isEmpty()) {
       for (String indexValue : indexValues) {
-        Set<String> indexSet = index.computeIfAbsent(indexValue, k -> new HashSet<>());
-        indexSet.add(key);
+        index.add(indexValue, key);
       }
     }
+    return indexValues;
   }
 
   /**
@@ -300,15 +341,12 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
         continue;
       }
 
-      Map<String, Set<String>> index = this.indices.get(indexEntry.getKey());
+      Index index = this.indices.get(indexEntry.getKey());
       if (index == null) {
         continue;
       }
       for (String indexValue : indexValues) {
-        Set<String> indexSet = index.get(indexValue);
-        if (indexSet != null) {
-          indexSet.remove(key);
-        }
+        index.remove(indexValue, key);
       }
     }
   }
@@ -320,11 +358,11 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param indexFunc the index func
    */
   public synchronized CacheImpl<T> addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
-    HashMap<String, Set<String>> index = new HashMap<>();
-    this.indices.put(indexName, index);
-    this.indexers.put(indexName, indexFunc);
-
+    Index index = new Index();
+    // populate the index before it is visible to readers
     items.values().forEach(v -> updateIndex(getKey(v), v, indexFunc, index));
+    this.indexers.put(indexName, indexFunc);
+    this.indices.put(indexName, index);
     return this;
   }
 
@@ -0,0 +1,312 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import io.fabric8.kubernetes.client.informers.EventQueueOptions;
+import io.fabric8.kubernetes.client.informers.EventQueueOptions.OverflowPolicy;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.AddNotification;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.DeleteNotification;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.Notification;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.UpdateNotification;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The pending work for a single {@link ProcessorListener}.
+ * <p>
+ * Tasks are run in the order they are added, draining on the shared executor only while there
+ * is something queued - similar to a {@link io.fabric8.kubernetes.client.utils.internal.SerialExecutor},
+ * but with an optional capacity and {@link OverflowPolicy}.
+ */
+class ListenerQueue<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(ListenerQueue.class);
+
+  private static final class Entry<T> {
+    final String key;
+    Notification<T> notification;
+    Consumer<ProcessorListener<T>> operation;
+
+    Entry(String key, Notification<T> notification, Consumer<ProcessorListener<T>> operation) {
+      this.key = key;
+      this.notification = notification;
+      this.operation = operation;
+    }
+
+    boolean isCancelled() {
+      return notification == null && operation == null;
+    }
+  }
+
+  private final ProcessorListener<T> listener;
+  private final Executor executor;
+  private final Function<T, String> keyFunction;
+  private final EventQueueOptions options;
+  private final String informerDescription;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notFull = lock.newCondition();
+  private final Deque<Entry<T>> entries = new ArrayDeque<>();
+  // the latest pending entry for a key, only tracked when coalescing
+  private final Map<String, Entry<T>> pendingByKey = new HashMap<>();
+  private final AtomicLong dropped = new AtomicLong();
+  private int size;
+  private boolean draining;
+  private boolean shutdown;
+  private Thread thread;
+
+  ListenerQueue(ProcessorListener<T> listener, Executor executor, Function<T, String> keyFunction,
+      EventQueueOptions options, String informerDescription) {
+    this.listener = listener;
+    this.executor = executor;
+    this.keyFunction = keyFunction;
+    this.options = options;
+    this.informerDescription = informerDescription;
+  }
+
+  ProcessorListener<T> getListener() {
+    return listener;
+  }
+
+  /**
+   * @return the number of notifications that have been discarded due to the {@link OverflowPolicy#DROP} policy,
+   *         or because the producer was interrupted while waiting for room
+   */
+  long getDroppedCount() {
+    return dropped.get();
+  }
+
+  int size() {
+    lock.lock();
+    try {
+      return size;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void add(Notification<T> notification) {
+    enqueue(notification, null, false);
+  }
+
+  void add(Consumer<ProcessorListener<T>> operation) {
+    enqueue(null, operation, false);
+  }
+
+  /**
+   * Add the notification regardless of the capacity
+   */
+  void addUnbounded(Notification<T> notification) {
+    enqueue(notification, null, true);
+  }
+
+  private void enqueue(Notification<T> notification, Consumer<ProcessorListener<T>> operation, boolean ignoreCapacity) {
+    boolean coalescing = options.getOverflowPolicy() == OverflowPolicy.COALESCE && keyFunction != null;
+    String key = null;
+    if (coalescing && notification != null) {
+      T obj = notification.getNewObject() != null ? notification.getNewObject() : notification.getOldObject();
+      key = keyFunction.apply(obj);
+    }
+    boolean schedule = false;
+    int depth;
+    lock.lock();
+    try {
+      while (!shutdown && !ignoreCapacity && size >= options.getCapacity()) {
+        if (key != null && coalesce(key, notification)) {
+          return;
+        }
+        if (options.getOverflowPolicy() == OverflowPolicy.DROP) {
+          drop();
+          return;
+        }
+        try {
+          notFull.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          drop();
+          return;
+        }
+      }
+      if (shutdown) {
+        throw new RejectedExecutionException();
+      }
+      Entry<T> entry = new Entry<>(key, notification, operation);
+      entries.add(entry);
+      depth = ++size;
+      if (key != null) {
+        pendingByKey.put(key, entry);
+      }
+      if (!draining) {
+        draining = true;
+        schedule = true;
+      }
+    } finally {
+      lock.unlock();
+    }
+    ClientMetrics.getInstance().informerEventQueued(informerDescription, depth);
+    if (schedule) {
+      scheduleDrain();
+    }
+  }
+
+  private void drop() {
+    long count = dropped.incrementAndGet();
+    if (count == 1) {
+      log.warn("{} event queue is full for {}, dropping notifications", informerDescription, listener.getHandler());
+    } else {
+      log.debug("{} dropped notification {} for {}", informerDescription, count, listener.getHandler());
+    }
+    ClientMetrics.getInstance().informerEventDropped(informerDescription, count);
+  }
+
+  /**
+   * Merge the notification into the pending entry for the same key.
+   *
+   * @return true if the notification no longer needs to be queued
+   */
+  private boolean coalesce(String key, Notification<T> notification) {
+    Entry<T> pending = pendingByKey.get(key);
+    if (pending == null) {
+      return false;
+    }
+    Notification<T> previous = pending.notification;
+    if (previous instanceof DeleteNotification) {
+      // a recreate is not an update, the handler must see both
+      return false;
+    }
+    if (notification instanceof UpdateNotification) {
+      if (previous instanceof AddNotification) {
+        pending.notification = new AddNotification<>(notification.getNewObject());
+      } else {
+        pending.notification = new UpdateNotification<>(previous.getOldObject(), notification.getNewObject());
+      }
+      return true;
+    }
+    if (notification instanceof DeleteNotification) {
+      if (previous instanceof AddNotification) {
+        // the handler never saw the add, so it does not need to see the delete
+        pending.notification = null;
+        pendingByKey.remove(key);
+        size--;
+        notFull.signal();
+      } else {
+        pending.notification = notification;
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private void scheduleDrain() {
+    try {
+      executor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      lock.lock();
+      try {
+        draining = false;
+      } finally {
+        lock.unlock();
+      }
+      throw e;
+    }
+  }
+
+  private void drain() {
+    lock.lock();
+    try {
+      thread = Thread.currentThread();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      ClientMetrics metrics = ClientMetrics.getInstance();
+      Entry<T> entry;
+      while ((entry = poll()) != null) {
+        long start = System.nanoTime();
+        try {
+          if (entry.notification != null) {
+            listener.add(entry.notification);
+          } else {
+            entry.operation.accept(listener);
+          }
+        } catch (Exception ex) {
+          log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
+              ex);
+        }
+        metrics.informerHandlerCompleted(informerDescription, System.nanoTime() - start);
+      }
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  private Entry<T> poll() {
+    lock.lock();
+    try {
+      Entry<T> entry;
+      do {
+        entry = entries.poll();
+      } while (entry != null && entry.isCancelled());
+      if (entry == null || shutdown) {
+        draining = false;
+        thread = null;
+        return null;
+      }
+      size--;
+      if (entry.key != null && pendingByKey.get(entry.key) == entry) {
+        pendingByKey.remove(entry.key);
+      }
+      notFull.signal();
+      return entry;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Discard everything pending, release any blocked producers, and interrupt
+   * the running handler if it is not the thread that initiated the shutdown.
+   */
+  void shutdownNow() {
+    lock.lock();
+    try {
+      shutdown = true;
+      entries.clear();
+      pendingByKey.clear();
+      size = 0;
+      notFull.signalAll();
+      if (thread != null && thread != Thread.currentThread()) {
+        thread.interrupt();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+}
@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Wraps a {@link Cache} and a {@link SharedProcessor} to distribute events related to changes and syncs
@@ -35,12 +37,40 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
   private SharedProcessor<T> processor;
   private AtomicBoolean synced = new AtomicBoolean();
   private List<String> deferredAdd = new ArrayList<>();
+  private UnaryOperator<T> transform;
+  private Predicate<T> filter;
 
   public ProcessorStore(CacheImpl<T> cache, SharedProcessor<T> processor) {
     this.cache = cache;
     this.processor = processor;
   }
 
+  /**
+   * Set the transform to apply to items before they are stored and distributed.
+   * Items transformed to null are excluded - if they were already cached, they are removed with a delete notification.
+   */
+  public void setTransform(UnaryOperator<T> transform) {
+    this.transform = transform;
+  }
+
+  /**
+   * Set the filter to apply to items before the transform. It is independent of the transform,
+   * so it is kept when the transform is replaced. Items that do not match are excluded like those transformed to null.
+   */
+  public void setFilter(Predicate<T> filter) {
+    this.filter = filter;
+  }
+
+  public T transform(T obj) {
+    if (obj == null || (filter != null && !filter.test(obj))) {
+      return null;
+    }
+    if (transform == null) {
+      return obj;
+    }
+    return transform.apply(obj);
+  }
+
   @Override
   public void add(T obj) {
     update(obj);
@@ -51,7 +81,13 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
     items.stream().map(this::updateInternal).filter(Objects::nonNull).forEach(n -> this.processor.distribute(n, false));
   }
 
-  private Notification<T> updateInternal(T obj) {
+  private Notification<T> updateInternal(T raw) {
+    T obj = transform(raw);
+    if (obj == null) {
+      // no longer included, the key comes from the raw object as the transform gave nothing to key
+      T oldObj = this.cache.remove(raw);
+      return oldObj == null ? null : new ProcessorListener.DeleteNotification<>(oldObj, false);
+    }
     T oldObj = this.cache.put(obj);
     Notification<T> notification = null;
     if (oldObj != null) {
@@ -76,9 +112,10 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
 
   @Override
   public void delete(T obj) {
-    Object oldObj = this.cache.remove(obj);
+    // removed by the key of the raw object, whatever the transform now makes of it
+    T oldObj = this.cache.remove(obj);
     if (oldObj != null) {
-      this.processor.distribute(new ProcessorListener.DeleteNotification<>(obj, false), false);
+      this.processor.distribute(new ProcessorListener.DeleteNotification<>(oldObj, false), false);
     }
   }
 
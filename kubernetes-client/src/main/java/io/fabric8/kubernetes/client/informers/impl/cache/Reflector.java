@@ -17,6 +17,8 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
@@ -25,14 +27,17 @@ import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
 import io.fabric8.kubernetes.client.informers.ExceptionHandler;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.HttpURLConnection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -43,6 +48,8 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private static final Logger log = LoggerFactory.getLogger(Reflector.class);
 
   private static long MIN_TIMEOUT = TimeUnit.MINUTES.toSeconds(5);
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+  private static final int LIST_READ_AHEAD = 1;
 
   private volatile String lastSyncResourceVersion;
   private final ListerWatcher<T, L> listerWatcher;
@@ -54,6 +61,7 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private final CompletableFuture<Void> startFuture = new CompletableFuture<>();
   private final CompletableFuture<Void> stopFuture = new CompletableFuture<>();
   private final ExponentialBackoffIntervalCalculator retryIntervalCalculator;
+  private final String endpointPath;
   //default behavior - retry if started and it's not a watcherexception
   private volatile ExceptionHandler handler = (b, t) -> b && !(t instanceof WatcherException);
   private long minTimeout = MIN_TIMEOUT;
@@ -62,10 +70,22 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
 
   private boolean cachedListing = true;
 
+  private volatile boolean sendInitialEvents;
+  private volatile InitialEvents initialEvents;
+
+  /**
+   * Tracks the keys seen while a watch is streaming the initial state
+   */
+  private static final class InitialEvents {
+    private final Set<String> keys = new ConcurrentSkipListSet<>();
+    private final CompletableFuture<Void> end = new CompletableFuture<>();
+  }
+
   public Reflector(ListerWatcher<T, L> listerWatcher, SyncableStore<T> store) {
     this.listerWatcher = listerWatcher;
     this.store = store;
     this.watcher = new ReflectorWatcher();
+    this.endpointPath = listerWatcher.getApiEndpointPath();
     this.retryIntervalCalculator = new ExponentialBackoffIntervalCalculator(listerWatcher.getWatchReconnectInterval(),
         ExponentialBackoffIntervalCalculator.UNLIMITED_RETRIES);
   }
@@ -115,10 +135,15 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     if (isStopped()) {
       return CompletableFuture.completedFuture(null);
     }
+    if (sendInitialEvents) {
+      return watchList();
+    }
     Set<String> nextKeys = new ConcurrentSkipListSet<>();
-    CompletableFuture<Void> theFuture = processList(nextKeys, null).thenCompose(result -> {
+    long listStart = System.nanoTime();
+    CompletableFuture<Void> theFuture = processList(nextKeys).thenCompose(result -> {
+      ClientMetrics.getInstance().informerListCompleted(endpointPath, nextKeys.size(), System.nanoTime() - listStart);
       store.retainAll(nextKeys);
-      final String latestResourceVersion = result.getMetadata().getResourceVersion();
+      final String latestResourceVersion = result.getResourceVersion();
       lastSyncResourceVersion = latestResourceVersion;
       log.debug("Listing items ({}) for {} at v{}", nextKeys.size(), this, latestResourceVersion);
       return startWatcher(latestResourceVersion);
@@ -128,6 +153,7 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
           if (log.isDebugEnabled()) {
             log.debug("Watch started for {}", Reflector.this);
           }
+          ClientMetrics.getInstance().informerWatchStarted(endpointPath);
           watching = true;
         } else {
           stopWatch(w);
@@ -145,6 +171,70 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     return theFuture;
   }
 
+  /**
+   * Rather than listing, start a watch that streams the current state as ADDED events ending with a bookmark.
+   * If the server rejects the request, revert to list and watch.
+   */
+  private CompletableFuture<Void> watchList() {
+    InitialEvents events = new InitialEvents();
+    initialEvents = events;
+    long listStart = System.nanoTime();
+    ListOptions options = new ListOptionsBuilder()
+        .withResourceVersionMatch(AbstractWatchManager.RESOURCE_VERSION_MATCH_NOT_OLDER_THAN)
+        .withAllowWatchBookmarks(true)
+        .withTimeoutSeconds(minTimeout * 2)
+        .build();
+    options.setAdditionalProperty(AbstractWatchManager.SEND_INITIAL_EVENTS, true);
+    CompletableFuture<Void> theFuture = startWatcher(options).thenCompose(w -> {
+      if (w == null) {
+        return CompletableFuture.completedFuture(null);
+      }
+      if (isStopped()) {
+        stopWatch(w);
+        return CompletableFuture.completedFuture(null);
+      }
+      ClientMetrics.getInstance().informerWatchStarted(endpointPath);
+      watching = true;
+      return events.end;
+    });
+    theFuture.whenComplete((v, t) -> {
+      if (initialEvents == events) {
+        initialEvents = null;
+      }
+      if (t instanceof CompletionException && t.getCause() != null) {
+        t = t.getCause();
+      }
+      if (t == null) {
+        log.debug("Watch list of items ({}) for {} complete at v{}", events.keys.size(), this, lastSyncResourceVersion);
+        ClientMetrics.getInstance().informerListCompleted(endpointPath, events.keys.size(), System.nanoTime() - listStart);
+        startFuture.complete(null);
+        retryIntervalCalculator.resetReconnectAttempts();
+      } else if (isWatchListUnsupported(t)) {
+        log.info("Streaming the initial list is not supported for {}, falling back to list and watch", this);
+        sendInitialEvents = false;
+        stopWatcher();
+        listSyncAndWatch();
+      } else if (t instanceof WatcherException && ((WatcherException) t).isHttpGone()) {
+        reconnect();
+      } else {
+        stopWatcher();
+        onException("watchList", t);
+      }
+    });
+    return theFuture;
+  }
+
+  private static boolean isWatchListUnsupported(Throwable t) {
+    if (t instanceof WatcherException) {
+      t = ((WatcherException) t).asClientException();
+    }
+    if (t instanceof KubernetesClientException) {
+      int code = ((KubernetesClientException) t).getCode();
+      return code == HttpURLConnection.HTTP_BAD_REQUEST || code == HTTP_UNPROCESSABLE_ENTITY;
+    }
+    return false;
+  }
+
   private void onException(String operation, Throwable t) {
     if (handler.retryAfterException(startFuture.isDone() && !startFuture.isCompletedExceptionally(), t)) {
       log.warn("{} failed for {}, will retry", operation, Reflector.this, t);
@@ -165,32 +255,26 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
         retryIntervalCalculator.nextReconnectInterval(), TimeUnit.MILLISECONDS);
   }
 
-  private CompletableFuture<L> processList(Set<String> nextKeys, String continueVal) {
-    CompletableFuture<L> futureResult = listerWatcher
-        .submitList(
-            new ListOptionsBuilder()
-                // if caching is allowed, start with 0 - meaning any cached version is fine for the initial listing
-                .withResourceVersion(isCachedListing(continueVal) ? "0" : null)
-                .withLimit(listerWatcher.getLimit()).withContinue(continueVal)
-                .build());
-
-    return futureResult.thenCompose(result -> {
-      result.getItems().forEach(i -> {
-        String key = store.getKey(i);
-        nextKeys.add(key);
-      });
-      store.update(result.getItems());
-      String nextContinueVal = result.getMetadata().getContinue();
-      if (Utils.isNotNullOrEmpty(nextContinueVal)) {
-        return processList(nextKeys, nextContinueVal);
-      }
-      return CompletableFuture.completedFuture(result);
-    });
+  private CompletableFuture<ListMeta> processList(Set<String> nextKeys) {
+    // items are streamed into the store as they are parsed, so the full list is never held in memory,
+    // and the next page is requested while the current one is still being read
+    return listerWatcher.submitListPipelined(
+        new ListOptionsBuilder()
+            // if caching is allowed, start with 0 - meaning any cached version is fine for the initial listing
+            .withResourceVersion(isCachedListing() ? "0" : null)
+            .withLimit(listerWatcher.getLimit())
+            .build(),
+        LIST_READ_AHEAD,
+        i -> {
+          String key = store.getKey(i);
+          nextKeys.add(key);
+          store.update(i);
+        });
   }
 
-  private boolean isCachedListing(String continueVal) {
-    // allow an initial cached listing only if there's no initial state, no limit, we haven't already sync'd, and this isn't a continue request
-    return cachedListing && listerWatcher.getLimit() == null && lastSyncResourceVersion == null && continueVal == null;
+  private boolean isCachedListing() {
+    // allow an initial cached listing only if there's no initial state, no limit, and we haven't already sync'd
+    return cachedListing && listerWatcher.getLimit() == null && lastSyncResourceVersion == null;
   }
 
   private void stopWatch(Watch w) {
@@ -199,20 +283,22 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     watchStopped(); // proactively report as stopped
   }
 
-  private synchronized CompletableFuture<? extends Watch> startWatcher(final String latestResourceVersion) {
+  private CompletableFuture<? extends Watch> startWatcher(final String latestResourceVersion) {
+    log.debug("Starting watcher for {} at v{}", this, latestResourceVersion);
+    return startWatcher(new ListOptionsBuilder().withResourceVersion(latestResourceVersion)
+        // this would match the behavior of the go client, but requires changing a lot of mock expectations
+        // so instead we'll terminate below and set a fail-safe here
+        // .withTimeoutSeconds((long) ((Math.random() + 1) * minTimeout))
+        .withTimeoutSeconds(minTimeout * 2)
+        .build());
+  }
+
+  private synchronized CompletableFuture<AbstractWatchManager<T>> startWatcher(ListOptions options) {
     if (isStopped()) {
       return CompletableFuture.completedFuture(null);
     }
-    log.debug("Starting watcher for {} at v{}", this, latestResourceVersion);
     // there's no need to stop the old watch, that will happen automatically when this call completes
-    CompletableFuture<AbstractWatchManager<T>> future = listerWatcher.submitWatch(
-        new ListOptionsBuilder().withResourceVersion(latestResourceVersion)
-            // this would match the behavior of the go client, but requires changing a lot of mock expectations
-            // so instead we'll terminate below and set a fail-safe here
-            // .withTimeoutSeconds((long) ((Math.random() + 1) * minTimeout))
-            .withTimeoutSeconds(minTimeout * 2)
-            .build(),
-        watcher);
+    CompletableFuture<AbstractWatchManager<T>> future = listerWatcher.submitWatch(options, watcher);
 
     // the alternative to this is to localize the logic in the AbstractWatchManager, however since
     // we only need it for informers, it seems fine here
@@ -264,6 +350,11 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
             resource.getKind(),
             resource.getMetadata().getResourceVersion(), Reflector.this);
       }
+      InitialEvents events = initialEvents;
+      if (events != null && !events.end.isDone()) {
+        onInitialEvent(events, action, resource);
+        return;
+      }
       switch (action) {
         case ERROR:
           throw new KubernetesClientException("ERROR event");
@@ -280,11 +371,33 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
       lastSyncResourceVersion = resource.getMetadata().getResourceVersion();
     }
 
+    private void onInitialEvent(InitialEvents events, Action action, T resource) {
+      switch (action) {
+        case ADDED:
+          events.keys.add(store.getKey(resource));
+          store.update(resource);
+          break;
+        case BOOKMARK:
+          if (AbstractWatchManager.isInitialEventsEnd(resource)) {
+            store.retainAll(events.keys);
+            lastSyncResourceVersion = resource.getMetadata().getResourceVersion();
+            events.end.complete(null);
+          }
+          break;
+        default:
+          throw new KubernetesClientException("Unexpected " + action + " event while receiving initial events");
+      }
+    }
+
     @Override
     public void onClose(WatcherException exception) {
       // this close was triggered by an exception,
       // not the user, it is expected that the watch retry will handle this
       watchStopped();
+      InitialEvents events = initialEvents;
+      if (events != null && events.end.completeExceptionally(exception)) {
+        return; // handled by watchList
+      }
       if (exception.isHttpGone()) {
         if (log.isDebugEnabled()) {
           log.debug("Watch restarting due to http gone for {}", Reflector.this);
@@ -314,7 +427,7 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
 
   @Override
   public String toString() {
-    return listerWatcher.getApiEndpointPath();
+    return endpointPath;
   }
 
   public CompletableFuture<Void> getStopFuture() {
@@ -329,4 +442,12 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     this.cachedListing = false;
   }
 
+  /**
+   * Use the watch list protocol, available from Kubernetes 1.27, to stream the initial state
+   * rather than listing it. Falls back to list and watch if the server rejects the request.
+   */
+  public void sendInitialEvents(boolean sendInitialEvents) {
+    this.sendInitialEvents = sendInitialEvents;
+  }
+
 }
@@ -15,10 +15,9 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.client.informers.EventQueueOptions;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
-import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -29,6 +28,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -39,29 +39,37 @@ import java.util.function.Supplier;
  * https://github.com/kubernetes-client/java/blob/master/util/src/main/java/io/kubernetes/client/informer/cache/SharedProcessor.java
  *
  * <br>
- * Modified to simplify threading
+ * Modified to simplify threading - each listener has its own queue on the shared executor,
+ * so listeners progress independently while the ordering for each listener is preserved.
  */
 public class SharedProcessor<T> {
-  private static final Logger log = LoggerFactory.getLogger(SharedProcessor.class);
-
   private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
-  private final List<ProcessorListener<T>> listeners = new ArrayList<>();
-  private final List<ProcessorListener<T>> syncingListeners = new ArrayList<>();
-  private final SerialExecutor executor;
+  private final List<ListenerQueue<T>> listeners = new ArrayList<>();
+  private final List<ListenerQueue<T>> syncingListeners = new ArrayList<>();
+  private final Executor executor;
   private final String informerDescription;
+  private final Function<T, String> keyFunction;
+  private volatile boolean stopped;
 
   public SharedProcessor() {
     this(Runnable::run, "informer");
   }
 
   public SharedProcessor(Executor executor, String informerDescription) {
-    // serialexecutors are by default unbounded, we expect this behavior here
-    // because resync may flood the executor with events for large caches
-    // if we ever need to limit the queue size, we have to revisit the
-    // resync locking behavior
-    this.executor = new SerialExecutor(executor);
+    this(executor, informerDescription, null);
+  }
+
+  /**
+   * @param keyFunction used to identify the notifications that may be coalesced, may be null
+   */
+  public SharedProcessor(Executor executor, String informerDescription, Function<T, String> keyFunction) {
+    // listener queues are unbounded unless requested otherwise because resync
+    // may flood them with events for large caches. A bounded queue with the
+    // BLOCK policy will hold up the resync, which holds the cache lock
+    this.executor = executor;
     this.informerDescription = informerDescription;
+    this.keyFunction = keyFunction;
   }
 
   /**
@@ -70,15 +78,21 @@ public class SharedProcessor<T> {
    * @param processorListener specific processor listener
    */
   public void addListener(final ProcessorListener<T> processorListener) {
+    addListener(processorListener, EventQueueOptions.unbounded());
+  }
+
+  private ListenerQueue<T> addListener(final ProcessorListener<T> processorListener, EventQueueOptions options) {
+    ListenerQueue<T> queue = new ListenerQueue<>(processorListener, executor, keyFunction, options, informerDescription);
     lock.writeLock().lock();
     try {
-      this.listeners.add(processorListener);
+      this.listeners.add(queue);
       if (processorListener.isReSync()) {
-        this.syncingListeners.add(processorListener);
+        this.syncingListeners.add(queue);
       }
     } finally {
       lock.writeLock().unlock();
     }
+    return queue;
   }
 
   /**
@@ -88,38 +102,53 @@ public class SharedProcessor<T> {
    * @param isSync whether in sync or not
    */
   public void distribute(ProcessorListener.Notification<T> obj, boolean isSync) {
-    distribute(l -> l.add(obj), isSync);
+    long start = System.nanoTime();
+    List<ListenerQueue<T>> queues = getListeners(isSync);
+    for (ListenerQueue<T> queue : queues) {
+      try {
+        queue.add(obj);
+      } catch (RejectedExecutionException e) {
+        // do nothing
+      }
+    }
+    ClientMetrics.getInstance().informerEventDistributed(informerDescription, queues.size(), System.nanoTime() - start);
   }
 
   /**
    * Distribute the operation to the respective listeners
    */
   public void distribute(Consumer<ProcessorListener<T>> operation, boolean isSync) {
-    // obtain the list to call outside before submitting
+    for (ListenerQueue<T> queue : getListeners(isSync)) {
+      try {
+        queue.add(operation);
+      } catch (RejectedExecutionException e) {
+        // do nothing
+      }
+    }
+  }
+
+  private List<ListenerQueue<T>> getListeners(boolean isSync) {
+    // obtain the list to call outside of the lock, so that a full queue does not block other operations
     lock.readLock().lock();
-    List<ProcessorListener<T>> toCall;
     try {
       if (isSync) {
-        toCall = new ArrayList<>(syncingListeners);
-      } else {
-        toCall = new ArrayList<>(listeners);
+        return new ArrayList<>(syncingListeners);
       }
+      return new ArrayList<>(listeners);
     } finally {
       lock.readLock().unlock();
     }
+  }
+
+  /**
+   * @return the number of notifications discarded across all listeners
+   */
+  public long getDroppedCount() {
+    lock.readLock().lock();
     try {
-      executor.execute(() -> {
-        for (ProcessorListener<T> listener : toCall) {
-          try {
-            operation.accept(listener);
-          } catch (Exception ex) {
-            log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
-                ex);
-          }
-        }
-      });
-    } catch (RejectedExecutionException e) {
-      // do nothing
+      return listeners.stream().mapToLong(ListenerQueue::getDroppedCount).sum();
+    } finally {
+      lock.readLock().unlock();
     }
   }
 
@@ -130,10 +159,11 @@ public class SharedProcessor<T> {
       this.syncingListeners.clear();
 
       ZonedDateTime now = ZonedDateTime.now();
-      for (ProcessorListener<T> listener : this.listeners) {
+      for (ListenerQueue<T> queue : this.listeners) {
+        ProcessorListener<T> listener = queue.getListener();
         if (listener.shouldResync(now)) {
           resyncNeeded = true;
-          this.syncingListeners.add(listener);
+          this.syncingListeners.add(queue);
           listener.determineNextResync(now);
         }
       }
@@ -144,9 +174,10 @@ public class SharedProcessor<T> {
   }
 
   public void stop() {
-    executor.shutdownNow();
+    stopped = true;
     lock.writeLock().lock();
     try {
+      listeners.forEach(ListenerQueue::shutdownNow);
       syncingListeners.clear();
       listeners.clear();
     } finally {
@@ -156,19 +187,32 @@ public class SharedProcessor<T> {
 
   /**
    * Adds a new listener. When running this will pause event distribution until
-   * the new listener has received an initial set of add events
+   * the initial set of add events has been queued for the new listener. The listener
+   * receives them asynchronously, ahead of any later events
    */
   public ProcessorListener<T> addProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodMillis,
       Supplier<Collection<T>> initialItems) {
+    return addProcessorListener(handler, resyncPeriodMillis, initialItems, EventQueueOptions.unbounded());
+  }
+
+  /**
+   * Adds a new listener with the given queue options. When running this will pause event distribution until
+   * the initial set of add events has been queued for the new listener. The listener receives them
+   * asynchronously, ahead of any later events - the initial events are not subject to the queue capacity
+   */
+  public ProcessorListener<T> addProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodMillis,
+      Supplier<Collection<T>> initialItems, EventQueueOptions options) {
     lock.writeLock().lock();
     try {
       ProcessorListener<T> listener = new ProcessorListener<>(handler, resyncPeriodMillis);
+      if (stopped) {
+        return listener;
+      }
 
+      ListenerQueue<T> queue = addListener(listener, options);
       for (T item : initialItems.get()) {
-        listener.add(new ProcessorListener.AddNotification<>(item));
+        queue.addUnbounded(new ProcessorListener.AddNotification<>(item));
       }
-
-      addListener(listener);
       return listener;
     } finally {
       lock.writeLock().unlock();
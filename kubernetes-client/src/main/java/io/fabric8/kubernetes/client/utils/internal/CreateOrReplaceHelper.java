@@ -19,9 +19,14 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
 import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.net.HttpURLConnection;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 public class CreateOrReplaceHelper<T extends HasMetadata> {
@@ -67,12 +72,72 @@ public class CreateOrReplaceHelper<T extends HasMetadata> {
     return future.join();
   }
 
+  /**
+   * The non-blocking variant of {@link #createOrReplace(HasMetadata)}. Where the blocking variant waits for
+   * a resource that could neither be created nor reloaded, the create is tried again after a delay.
+   */
+  public static <T extends HasMetadata> CompletableFuture<T> createOrReplaceAsync(T item,
+      Function<T, CompletableFuture<T>> createTask, Function<T, CompletableFuture<T>> replaceTask,
+      Function<T, CompletableFuture<T>> reloadTask, Executor executor) {
+    String resourceVersion = KubernetesResourceUtil.getResourceVersion(item);
+    T toCreate = Serialization.clone(item);
+    KubernetesResourceUtil.setResourceVersion(toCreate, null);
+    return createOrReplaceAsync(toCreate, resourceVersion, createTask, replaceTask, reloadTask, executor, 0);
+  }
+
+  private static <T extends HasMetadata> CompletableFuture<T> createOrReplaceAsync(T item, String resourceVersion,
+      Function<T, CompletableFuture<T>> createTask, Function<T, CompletableFuture<T>> replaceTask,
+      Function<T, CompletableFuture<T>> reloadTask, Executor executor, int nTries) {
+    return createTask.apply(item).handle((created, t) -> {
+      if (t == null) {
+        return CompletableFuture.completedFuture(created);
+      }
+      Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+      if (!(cause instanceof KubernetesClientException)) {
+        return CreateOrReplaceHelper.<T> failed(cause);
+      }
+      int code = ((KubernetesClientException) cause).getCode();
+      if (code == HttpURLConnection.HTTP_CONFLICT) {
+        KubernetesResourceUtil.setResourceVersion(item, resourceVersion);
+        return replaceTask.apply(item);
+      }
+      if (!shouldRetry(code)) {
+        return CreateOrReplaceHelper.<T> failed(cause);
+      }
+      return reloadTask.apply(item).thenCompose(itemFromServer -> {
+        if (itemFromServer != null) {
+          KubernetesResourceUtil.setResourceVersion(item, resourceVersion);
+          return replaceTask.apply(item);
+        }
+        if (nTries + 1 >= CREATE_OR_REPLACE_RETRIES) {
+          return CreateOrReplaceHelper.<T> failed(cause);
+        }
+        CompletableFuture<T> retry = new CompletableFuture<>();
+        Utils.schedule(executor, () -> createOrReplaceAsync(item, resourceVersion, createTask, replaceTask, reloadTask,
+            executor, nTries + 1).whenComplete((r, e) -> {
+              if (e != null) {
+                retry.completeExceptionally(e);
+              } else {
+                retry.complete(r);
+              }
+            }), 1, TimeUnit.SECONDS);
+        return retry;
+      });
+    }).thenCompose(Function.identity());
+  }
+
+  private static <T> CompletableFuture<T> failed(Throwable t) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    result.completeExceptionally(t);
+    return result;
+  }
+
   private T replace(T item, String resourceVersion) {
     KubernetesResourceUtil.setResourceVersion(item, resourceVersion);
     return replaceTask.apply(item);
   }
 
-  private boolean shouldRetry(int responseCode) {
+  private static boolean shouldRetry(int responseCode) {
     return responseCode > 499;
   }
 }
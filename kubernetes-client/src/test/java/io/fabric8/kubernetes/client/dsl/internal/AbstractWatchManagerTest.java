@@ -17,10 +17,12 @@ package io.fabric8.kubernetes.client.dsl.internal;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager.WatchRequestState;
 import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.CommonThreadPool;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.junit.jupiter.api.DisplayName;
@@ -30,8 +32,10 @@ import org.mockito.Mockito;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledFuture;
@@ -215,6 +219,35 @@ class AbstractWatchManagerTest {
     assertThat(awm.closeCount.get()).isEqualTo(1);
   }
 
+  @Test
+  @DisplayName("onMessage, with bookmarks, should report the lag of each bookmark")
+  void bookmarkLagIsReported() throws MalformedURLException {
+    // Given
+    final List<Long> lags = new CopyOnWriteArrayList<>();
+    ClientMetrics.setInstance(new ClientMetrics() {
+      @Override
+      public void watchBookmarkReceived(String resource, long lagMillis) {
+        lags.add(lagMillis);
+      }
+    });
+    try {
+      final WatchManager<Pod> awm = new WatchManager<>(new WatcherAdapter<>(), new ListOptions(), 1, 0, Pod.class);
+      final WatchRequestState state = new WatchRequestState();
+      final String bookmark = "{\"type\":\"BOOKMARK\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\","
+          + "\"metadata\":{\"resourceVersion\":\"1\"}}}";
+      final String added = "{\"type\":\"ADDED\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\","
+          + "\"metadata\":{\"name\":\"pod\",\"resourceVersion\":\"2\"}}}";
+      // When
+      awm.onMessage(bookmark, state);
+      awm.onMessage(added, state);
+      awm.onMessage(bookmark, state);
+      // Then
+      assertThat(lags).hasSize(2).allMatch(lag -> lag >= 0);
+    } finally {
+      ClientMetrics.setInstance(null);
+    }
+  }
+
   private static <T extends HasMetadata> WatchManager<T> withDefaultWatchManager(Watcher<T> watcher)
       throws MalformedURLException {
     return new WatchManager<>(
@@ -245,6 +278,12 @@ class AbstractWatchManagerTest {
     return operation;
   }
 
+  static BaseOperation mockOperation(Class<?> type) {
+    BaseOperation operation = mockOperation();
+    Mockito.when(operation.getType()).thenReturn(type);
+    return operation;
+  }
+
   private static class WatchManager<T extends HasMetadata> extends AbstractWatchManager<T> {
 
     private final AtomicInteger closeCount = new AtomicInteger(0);
@@ -254,6 +293,11 @@ class AbstractWatchManagerTest {
       super(watcher, mockOperation(), listOptions, reconnectLimit, reconnectInterval, null);
     }
 
+    public WatchManager(Watcher<T> watcher, ListOptions listOptions, int reconnectLimit, int reconnectInterval,
+        Class<T> type) throws MalformedURLException {
+      super(watcher, mockOperation(type), listOptions, reconnectLimit, reconnectInterval, null);
+    }
+
     @Override
     protected void start(URL url, Map<String, String> headers, WatchRequestState state) {
 
@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkOperationTest {
+
+  private final Map<String, CompletableFuture<String>> started = new LinkedHashMap<>();
+
+  private BulkOperation<String, String> bulk(int maxInFlight, String... items) {
+    return new BulkOperation<>(Arrays.asList(items), maxInFlight, i -> i.startsWith("ns") ? 0 : 1, i -> {
+      CompletableFuture<String> future = new CompletableFuture<>();
+      started.put(i, future);
+      return future;
+    });
+  }
+
+  @Test
+  void testBoundedInFlight() throws Exception {
+    CompletableFuture<List<String>> result = bulk(2, "a", "b", "c").start();
+
+    assertEquals(Arrays.asList("a", "b"), new ArrayList<>(started.keySet()));
+
+    started.get("b").complete("B");
+    assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(started.keySet()));
+
+    started.get("c").complete("C");
+    started.get("a").complete("A");
+
+    // results are in item order, not completion order
+    assertEquals(Arrays.asList("A", "B", "C"), result.get());
+  }
+
+  @Test
+  void testPhasesDrainBeforeNextStarts() {
+    CompletableFuture<List<String>> result = bulk(10, "a", "ns1", "b", "ns2").start();
+
+    assertEquals(Arrays.asList("ns1", "ns2"), new ArrayList<>(started.keySet()));
+
+    started.get("ns1").complete("ns1");
+    assertEquals(2, started.size());
+
+    started.get("ns2").complete("ns2");
+    assertEquals(Arrays.asList("ns1", "ns2", "a", "b"), new ArrayList<>(started.keySet()));
+
+    started.get("a").complete("a");
+    started.get("b").complete("b");
+    assertEquals(Arrays.asList("a", "ns1", "b", "ns2"), result.join());
+  }
+
+  @Test
+  void testFailureStopsLaunchingAndAggregates() {
+    CompletableFuture<List<String>> result = bulk(2, "a", "b", "c").start();
+
+    KubernetesClientException first = new KubernetesClientException("a failed");
+    KubernetesClientException second = new KubernetesClientException("b failed");
+    started.get("a").completeExceptionally(first);
+
+    assertFalse(started.containsKey("c"));
+    assertFalse(result.isDone());
+
+    started.get("b").completeExceptionally(second);
+
+    ExecutionException e = assertThrows(ExecutionException.class, result::get);
+    assertSame(first, e.getCause());
+    assertEquals(1, first.getSuppressed().length);
+    assertSame(second, first.getSuppressed()[0]);
+  }
+
+  @Test
+  void testSynchronousOperation() {
+    List<String> results = BulkOperation.run(Arrays.asList("a", "b"), 1, i -> 0, String::toUpperCase, null);
+
+    assertEquals(Arrays.asList("A", "B"), results);
+  }
+
+  @Test
+  void testSynchronousFailureIsRethrown() {
+    List<String> items = Arrays.asList("a", "b");
+    List<String> seen = new ArrayList<>();
+    KubernetesClientException failure = new KubernetesClientException("failed");
+
+    KubernetesClientException e = assertThrows(KubernetesClientException.class,
+        () -> BulkOperation.run(items, 1, i -> 0, i -> {
+          seen.add(i);
+          throw failure;
+        }, null));
+
+    assertSame(failure, e);
+    assertEquals(Arrays.asList("a"), seen);
+  }
+
+  @Test
+  void testEmpty() {
+    assertTrue(bulk(5).start().join().isEmpty());
+  }
+
+}
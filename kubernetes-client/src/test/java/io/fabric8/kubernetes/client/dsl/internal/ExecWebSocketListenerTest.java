@@ -21,15 +21,20 @@ import io.fabric8.kubernetes.api.model.StatusCause;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.http.WebSocket;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
@@ -68,7 +73,7 @@ class ExecWebSocketListenerTest {
   @Test
   void testSendShouldTruncateAndSendFlaggedWebSocketData() {
     final WebSocket mockedWebSocket = Mockito.mock(WebSocket.class);
-    Mockito.when(mockedWebSocket.send(Mockito.any())).thenReturn(true);
+    Mockito.when(mockedWebSocket.sendGathering(Mockito.any(), Mockito.any())).thenReturn(true);
 
     ExecWebSocketListener listner = new ExecWebSocketListener(new PodOperationContext());
 
@@ -77,8 +82,40 @@ class ExecWebSocketListenerTest {
 
     listner.sendWithErrorChecking(toSend, 0, 4);
 
-    verify(mockedWebSocket, times(1))
-        .send(ByteBuffer.wrap(new byte[] { (byte) 0, (byte) 1, (byte) 3, (byte) 3, (byte) 7 }));
+    ArgumentCaptor<ByteBuffer> captor = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(mockedWebSocket, times(1)).sendGathering(captor.capture(), captor.capture());
+    assertArrayEquals(new byte[] { (byte) 0, (byte) 1, (byte) 3, (byte) 3, (byte) 7 },
+        BufferUtil.toArray(captor.getAllValues()));
+  }
+
+  @Test
+  void testInputChannelWritesWhatFitsInTheSendQueue() throws IOException {
+    final WebSocket mockedWebSocket = Mockito.mock(WebSocket.class);
+    Mockito.when(mockedWebSocket.sendGathering(Mockito.any(), Mockito.any())).thenReturn(true);
+    Mockito.when(mockedWebSocket.queueSize()).thenReturn(16 * 1024 * 1024L - 2);
+    CompletableFuture<Void> drained = new CompletableFuture<>();
+    Mockito.when(mockedWebSocket.whenQueueSizeAtMost(Mockito.anyLong())).thenReturn(drained);
+
+    ExecWebSocketListener listener = new ExecWebSocketListener(
+        new PodOperationContext().toBuilder().redirectingIn(true).build());
+    listener.onOpen(mockedWebSocket);
+    WritableByteChannel channel = listener.getInputChannel();
+    ByteBuffer data = ByteBuffer.wrap(new byte[] { 1, 3, 3, 7 });
+
+    assertEquals(2, channel.write(data));
+    assertEquals(2, data.position());
+    ArgumentCaptor<ByteBuffer> captor = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(mockedWebSocket, times(1)).sendGathering(captor.capture(), captor.capture());
+    assertArrayEquals(new byte[] { (byte) 0, (byte) 1, (byte) 3 }, BufferUtil.toArray(captor.getAllValues()));
+
+    // the queue is now full
+    Mockito.when(mockedWebSocket.queueSize()).thenReturn(16 * 1024 * 1024L);
+    assertEquals(0, channel.write(data));
+    CompletableFuture<Void> writable = listener.inputWritable();
+    assertFalse(writable.isDone());
+
+    drained.complete(null);
+    assertTrue(writable.isDone());
   }
 
   @Test
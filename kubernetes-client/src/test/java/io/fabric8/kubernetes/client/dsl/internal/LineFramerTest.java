@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LineFramerTest {
+
+  @ParameterizedTest
+  @ValueSource(booleans = { false, true })
+  void testFramesSplitAcrossBuffers(boolean direct) {
+    List<String> frames = new ArrayList<>();
+    LineFramer framer = new LineFramer((b, o, l) -> frames.add(new String(b, o, l, StandardCharsets.UTF_8)));
+
+    byte[] bytes = "{\"a\":\"\u00e9\"}\n\n{\"b\":2}\n{\"c\"".getBytes(StandardCharsets.UTF_8);
+    // split in the middle of the two byte character
+    int split = 7;
+    framer.accept(buffer(bytes, 0, split, direct));
+    framer.accept(buffer(bytes, split, bytes.length, direct));
+
+    assertEquals(Arrays.asList("{\"a\":\"\u00e9\"}", "{\"b\":2}"), frames);
+    assertEquals(4, framer.getPendingLength());
+
+    framer.accept(buffer(":3}\n".getBytes(StandardCharsets.UTF_8), 0, 4, direct));
+    assertEquals("{\"c\":3}", frames.get(2));
+    assertEquals(0, framer.getPendingLength());
+  }
+
+  private static ByteBuffer buffer(byte[] bytes, int from, int to, boolean direct) {
+    if (!direct) {
+      // use an offset to check array offset handling
+      byte[] padded = new byte[to - from + 2];
+      System.arraycopy(bytes, from, padded, 1, to - from);
+      return ByteBuffer.wrap(padded, 1, to - from).slice();
+    }
+    ByteBuffer buffer = ByteBuffer.allocateDirect(to - from);
+    buffer.put(bytes, from, to - from).flip();
+    return buffer;
+  }
+
+}
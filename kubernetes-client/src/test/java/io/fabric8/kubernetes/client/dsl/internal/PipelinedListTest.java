@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PipelinedListTest {
+
+  private static class Page {
+    private final ListOptions options;
+    private final CompletableFuture<?> itemGate;
+    private final Consumer<ListMeta> listMetaConsumer;
+    private final CompletableFuture<ListMeta> result = new CompletableFuture<>();
+
+    Page(ListOptions options, CompletableFuture<?> itemGate, Consumer<ListMeta> listMetaConsumer) {
+      this.options = options;
+      this.itemGate = itemGate;
+      this.listMetaConsumer = listMetaConsumer;
+    }
+
+    void read(String continueVal) {
+      ListMeta listMeta = new ListMetaBuilder().withContinue(continueVal).withResourceVersion("1").build();
+      listMetaConsumer.accept(listMeta);
+      result.complete(listMeta);
+    }
+  }
+
+  private final List<Page> pages = new ArrayList<>();
+
+  private CompletableFuture<ListMeta> start(int readAhead) {
+    return new PipelinedList((options, itemGate, listMetaConsumer) -> {
+      Page page = new Page(options, itemGate, listMetaConsumer);
+      pages.add(page);
+      return page.result;
+    }, new ListOptionsBuilder().withLimit(10L).withResourceVersion("0").build(), readAhead).start();
+  }
+
+  @Test
+  void testNextPageRequestedOnContinue() {
+    CompletableFuture<ListMeta> result = start(1);
+
+    assertEquals(1, pages.size());
+    assertTrue(pages.get(0).itemGate.isDone());
+
+    // reading the metadata of the first page requests the second before the first is consumed
+    pages.get(0).listMetaConsumer.accept(new ListMetaBuilder().withContinue("a").build());
+    assertEquals(2, pages.size());
+    assertEquals("a", pages.get(1).options.getContinue());
+    assertNull(pages.get(1).options.getResourceVersion());
+    assertEquals(10L, pages.get(1).options.getLimit());
+    assertFalse(pages.get(1).itemGate.isDone());
+
+    // the read ahead of 1 is exhausted
+    pages.get(1).listMetaConsumer.accept(new ListMetaBuilder().withContinue("b").build());
+    assertEquals(2, pages.size());
+
+    pages.get(0).result.complete(new ListMetaBuilder().withContinue("a").build());
+    assertTrue(pages.get(1).itemGate.isDone());
+    assertEquals(3, pages.size());
+    assertEquals("b", pages.get(2).options.getContinue());
+
+    pages.get(1).result.complete(new ListMetaBuilder().withContinue("b").build());
+    pages.get(2).read(null);
+
+    assertEquals("1", result.join().getResourceVersion());
+  }
+
+  @Test
+  void testSequentialWithoutReadAhead() {
+    CompletableFuture<ListMeta> result = start(0);
+
+    pages.get(0).listMetaConsumer.accept(new ListMetaBuilder().withContinue("a").build());
+    assertEquals(1, pages.size());
+
+    pages.get(0).result.complete(new ListMetaBuilder().withContinue("a").build());
+    assertEquals(2, pages.size());
+
+    pages.get(1).read(null);
+    assertTrue(result.isDone());
+  }
+
+  @Test
+  void testFailureReportedInOrder() {
+    CompletableFuture<ListMeta> result = start(1);
+
+    pages.get(0).listMetaConsumer.accept(new ListMetaBuilder().withContinue("a").build());
+    pages.get(1).result.completeExceptionally(new KubernetesClientException("expired", 410, null));
+
+    // the first page is still being consumed
+    assertFalse(result.isDone());
+
+    pages.get(0).result.complete(new ListMetaBuilder().withContinue("a").build());
+
+    CompletionException exception = assertThrows(CompletionException.class, result::join);
+    assertInstanceOf(KubernetesClientException.class, exception.getCause());
+    assertEquals(2, pages.size());
+  }
+
+}
@@ -15,6 +15,7 @@
  */
 package io.fabric8.kubernetes.client.dsl.internal;
 
+import io.fabric8.kubernetes.client.http.BufferUtil;
 import io.fabric8.kubernetes.client.http.WebSocket;
 import io.fabric8.kubernetes.client.utils.CommonThreadPool;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -29,13 +30,20 @@ import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -91,6 +99,48 @@ class PortForwarderWebsocketListenerTest {
     assertThat(out.isOpen()).isTrue();
   }
 
+  @Test
+  void eventLoop_shouldForwardBothWaysAndCountBytes() throws Exception {
+    final ByteArrayOutputStream sent = new ByteArrayOutputStream();
+    doAnswer(i -> {
+      synchronized (sent) {
+        sent.write(BufferUtil.toArray((ByteBuffer) i.getArgument(0)));
+      }
+      return true;
+    }).when(webSocket).send(any());
+    final PortForwarderEventLoop loop = new PortForwarderEventLoop();
+    final ExecutorService loopExecutor = Executors.newSingleThreadExecutor();
+    try (ServerSocketChannel server = ServerSocketChannel.open()
+        .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        SocketChannel client = SocketChannel.open(server.getLocalAddress())) {
+      loopExecutor.execute(loop);
+      listener = new PortForwarderWebsocketListener(server.accept(), CommonThreadPool.get(), loop);
+      listener.onOpen(webSocket);
+
+      // local -> remote, each message is prefixed by the channel byte
+      client.write(ByteBuffer.wrap("THIS IS A TEST".getBytes(StandardCharsets.UTF_8)));
+      await().atMost(10, TimeUnit.SECONDS).until(() -> listener.getBytesSent() == 14);
+      synchronized (sent) {
+        assertThat(sent.toString("UTF-8")).isEqualTo("\0THIS IS A TEST");
+      }
+
+      // remote -> local
+      listener.onMessage(webSocket, "SKIP 1");
+      listener.onMessage(webSocket, "SKIP 2");
+      listener.onMessage(webSocket, ByteBuffer.wrap(
+          ByteBuffer.allocate(18).put((byte) 0).put("PROCESSED MESSAGE".getBytes(StandardCharsets.UTF_8)).array()));
+      final byte[] received = new byte[17];
+      client.socket().setSoTimeout(10_000);
+      new DataInputStream(client.socket().getInputStream()).readFully(received);
+      assertThat(new String(received, StandardCharsets.UTF_8)).isEqualTo("PROCESSED MESSAGE");
+      verify(webSocket, timeout(10_000).times(3)).request();
+      assertThat(listener.getBytesReceived()).isEqualTo(17);
+    } finally {
+      loop.stop();
+      loopExecutor.shutdownNow();
+    }
+  }
+
   @Test
   void onOpen_withException_shouldCloseWebSocketAndStoreException() throws IOException {
     final ReadableByteChannel inWithException = mock(ReadableByteChannel.class);
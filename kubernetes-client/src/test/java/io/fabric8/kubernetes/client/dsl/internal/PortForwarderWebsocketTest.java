@@ -15,7 +15,9 @@
  */
 package io.fabric8.kubernetes.client.dsl.internal;
 
+import io.fabric8.kubernetes.client.LocalPortForward;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.WebSocket;
 import io.fabric8.kubernetes.client.utils.CommonThreadPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,9 +25,18 @@ import org.mockito.Mockito;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.URL;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.awaitility.Awaitility.await;
 
 class PortForwarderWebsocketTest {
   private final HttpClient mockHttpClient = Mockito.mock(HttpClient.class, Mockito.RETURNS_DEEP_STUBS);
@@ -50,6 +61,35 @@ class PortForwarderWebsocketTest {
     assertThat(inetSocketAddress.getPort()).isEqualTo(port);
   }
 
+  @Test
+  void testClosedConnectionsAreRemovedAndCounted() throws Exception {
+    WebSocket webSocket = Mockito.mock(WebSocket.class);
+    List<WebSocket.Listener> listeners = new CopyOnWriteArrayList<>();
+    Mockito.when(mockHttpClient.newWebSocketBuilder().uri(Mockito.any()).connectTimeout(Mockito.anyLong(), Mockito.any())
+        .subprotocol(Mockito.anyString()).buildAsync(Mockito.any())).thenAnswer(i -> {
+          listeners.add(i.getArgument(0));
+          return CompletableFuture.completedFuture(webSocket);
+        });
+
+    try (LocalPortForward forward = portForwarderWebsocket.forward(new URL("https://localhost/api/v1/pods/pod"), 8080,
+        InetAddress.getLoopbackAddress(), 0);
+        SocketChannel client = SocketChannel.open(new InetSocketAddress(forward.getLocalAddress(), forward.getLocalPort()))) {
+      await().atMost(10, TimeUnit.SECONDS).until(() -> listeners.size() == 1);
+      WebSocket.Listener listener = listeners.get(0);
+      listener.onOpen(webSocket);
+
+      client.write(ByteBuffer.wrap("data".getBytes(StandardCharsets.UTF_8)));
+      await().atMost(10, TimeUnit.SECONDS).until(() -> forward.getBytesSent() == 4);
+      assertThat(forward.getConnections().size()).isEqualTo(1);
+
+      listener.onClose(webSocket, 1000, "done");
+
+      await().atMost(10, TimeUnit.SECONDS).until(() -> forward.getConnections().isEmpty());
+      assertThat(forward.getBytesSent()).isEqualTo(4);
+      assertThat(forward.isAlive()).isTrue();
+    }
+  }
+
   @Test
   void testCreateNewInetSocketAddress() throws UnknownHostException {
     // Given
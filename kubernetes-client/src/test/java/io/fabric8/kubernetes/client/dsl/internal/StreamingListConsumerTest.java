@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingListConsumerTest {
+
+  @Test
+  void testItemsStreamedAcrossChunks() throws Exception {
+    PodList podList = new PodListBuilder()
+        .withNewMetadata().withResourceVersion("5").withContinue("next").endMetadata()
+        .addNewItem().withNewMetadata().withName("pod1").addToLabels("ünïcode", "välue").endMetadata().endItem()
+        .addNewItem().withNewMetadata().withName("pod2").endMetadata().withNewSpec().withNodeName("node").endSpec()
+        .endItem()
+        .build();
+    byte[] bytes = Serialization.asJson(podList).getBytes(StandardCharsets.UTF_8);
+
+    List<Pod> items = new ArrayList<>();
+    StreamingListConsumer<Pod> consumer = new StreamingListConsumer<>(Serialization.jsonMapper(),
+        Mockito.mock(HttpRequest.class), Pod.class, items::add, r -> {
+        });
+    AsyncBody asyncBody = Mockito.mock(AsyncBody.class);
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    Mockito.when(asyncBody.done()).thenReturn(done);
+    CompletableFuture<ListMeta> result = consumer.onResponse(response(200, asyncBody));
+
+    // feed the response in small chunks, splitting tokens and multi-byte characters
+    for (int i = 0; i < bytes.length; i += 3) {
+      ByteBuffer chunk = ByteBuffer.wrap(bytes, i, Math.min(3, bytes.length - i));
+      consumer.consume(Collections.singletonList(chunk), asyncBody);
+    }
+    done.complete(null);
+
+    assertEquals("5", result.get().getResourceVersion());
+    assertEquals("next", result.get().getContinue());
+    assertEquals(podList.getItems(), items);
+  }
+
+  @Test
+  void testItemGate() throws Exception {
+    PodList podList = new PodListBuilder()
+        .withNewMetadata().withResourceVersion("5").withContinue("next").endMetadata()
+        .addNewItem().withNewMetadata().withName("pod1").endMetadata().endItem()
+        .build();
+    byte[] bytes = Serialization.asJson(podList).getBytes(StandardCharsets.UTF_8);
+
+    List<Pod> items = new ArrayList<>();
+    List<ListMeta> listMetas = new ArrayList<>();
+    CompletableFuture<Void> gate = new CompletableFuture<>();
+    StreamingListConsumer<Pod> consumer = new StreamingListConsumer<>(Serialization.jsonMapper(),
+        Mockito.mock(HttpRequest.class), Pod.class, items::add, r -> {
+        }, gate, listMetas::add);
+    AsyncBody asyncBody = Mockito.mock(AsyncBody.class);
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    Mockito.when(asyncBody.done()).thenReturn(done);
+    CompletableFuture<ListMeta> result = consumer.onResponse(response(200, asyncBody));
+
+    consumer.consume(Collections.singletonList(ByteBuffer.wrap(bytes)), asyncBody);
+    done.complete(null);
+
+    // the metadata is available, but the items wait on the gate
+    assertEquals("next", listMetas.get(0).getContinue());
+    assertTrue(items.isEmpty());
+    assertFalse(result.isDone());
+    // no more of the body is requested while paused
+    Mockito.verify(asyncBody, Mockito.times(1)).consume();
+
+    gate.complete(null);
+
+    assertEquals(podList.getItems(), items);
+    assertEquals("5", result.get().getResourceVersion());
+  }
+
+  @Test
+  void testErrorResponse() throws Exception {
+    StreamingListConsumer<Pod> consumer = new StreamingListConsumer<>(Serialization.jsonMapper(),
+        Mockito.mock(HttpRequest.class), Pod.class, p -> {
+        }, r -> {
+          throw new KubernetesClientException(new String((byte[]) r.body(), StandardCharsets.UTF_8));
+        });
+    AsyncBody asyncBody = Mockito.mock(AsyncBody.class);
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    Mockito.when(asyncBody.done()).thenReturn(done);
+    CompletableFuture<ListMeta> result = consumer.onResponse(response(500, asyncBody));
+
+    consumer.consume(Collections.singletonList(ByteBuffer.wrap("failed".getBytes(StandardCharsets.UTF_8))), asyncBody);
+    done.complete(null);
+
+    CompletionException exception = assertThrows(CompletionException.class, result::join);
+    assertInstanceOf(KubernetesClientException.class, exception.getCause());
+    assertEquals("failed", exception.getCause().getMessage());
+  }
+
+  private static HttpResponse<AsyncBody> response(int code, AsyncBody asyncBody) {
+    HttpResponse<AsyncBody> response = Mockito.mock(HttpResponse.class);
+    Mockito.when(response.code()).thenReturn(code);
+    Mockito.when(response.isSuccessful()).thenReturn(HttpResponse.isSuccessful(code));
+    Mockito.when(response.body()).thenReturn(asyncBody);
+    return response;
+  }
+
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WatchEventDecoderTest {
+
+  @Test
+  void testDecodeTyped() throws IOException {
+    WatchEvent event = new WatchEventDecoder(Serialization.jsonMapper(), Pod.class)
+        .decode("{\"type\":\"ADDED\",\"object\":{\"kind\":\"Pod\",\"apiVersion\":\"v1\",\"metadata\":{\"name\":\"pod1\"}}}");
+
+    assertEquals("ADDED", event.getType());
+    assertInstanceOf(Pod.class, event.getObject());
+    assertEquals("pod1", ((Pod) event.getObject()).getMetadata().getName());
+  }
+
+  @Test
+  void testDecodeObjectBeforeType() throws IOException {
+    WatchEvent event = new WatchEventDecoder(Serialization.jsonMapper(), GenericKubernetesResource.class)
+        .decode("{\"object\":{\"kind\":\"Pod\",\"apiVersion\":\"v1\",\"metadata\":{\"name\":\"pod1\"}},\"type\":\"MODIFIED\"}");
+
+    assertEquals("MODIFIED", event.getType());
+    assertInstanceOf(GenericKubernetesResource.class, event.getObject());
+    assertEquals("pod1", ((GenericKubernetesResource) event.getObject()).getMetadata().getName());
+  }
+
+  @Test
+  void testDecodeError() throws IOException {
+    byte[] message = "{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"code\":410}}".getBytes();
+    WatchEvent event = new WatchEventDecoder(Serialization.jsonMapper(), Pod.class).decode(message, 0, message.length);
+
+    assertEquals("ERROR", event.getType());
+    assertEquals(410, ((Status) event.getObject()).getCode());
+  }
+
+  @Test
+  void testDecodeNullObject() throws IOException {
+    WatchEvent event = new WatchEventDecoder(Serialization.jsonMapper(), Pod.class)
+        .decode("{\"type\":\"ADDED\",\"object\":null,\"extra\":{\"a\":[1,2]}}");
+
+    assertEquals("ADDED", event.getType());
+    assertNull(event.getObject());
+  }
+
+  @Test
+  void testDecodeInvalid() {
+    WatchEventDecoder decoder = new WatchEventDecoder(Serialization.jsonMapper(), Pod.class);
+
+    assertThrows(JsonProcessingException.class, () -> decoder.decode("[]"));
+  }
+
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.impl;
+
+import io.fabric8.kubernetes.api.model.APIResourceList;
+import io.fabric8.kubernetes.api.model.APIResourceListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApiResourcesPrefetchTest {
+
+  private final List<Runnable> queued = new ArrayList<>();
+  private final List<String> fetched = new ArrayList<>();
+
+  private ApiResourcesPrefetch prefetch(int maxInFlight, String... groupVersions) {
+    return new ApiResourcesPrefetch(Arrays.asList(groupVersions), maxInFlight, groupVersion -> {
+      fetched.add(groupVersion);
+      if (groupVersion.startsWith("broken")) {
+        throw new KubernetesClientException("failed " + groupVersion);
+      }
+      return new APIResourceListBuilder().withGroupVersion(groupVersion).build();
+    }, queued::add);
+  }
+
+  private void runQueued() {
+    List<Runnable> toRun = new ArrayList<>(queued);
+    queued.clear();
+    toRun.forEach(Runnable::run);
+  }
+
+  @Test
+  void testBoundedReadAhead() {
+    try (ApiResourcesPrefetch prefetch = prefetch(2, "v1", "apps/v1", "batch/v1", "batch/v2")) {
+      APIResourceList first = prefetch.get(0);
+
+      assertEquals("v1", first.getGroupVersion());
+      // v1 was run by the visiting thread, apps/v1 is only queued
+      assertEquals(Arrays.asList("v1"), fetched);
+      assertEquals(1, queued.size());
+
+      runQueued();
+      assertEquals(Arrays.asList("v1", "apps/v1"), fetched);
+      // the window moves with the visit, not with the completions
+      assertTrue(queued.isEmpty());
+
+      assertEquals("apps/v1", prefetch.get(1).getGroupVersion());
+      assertEquals(1, queued.size());
+      runQueued();
+      assertEquals(Arrays.asList("v1", "apps/v1", "batch/v1"), fetched);
+    }
+  }
+
+  @Test
+  void testSkippedFailureIsIgnored() {
+    try (ApiResourcesPrefetch prefetch = prefetch(3, "v1", "broken/v1", "apps/v1")) {
+      prefetch.get(0);
+      runQueued();
+
+      assertEquals(Arrays.asList("v1", "broken/v1", "apps/v1"), fetched);
+      assertEquals("apps/v1", prefetch.get(2).getGroupVersion());
+    }
+  }
+
+  @Test
+  void testFailureReportedWhenRequested() {
+    try (ApiResourcesPrefetch prefetch = prefetch(3, "v1", "broken/v1")) {
+      prefetch.get(0);
+      runQueued();
+
+      KubernetesClientException exception = assertThrows(KubernetesClientException.class, () -> prefetch.get(1));
+      assertEquals("failed broken/v1", exception.getMessage());
+    }
+  }
+
+  @Test
+  void testUnstartedFetchRunsOnVisitingThread() {
+    try (ApiResourcesPrefetch prefetch = prefetch(2, "v1", "apps/v1")) {
+      prefetch.get(0);
+      // the executor never ran the queued fetch
+      assertEquals("apps/v1", prefetch.get(1).getGroupVersion());
+      runQueued();
+
+      assertEquals(Arrays.asList("v1", "apps/v1"), fetched);
+    }
+  }
+
+  @Test
+  void testCloseCancelsPending() {
+    ApiResourcesPrefetch prefetch = prefetch(3, "v1", "apps/v1", "batch/v1");
+    prefetch.get(0);
+    prefetch.close();
+    runQueued();
+
+    assertEquals(Arrays.asList("v1"), fetched);
+  }
+}
@@ -15,10 +15,12 @@
  */
 package io.fabric8.kubernetes.client.impl;
 
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperation;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
@@ -27,6 +29,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class HandlersTest {
 
@@ -56,4 +62,29 @@ public class HandlersTest {
 
     assertThat(handlers.get(new MyPod(), null).operation(mock, null), Matchers.instanceOf(HasMetadataOperationsImpl.class));
   }
+
+  @Test
+  public void testResourceDefinitionContextOfBuiltInGenericResource() {
+    Handlers handlers = new Handlers();
+    GenericKubernetesResource deployment = new GenericKubernetesResource();
+    deployment.setApiVersion("apps/v1");
+    deployment.setKind("Deployment");
+
+    ResourceDefinitionContext rdc = handlers.getResourceDefinitionContext(deployment, null);
+
+    assertEquals("apps", rdc.getGroup());
+    assertEquals("v1", rdc.getVersion());
+    assertEquals("deployments", rdc.getPlural());
+    assertTrue(rdc.isNamespaceScoped());
+    // resolved once per type
+    assertSame(rdc, handlers.getResourceDefinitionContext("apps/v1", "Deployment", null));
+  }
+
+  @Test
+  public void testResourceDefinitionContextOfUnknownGenericResource() {
+    Handlers handlers = new Handlers();
+
+    assertNull(handlers.getResourceDefinitionContext("example.com/v1", "Unknown", null));
+    assertNull(handlers.getResourceDefinitionContext(new GenericKubernetesResource(), null));
+  }
 }
@@ -54,8 +54,8 @@ class DefaultSharedIndexInformerResyncTest {
     Mockito.when(listerWatcher.submitWatch(Mockito.any(), Mockito.any()))
         .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
     PodList result = new PodListBuilder().withNewMetadata().endMetadata().build();
-    Mockito.when(listerWatcher.submitList(Mockito.any()))
-        .thenReturn(CompletableFuture.completedFuture(result));
+    Mockito.when(listerWatcher.submitListPipelined(Mockito.any(), Mockito.anyInt(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(result.getMetadata()));
   }
 
   @AfterEach
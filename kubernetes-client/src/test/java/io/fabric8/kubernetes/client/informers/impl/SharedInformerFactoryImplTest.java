@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.authorization.v1.SelfSubjectAccessReview;
+import io.fabric8.kubernetes.api.model.authorization.v1.SelfSubjectAccessReviewBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SharedInformerFactoryImplTest {
+
+  private final KubernetesClient client = Mockito.mock(KubernetesClient.class, Mockito.RETURNS_DEEP_STUBS);
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testStartBudget() {
+    SharedIndexInformer<Pod> informer1 = Mockito.mock(SharedIndexInformer.class);
+    SharedIndexInformer<Pod> informer2 = Mockito.mock(SharedIndexInformer.class);
+    CompletableFuture<Void> started1 = new CompletableFuture<>();
+    Mockito.when(informer1.start()).thenReturn(started1);
+    Mockito.when(informer2.start()).thenReturn(CompletableFuture.completedFuture(null));
+    Mockito.when(client.resources(Pod.class).inAnyNamespace().runnableInformer(0)).thenReturn(informer1, informer2);
+
+    SharedInformerFactoryImpl factory = new SharedInformerFactoryImpl(client);
+    factory.withStartBudget(1, 0);
+    factory.sharedIndexInformerFor(Pod.class, 0);
+    factory.sharedIndexInformerFor(Pod.class, 0);
+    CompletableFuture<Void> all = (CompletableFuture<Void>) factory.startAllRegisteredInformers();
+
+    Mockito.verify(informer1).start();
+    Mockito.verify(informer2, Mockito.never()).start();
+
+    started1.complete(null);
+
+    Mockito.verify(informer2).start();
+    assertNull(all.join());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testStartBudgetReleasedOnFailure() {
+    SharedIndexInformer<Pod> informer1 = Mockito.mock(SharedIndexInformer.class);
+    SharedIndexInformer<Pod> informer2 = Mockito.mock(SharedIndexInformer.class);
+    Mockito.when(informer1.start()).thenThrow(new IllegalStateException("Cannot restart a stopped informer"));
+    Mockito.when(informer2.start()).thenReturn(CompletableFuture.completedFuture(null));
+    Mockito.when(client.resources(Pod.class).inAnyNamespace().runnableInformer(0)).thenReturn(informer1, informer2);
+
+    SharedInformerFactoryImpl factory = new SharedInformerFactoryImpl(client);
+    factory.withStartBudget(1, 0);
+    factory.sharedIndexInformerFor(Pod.class, 0);
+    factory.sharedIndexInformerFor(Pod.class, 0);
+    CompletableFuture<Void> all = (CompletableFuture<Void>) factory.startAllRegisteredInformers();
+
+    Mockito.verify(informer2).start();
+    assertThrows(CompletionException.class, all::join);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testStopReleasesPendingStarts() {
+    SharedIndexInformer<Pod> informer1 = Mockito.mock(SharedIndexInformer.class);
+    SharedIndexInformer<Pod> informer2 = Mockito.mock(SharedIndexInformer.class);
+    CompletableFuture<Void> started1 = new CompletableFuture<>();
+    Mockito.when(informer1.start()).thenReturn(started1);
+    // as the informer does, stop completes the start
+    Mockito.doAnswer(i -> started1.completeExceptionally(new KubernetesClientException("stopped"))).when(informer1)
+        .stop();
+    Mockito.when(client.resources(Pod.class).inAnyNamespace().runnableInformer(0)).thenReturn(informer1, informer2);
+
+    SharedInformerFactoryImpl factory = new SharedInformerFactoryImpl(client);
+    factory.withStartBudget(1, 0);
+    factory.sharedIndexInformerFor(Pod.class, 0);
+    factory.sharedIndexInformerFor(Pod.class, 0);
+    CompletableFuture<Void> all = (CompletableFuture<Void>) factory.startAllRegisteredInformers();
+
+    factory.stopAllRegisteredInformers();
+
+    assertTrue(all.isCompletedExceptionally());
+    Mockito.verify(informer2, Mockito.never()).start();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testNamespacesShareWatch() {
+    DefaultSharedIndexInformer<Pod, ?> informer = Mockito.mock(DefaultSharedIndexInformer.class);
+    Mockito.when(client.authorization().v1().selfSubjectAccessReview().create(Mockito.any()))
+        .thenReturn(review(true));
+    Mockito.when(client.resources(Pod.class).inAnyNamespace().runnableInformer(0)).thenReturn((SharedIndexInformer) informer);
+
+    SharedInformerFactoryImpl factory = new SharedInformerFactoryImpl(client);
+    assertEquals(Collections.singletonList(informer), factory.sharedIndexInformersFor(Pod.class, Arrays.asList("a", "b"), 0));
+
+    // a filter rather than a transform, so that it is not replaced by a transform set by the caller
+    ArgumentCaptor<Predicate<Pod>> filter = ArgumentCaptor.forClass(Predicate.class);
+    Mockito.verify(informer).filter(filter.capture());
+    Mockito.verify(informer, Mockito.never()).transform(Mockito.any());
+    assertTrue(filter.getValue().test(pod("a")));
+    assertFalse(filter.getValue().test(pod("c")));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testNamespacesNotAllowedToShareWatch() {
+    SharedIndexInformer<Pod> informerA = Mockito.mock(SharedIndexInformer.class);
+    SharedIndexInformer<Pod> informerB = Mockito.mock(SharedIndexInformer.class);
+    CompletableFuture<Void> startedA = new CompletableFuture<>();
+    Mockito.when(informerA.start()).thenReturn(startedA);
+    Mockito.when(informerB.start()).thenReturn(CompletableFuture.completedFuture(null));
+    Mockito.when(client.resources(Pod.class).inNamespace("a").runnableInformer(0)).thenReturn(informerA);
+    Mockito.when(client.resources(Pod.class).inNamespace("b").runnableInformer(0)).thenReturn(informerB);
+
+    SharedInformerFactoryImpl factory = new SharedInformerFactoryImpl(client);
+    Mockito.when(client.authorization().v1().selfSubjectAccessReview().create(Mockito.any())).thenAnswer(i -> {
+      // the review is a blocking request
+      assertFalse(Thread.holdsLock(factory));
+      return review(false);
+    });
+    factory.withStartBudget(1, 0);
+
+    // an informer per namespace, started within the budget
+    assertEquals(Arrays.asList(informerA, informerB), factory.sharedIndexInformersFor(Pod.class, Arrays.asList("a", "b"), 0));
+    CompletableFuture<Void> all = (CompletableFuture<Void>) factory.startAllRegisteredInformers();
+    Mockito.verify(informerA).start();
+    Mockito.verify(informerB, Mockito.never()).start();
+
+    startedA.complete(null);
+
+    Mockito.verify(informerB).start();
+    assertNull(all.join());
+  }
+
+  @Test
+  void testSingleNamespaceNeedsNoReview() {
+    SharedInformerFactoryImpl factory = new SharedInformerFactoryImpl(client);
+    // a single namespace does not need a cluster scoped watch
+    assertEquals(1, factory.sharedIndexInformersFor(Pod.class, Collections.singleton("a"), 0).size());
+    Mockito.verify(client.authorization().v1().selfSubjectAccessReview(), Mockito.never()).create(Mockito.any());
+  }
+
+  private static SelfSubjectAccessReview review(boolean allowed) {
+    return new SelfSubjectAccessReviewBuilder().withNewStatus().withAllowed(allowed).endStatus().build();
+  }
+
+  private static Pod pod(String namespace) {
+    return new PodBuilder().withNewMetadata().withName("pod").withNamespace(namespace).endMetadata().build();
+  }
+
+}
@@ -149,6 +149,38 @@ class CacheTest {
     assertEquals(1, clusterNameIndexedPods.size());
   }
 
+  @Test
+  void testClusterScopedNamespaceIndex() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    Pod testPod = new PodBuilder().withNewMetadata().withName("test-pod").endMetadata().build();
+
+    podCache.put(testPod);
+
+    assertEquals(1, podCache.byIndex(Cache.NAMESPACE_INDEX, null).size());
+    assertEquals(Collections.singletonList("test-pod"), podCache.indexKeys(Cache.NAMESPACE_INDEX, null));
+    assertEquals(0, podCache.indexKeys(Cache.NAMESPACE_INDEX, "test").size());
+
+    podCache.remove(testPod);
+
+    assertEquals(0, podCache.byIndex(Cache.NAMESPACE_INDEX, null).size());
+  }
+
+  @Test
+  void testUpdateMovesBetweenIndexValues() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    String nodeIndex = "node-index";
+    podCache.addIndexFunc(nodeIndex, pod -> Collections.singletonList(pod.getSpec().getNodeName()));
+
+    podCache.put(new PodBuilder().withNewMetadata().withNamespace("test").withName("test-pod").endMetadata()
+        .withNewSpec().withNodeName("node-1").endSpec().build());
+    podCache.put(new PodBuilder().withNewMetadata().withNamespace("test").withName("test-pod").endMetadata()
+        .withNewSpec().withNodeName("node-2").endSpec().build());
+
+    assertEquals(0, podCache.byIndex(nodeIndex, "node-1").size());
+    assertEquals(1, podCache.byIndex(nodeIndex, "node-2").size());
+    assertEquals(1, podCache.byIndex(Cache.NAMESPACE_INDEX, "test").size());
+  }
+
   private static List<String> mockIndexFunction(Object obj) {
     if (obj == null) {
       return Collections.singletonList("null");
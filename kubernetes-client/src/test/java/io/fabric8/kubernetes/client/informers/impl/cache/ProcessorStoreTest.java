@@ -15,8 +15,10 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.InformerTransforms;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.AddNotification;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.DeleteNotification;
@@ -78,6 +80,92 @@ class ProcessorStoreTest {
     assertThat(syncValues.get(2)).isFalse();
   }
 
+  @Test
+  void testTransform() {
+    ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+    processorStore.setTransform(InformerTransforms.stripManagedFields(InformerTransforms.LAST_APPLIED_CONFIGURATION));
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1")
+        .withManagedFields(new ManagedFieldsEntryBuilder().withManager("kubectl").build())
+        .addToAnnotations(InformerTransforms.LAST_APPLIED_CONFIGURATION, "{}").addToAnnotations("keep", "x")
+        .endMetadata().build();
+
+    processorStore.update(pod);
+
+    Pod cached = podCache.getByKey(Cache.metaNamespaceKeyFunc(pod));
+    assertThat(cached.getMetadata().getManagedFields()).isEmpty();
+    assertThat(cached.getMetadata().getAnnotations()).containsOnlyKeys("keep");
+
+    Mockito.verify(processor).distribute(notificationCaptor.capture(), Mockito.eq(false));
+    assertThat(notificationCaptor.getValue().getNewObject().getMetadata().getManagedFields()).isEmpty();
+  }
+
+  @Test
+  void testFilterIsKeptWithTransform() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+    processorStore.setFilter(p -> "a".equals(p.getMetadata().getNamespace()));
+    processorStore.setTransform(InformerTransforms.stripManagedFields());
+
+    processorStore.update(new PodBuilder().withNewMetadata().withName("pod").withNamespace("a").withResourceVersion("1")
+        .endMetadata().build());
+    processorStore.update(new PodBuilder().withNewMetadata().withName("pod").withNamespace("b").withResourceVersion("1")
+        .endMetadata().build());
+
+    assertThat(podCache.listKeys()).containsExactly("a/pod");
+    Mockito.verify(processor, Mockito.times(1)).distribute(Mockito.any(Notification.class), Mockito.eq(false));
+  }
+
+  @Test
+  void testUpdateTransformedToNullIsDeleted() {
+    ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+    processorStore.setTransform(p -> p.getMetadata().getLabels().containsKey("keep") ? p : null);
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("1").addToLabels("keep", "x")
+        .endMetadata().build();
+    processorStore.update(pod);
+    processorStore.update(new PodBuilder(pod).editMetadata().withResourceVersion("2").withLabels(Collections.emptyMap())
+        .endMetadata().build());
+
+    assertThat(podCache.listKeys()).isEmpty();
+    Mockito.verify(processor, Mockito.times(2)).distribute(notificationCaptor.capture(), Mockito.eq(false));
+    assertThat(notificationCaptor.getAllValues().get(1)).isInstanceOf(DeleteNotification.class);
+    // the last known included state is what is deleted
+    assertThat(notificationCaptor.getAllValues().get(1).getOldObject()).isSameAs(pod);
+  }
+
+  @Test
+  void testDeleteWhenFiltered() {
+    ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+    processorStore.setTransform(p -> p.getMetadata().getLabels().containsKey("keep") ? p : null);
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("1").addToLabels("keep", "x")
+        .endMetadata().build();
+    processorStore.update(pod);
+    // the final state no longer matches, but the cached entry still has to go
+    processorStore.delete(new PodBuilder(pod).editMetadata().withResourceVersion("2").withLabels(Collections.emptyMap())
+        .endMetadata().build());
+
+    assertThat(podCache.listKeys()).isEmpty();
+    Mockito.verify(processor, Mockito.times(2)).distribute(notificationCaptor.capture(), Mockito.eq(false));
+    assertThat(notificationCaptor.getAllValues().get(1)).isInstanceOf(DeleteNotification.class);
+    assertThat(notificationCaptor.getAllValues().get(1).getOldObject()).isSameAs(pod);
+  }
+
   @Test
   void testSyncEvents() {
     ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
@@ -16,22 +16,28 @@
 
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.exceptions.verification.TooFewActualInvocations;
 
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -43,7 +49,8 @@ class ReflectorTest {
   void testStateFlags() {
     ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
     PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
-    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitListPipelined(Mockito.any(), Mockito.anyInt(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list.getMetadata()));
 
     SyncableStore<Pod> mockStore = Mockito.mock(SyncableStore.class);
     Reflector<Pod, PodList> reflector = new Reflector<Pod, PodList>(mock, mockStore) {
@@ -90,7 +97,8 @@ class ReflectorTest {
   void testNotRunningAfterStartError() {
     ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
     PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
-    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitListPipelined(Mockito.any(), Mockito.anyInt(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list.getMetadata()));
 
     Reflector<Pod, PodList> reflector = new Reflector<Pod, PodList>(mock, Mockito.mock(SyncableStore.class));
 
@@ -110,7 +118,8 @@ class ReflectorTest {
   void testNonHttpGone() {
     ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
     PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
-    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitListPipelined(Mockito.any(), Mockito.anyInt(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list.getMetadata()));
 
     Reflector<Pod, PodList> reflector = new Reflector<>(mock, Mockito.mock(SyncableStore.class));
 
@@ -132,7 +141,8 @@ class ReflectorTest {
   void testTimeout() {
     ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
     PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
-    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitListPipelined(Mockito.any(), Mockito.anyInt(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list.getMetadata()));
 
     Reflector<Pod, PodList> reflector = new Reflector<>(mock, Mockito.mock(SyncableStore.class));
     reflector.setMinTimeout(1);
@@ -156,4 +166,65 @@ class ReflectorTest {
     });
   }
 
+  @Test
+  void testSendInitialEvents() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    SyncableStore<Pod> mockStore = Mockito.mock(SyncableStore.class);
+    Mockito.when(mockStore.getKey(Mockito.any())).thenAnswer(i -> i.getArgument(0, Pod.class).getMetadata().getName());
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+    reflector.sendInitialEvents(true);
+
+    ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+    Mockito.when(mock.submitWatch(options.capture(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    CompletableFuture<Void> future = reflector.start();
+
+    assertTrue(reflector.isWatching());
+    assertFalse(future.isDone());
+    assertEquals(Boolean.TRUE, options.getValue().getAdditionalProperties().get(AbstractWatchManager.SEND_INITIAL_EVENTS));
+    assertEquals("NotOlderThan", options.getValue().getResourceVersionMatch());
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("3").endMetadata().build();
+    reflector.getWatcher().eventReceived(Action.ADDED, pod);
+    reflector.getWatcher().eventReceived(Action.BOOKMARK, new PodBuilder().withNewMetadata().withResourceVersion("5")
+        .addToAnnotations(AbstractWatchManager.INITIAL_EVENTS_END_ANNOTATION, "true").endMetadata().build());
+
+    assertTrue(future.isDone());
+    assertEquals("5", reflector.getLastSyncResourceVersion());
+    Mockito.verify(mockStore).update(pod);
+    Mockito.verify(mockStore).retainAll(Collections.singleton("pod"));
+    Mockito.verify(mock, Mockito.never()).submitListPipelined(Mockito.any(), Mockito.anyInt(), Mockito.any());
+
+    // subsequent events are handled normally
+    reflector.getWatcher().eventReceived(Action.DELETED, pod);
+    Mockito.verify(mockStore).delete(pod);
+  }
+
+  @Test
+  void testSendInitialEventsFallback() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
+    Mockito.when(mock.submitListPipelined(Mockito.any(), Mockito.anyInt(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list.getMetadata()));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, Mockito.mock(SyncableStore.class));
+    reflector.sendInitialEvents(true);
+
+    CompletableFuture<AbstractWatchManager<Pod>> rejected = new CompletableFuture<>();
+    rejected.completeExceptionally(new KubernetesClientException("sendInitialEvents is forbidden", 422, null));
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(rejected)
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    CompletableFuture<Void> future = reflector.start();
+
+    assertTrue(future.isDone());
+    assertFalse(future.isCompletedExceptionally());
+    assertTrue(reflector.isWatching());
+    assertEquals("1", reflector.getLastSyncResourceVersion());
+    Mockito.verify(mock).submitListPipelined(Mockito.any(), Mockito.anyInt(), Mockito.any());
+  }
+
 }
@@ -17,10 +17,25 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.EventQueueOptions;
+import io.fabric8.kubernetes.client.informers.EventQueueOptions.OverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class SharedProcessorTest {
   @Test
@@ -62,6 +77,154 @@ class SharedProcessorTest {
     sharedProcessor.distribute(addNotification, false);
   }
 
+  @Test
+  void testSlowListenerDoesNotBlockOthers() throws InterruptedException {
+    ExecutorService executorService = Executors.newCachedThreadPool();
+    try {
+      SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(executorService, "informer");
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch fastDone = new CountDownLatch(2);
+      sharedProcessor.addProcessorListener(new RecordingHandler(release), 0, Collections::emptyList);
+      sharedProcessor.addProcessorListener(new RecordingHandler(null) {
+        @Override
+        public void onAdd(Pod obj) {
+          fastDone.countDown();
+        }
+      }, 0, Collections::emptyList);
+
+      sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo1", "1")), false);
+      sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo2", "1")), false);
+
+      assertTrue(fastDone.await(10, TimeUnit.SECONDS));
+      release.countDown();
+      sharedProcessor.stop();
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void testDropWhenFull() {
+    List<Long> dropped = new CopyOnWriteArrayList<>();
+    ClientMetrics.setInstance(new ClientMetrics() {
+      @Override
+      public void informerEventDropped(String resource, long droppedCount) {
+        dropped.add(droppedCount);
+      }
+    });
+    try {
+      dropWhenFull(dropped);
+    } finally {
+      ClientMetrics.setInstance(null);
+    }
+  }
+
+  private void dropWhenFull(List<Long> dropped) {
+    List<Runnable> tasks = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "informer");
+    RecordingHandler handler = new RecordingHandler(null);
+    sharedProcessor.addProcessorListener(handler, 0, Collections::emptyList,
+        EventQueueOptions.bounded(2, OverflowPolicy.DROP));
+
+    for (int i = 0; i < 5; i++) {
+      sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo" + i, "1")), false);
+    }
+    tasks.forEach(Runnable::run);
+
+    assertEquals(2, handler.events.size());
+    assertEquals("add foo0 1", handler.events.get(0));
+    assertEquals("add foo1 1", handler.events.get(1));
+    assertEquals(3, sharedProcessor.getDroppedCount());
+    assertEquals(Arrays.asList(1L, 2L, 3L), dropped);
+  }
+
+  @Test
+  void testInterruptedWhileBlockedIsDropped() {
+    List<Runnable> tasks = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "informer");
+    RecordingHandler handler = new RecordingHandler(null);
+    sharedProcessor.addProcessorListener(handler, 0, Collections::emptyList,
+        EventQueueOptions.bounded(1, OverflowPolicy.BLOCK));
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo0", "1")), false);
+    Thread.currentThread().interrupt();
+    try {
+      sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo1", "1")), false);
+      // the interrupt is preserved for the caller
+      assertTrue(Thread.currentThread().isInterrupted());
+    } finally {
+      Thread.interrupted();
+    }
+    tasks.forEach(Runnable::run);
+
+    assertEquals(Collections.singletonList("add foo0 1"), handler.events);
+    assertEquals(1, sharedProcessor.getDroppedCount());
+  }
+
+  @Test
+  void testCoalesceWhenFull() {
+    List<Runnable> tasks = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "informer", Cache::metaNamespaceKeyFunc);
+    RecordingHandler handler = new RecordingHandler(null);
+    sharedProcessor.addProcessorListener(handler, 0, Collections::emptyList,
+        EventQueueOptions.bounded(2, OverflowPolicy.COALESCE));
+
+    Pod foo1 = pod("foo1", "1");
+    Pod foo2 = pod("foo2", "1");
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(foo1), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(foo2), false);
+    // merged into the pending add
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(foo1, pod("foo1", "2")), false);
+    // cancels the pending add, leaving room for another notification
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(foo2), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo3", "1")), false);
+    tasks.forEach(Runnable::run);
+
+    assertEquals(2, handler.events.size());
+    assertEquals("add foo1 2", handler.events.get(0));
+    assertEquals("add foo3 1", handler.events.get(1));
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace("default").withResourceVersion(resourceVersion)
+        .endMetadata().build();
+  }
+
+  private static class RecordingHandler implements ResourceEventHandler<Pod> {
+    private final CountDownLatch release;
+    final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    RecordingHandler(CountDownLatch release) {
+      this.release = release;
+    }
+
+    private void record(String event, Pod pod) {
+      if (release != null) {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      events.add(event + " " + pod.getMetadata().getName() + " " + pod.getMetadata().getResourceVersion());
+    }
+
+    @Override
+    public void onAdd(Pod obj) {
+      record("add", obj);
+    }
+
+    @Override
+    public void onUpdate(Pod oldObj, Pod newObj) {
+      record("update", newObj);
+    }
+
+    @Override
+    public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      record("delete", obj);
+    }
+  }
+
   private static class ExpectingNotificationHandler<T> extends ProcessorListener<T> {
     ExpectingNotificationHandler(Notification<T> notification) {
       this(new ResourceEventHandler<T>() {
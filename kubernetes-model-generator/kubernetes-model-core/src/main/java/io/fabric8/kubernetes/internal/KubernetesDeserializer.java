@@ -16,10 +16,13 @@
 package io.fabric8.kubernetes.internal;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
@@ -79,6 +82,10 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
 
   @Override
   public KubernetesResource deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+      return fromObject(jp, ctxt);
+    }
     JsonNode node = jp.readValueAsTree();
     if (node.isObject()) {
       return fromObjectNode(jp, node);
@@ -92,6 +99,71 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
     return new RawExtension(object);
   }
 
+  /**
+   * Determine the type of an object without building a tree.
+   * <p>
+   * Properties are buffered only until both the apiVersion and kind have been seen - which are typically
+   * the first properties - then the buffered tokens followed by the rest of the object are replayed into the
+   * deserializer for the resolved type.
+   */
+  private static KubernetesResource fromObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    }
+    TokenBuffer buffer = ctxt.bufferForInputBuffering(jp);
+    buffer.writeStartObject();
+    String apiVersion = null;
+    String kind = null;
+    boolean complete = true;
+    for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+      String name = jp.currentName();
+      JsonToken valueToken = jp.nextToken();
+      if (valueToken == JsonToken.VALUE_STRING) {
+        if (API_VERSION.equals(name)) {
+          apiVersion = jp.getText();
+        } else if (KIND.equals(name)) {
+          kind = jp.getText();
+        }
+      }
+      buffer.writeFieldName(name);
+      buffer.copyCurrentStructure(jp);
+      if (apiVersion != null && kind != null) {
+        // the rest of the object will be read from the original parser
+        complete = false;
+        break;
+      }
+    }
+
+    JsonParser replay;
+    if (complete) {
+      buffer.writeEndObject();
+      replay = buffer.asParser(jp);
+    } else {
+      // the sequence continues with the token following the last buffered value
+      jp.clearCurrentToken();
+      replay = JsonParserSequence.createFlattened(false, buffer.asParser(jp), jp);
+    }
+    replay.nextToken();
+
+    TypeKey key = mapping.createKey(apiVersion, kind);
+    Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
+    if (resourceType == null) {
+      if (key == null) {
+        // just a wrapper around a map
+        // if this raw mapping typed as HasMetadata, a failure will result
+        return ctxt.readValue(replay, RawExtension.class);
+      }
+      // this is not quite correct as not all resources have metadata - see LocalResourceAccessReview
+      return ctxt.readValue(replay, GenericKubernetesResource.class);
+    } else if (KubernetesResource.class.isAssignableFrom(resourceType)) {
+      return ctxt.readValue(replay, resourceType);
+    }
+    throw new JsonMappingException(jp, String.format(
+        "There's a class loading issue, %s is registered as a KubernetesResource, but is not an instance of KubernetesResource",
+        resourceType.getName()));
+  }
+
   private KubernetesResource fromArrayNode(JsonParser jp, JsonNode node) throws IOException {
     Iterator<JsonNode> iterator = node.elements();
     List<HasMetadata> list = new ArrayList<>();
@@ -141,6 +213,15 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
         kind != null ? kind.textValue() : null);
   }
 
+  /**
+   * Returns the class registered for the apiVersion and kind, without deserializing anything.
+   *
+   * @return the registered class, or null if there is none
+   */
+  public static Class<? extends KubernetesResource> getRegisteredType(String apiVersion, String kind) {
+    return mapping.getForKey(mapping.createKey(apiVersion, kind));
+  }
+
   /**
    * Registers a Custom Resource Definition Kind
    */
@@ -15,9 +15,13 @@
  */
 package io.fabric8.kubernetes.internal;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer.TypeKey;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Kind;
@@ -126,6 +130,43 @@ class KubernetesDeserializerTest {
     assertThat(clazz).isNull();
   }
 
+  @Test
+  void shouldDeserializeWithTypeInformationFirst() throws Exception {
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(
+        "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod\"},\"spec\":{\"nodeName\":\"node\"}}",
+        KubernetesResource.class);
+    // then
+    assertThat(resource).isInstanceOf(Pod.class);
+    assertThat(((Pod) resource).getMetadata().getName()).isEqualTo("pod");
+    assertThat(((Pod) resource).getSpec().getNodeName()).isEqualTo("node");
+  }
+
+  @Test
+  void shouldDeserializeWithTypeInformationLast() throws Exception {
+    // when
+    KubernetesList list = new ObjectMapper().readValue(
+        "{\"items\":[{\"metadata\":{\"name\":\"pod\"},\"apiVersion\":\"v1\",\"kind\":\"Pod\"},"
+            + "{\"apiVersion\":\"v1\",\"metadata\":{\"name\":\"other\"},\"kind\":\"Other\"}],"
+            + "\"kind\":\"List\",\"apiVersion\":\"v1\"}",
+        KubernetesList.class);
+    // then
+    assertThat(list.getItems()).hasSize(2);
+    assertThat(list.getItems().get(0)).isInstanceOf(Pod.class);
+    assertThat(list.getItems().get(0).getMetadata().getName()).isEqualTo("pod");
+    assertThat(list.getItems().get(1)).isInstanceOf(GenericKubernetesResource.class);
+    assertThat(list.getItems().get(1).getMetadata().getName()).isEqualTo("other");
+  }
+
+  @Test
+  void shouldDeserializeWithoutTypeInformationAsRawExtension() throws Exception {
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue("{\"key\":{\"nested\":[1,2]}}",
+        KubernetesResource.class);
+    // then
+    assertThat(resource).isInstanceOf(RawExtension.class);
+  }
+
   @Group("")
   @Kind("Hitchhiker")
   @Version("42")
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.APIGroupListBuilder;
+import io.fabric8.kubernetes.api.model.APIResource;
+import io.fabric8.kubernetes.api.model.APIResourceList;
+import io.fabric8.kubernetes.api.model.APIResourceListBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableKubernetesMockClient
+class DiscoveryCacheTest {
+
+  private static final String AGGREGATED = "{\"apiVersion\":\"apidiscovery.k8s.io/v2\",\"kind\":\"APIGroupDiscoveryList\","
+      + "\"items\":[{\"metadata\":{\"name\":\"apps\"},\"versions\":[{\"version\":\"v1\",\"resources\":["
+      + "{\"resource\":\"deployments\",\"singularResource\":\"deployment\",\"scope\":\"Namespaced\","
+      + "\"responseKind\":{\"group\":\"apps\",\"version\":\"v1\",\"kind\":\"Deployment\"},"
+      + "\"verbs\":[\"get\",\"list\"],\"shortNames\":[\"deploy\"],\"categories\":[\"all\"],"
+      + "\"subresources\":[{\"subresource\":\"scale\",\"responseKind\":{\"group\":\"autoscaling\",\"version\":\"v1\","
+      + "\"kind\":\"Scale\"},\"verbs\":[\"get\",\"patch\"]}]}]}]}]}";
+
+  KubernetesClient client;
+  KubernetesMockServer server;
+
+  private KubernetesClient newClient(long ttl, String dir) {
+    Config config = new ConfigBuilder(client.getConfiguration())
+        .withDiscoveryCacheTtl(ttl)
+        .withDiscoveryCacheDir(dir)
+        .build();
+    return new KubernetesClientBuilder().withConfig(config).build();
+  }
+
+  private void expectLegacyDiscovery() {
+    server.expect().get().withPath("/apis")
+        .andReturn(200, new APIGroupListBuilder().addNewGroup().withName("apps").addNewVersion()
+            .withGroupVersion("apps/v1").withVersion("v1").endVersion().endGroup().build())
+        .always();
+    server.expect().get().withPath("/apis/apps/v1")
+        .andReturn(200, new APIResourceListBuilder().withGroupVersion("apps/v1").addNewResource()
+            .withName("deployments").withKind("Deployment").withNamespaced(true).endResource().build())
+        .always();
+  }
+
+  @Test
+  void testSharedBetweenClients() {
+    expectLegacyDiscovery();
+    int before = server.getRequestCount();
+
+    try (KubernetesClient first = newClient(60000, null); KubernetesClient second = newClient(60000, null)) {
+      assertTrue(first.supports(Deployment.class));
+      assertEquals(1, first.getApiGroups().getGroups().size());
+      // the probe for aggregated discovery and the group version
+      assertEquals(2, server.getRequestCount() - before);
+
+      assertTrue(second.supports(Deployment.class));
+      assertEquals("apps", second.getApiGroup("apps").getName());
+      assertNull(second.getApiGroup("batch"));
+      assertEquals(2, server.getRequestCount() - before);
+    }
+  }
+
+  @Test
+  void testDisabledByDefault() {
+    expectLegacyDiscovery();
+    int before = server.getRequestCount();
+
+    assertTrue(client.supports(Deployment.class));
+    assertTrue(client.supports(Deployment.class));
+
+    assertEquals(2, server.getRequestCount() - before);
+  }
+
+  @Test
+  void testAggregatedDiscovery() throws InterruptedException {
+    server.expect().get().withPath("/apis").andReturn(200, AGGREGATED).always();
+    int before = server.getRequestCount();
+
+    try (KubernetesClient cached = newClient(60003, null)) {
+      assertEquals("apps/v1", cached.getApiGroups().getGroups().get(0).getPreferredVersion().getGroupVersion());
+      APIResourceList resources = cached.getApiResources("apps/v1");
+      assertTrue(cached.supports(Deployment.class));
+      assertNull(cached.getApiResources("batch/v1"));
+
+      assertEquals(1, server.getRequestCount() - before);
+      assertThat(resources.getResources().stream().map(APIResource::getName).collect(Collectors.toList()))
+          .containsExactly("deployments", "deployments/scale");
+      APIResource deployments = resources.getResources().get(0);
+      assertEquals("deployment", deployments.getSingularName());
+      assertTrue(deployments.getNamespaced());
+      assertThat(deployments.getShortNames()).containsExactly("deploy");
+      assertEquals("Scale", resources.getResources().get(1).getKind());
+      assertThat(server.takeRequest().getHeader("Accept")).contains("as=APIGroupDiscoveryList");
+    }
+  }
+
+  @Test
+  void testPersistedToDisk(@TempDir Path dir) throws IOException {
+    server.expect().get().withPath("/apis").andReturn(200, AGGREGATED).always();
+    int before = server.getRequestCount();
+
+    try (KubernetesClient cached = newClient(60001, dir.toString())) {
+      assertTrue(cached.supports(Deployment.class));
+    }
+    assertEquals(1, server.getRequestCount() - before);
+    try (Stream<Path> files = Files.walk(dir)) {
+      assertTrue(files.anyMatch(p -> p.getFileName().toString().equals("apis.json")));
+    }
+
+    // a different ttl is backed by a new cache, which must be loaded from disk
+    try (KubernetesClient cached = newClient(60002, dir.toString())) {
+      assertTrue(cached.supports(Deployment.class));
+    }
+    assertEquals(1, server.getRequestCount() - before);
+  }
+}
@@ -19,10 +19,13 @@ package io.fabric8.kubernetes.client.mock;
 import io.fabric8.kubernetes.api.model.DeleteOptionsBuilder;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.api.model.policy.v1.EvictionBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -32,6 +35,7 @@ import io.fabric8.kubernetes.client.PortForward;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.AsyncResource;
 import io.fabric8.kubernetes.client.dsl.ExecListener;
 import io.fabric8.kubernetes.client.dsl.ExecWatch;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
@@ -66,14 +70,21 @@ import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -131,6 +142,112 @@ class PodTest {
     assertEquals(3, podList.getItems().size());
   }
 
+  @Test
+  void testListWithItemConsumer() {
+    server.expect()
+        .withPath("/api/v1/namespaces/ns1/pods?limit=2")
+        .andReturn(200, new PodListBuilder()
+            .withNewMetadata().withContinue("abc").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod1").endMetadata().and()
+            .addNewItem().withNewMetadata().withName("pod2").endMetadata().and()
+            .build())
+        .once();
+
+    List<Pod> items = new ArrayList<>();
+    ListMeta meta = client.pods().inNamespace("ns1").list(new ListOptionsBuilder().withLimit(2L).build(), items::add);
+
+    assertEquals("abc", meta.getContinue());
+    assertEquals(2, items.size());
+    assertEquals("pod1", items.get(0).getMetadata().getName());
+    assertEquals("v1", items.get(0).getApiVersion());
+  }
+
+  @Test
+  void testListPipelined() {
+    server.expect()
+        .withPath("/api/v1/namespaces/ns1/pods?limit=2")
+        .andReturn(200, new PodListBuilder()
+            .withNewMetadata().withContinue("abc").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod1").endMetadata().and()
+            .addNewItem().withNewMetadata().withName("pod2").endMetadata().and()
+            .build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/ns1/pods?limit=2&continue=abc")
+        .andReturn(200, new PodListBuilder()
+            .withNewMetadata().withContinue("def").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod3").endMetadata().and()
+            .addNewItem().withNewMetadata().withName("pod4").endMetadata().and()
+            .build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/ns1/pods?limit=2&continue=def")
+        .andReturn(200, new PodListBuilder()
+            .withNewMetadata().withResourceVersion("5").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod5").endMetadata().and()
+            .build())
+        .once();
+
+    List<String> names = new ArrayList<>();
+    ListMeta meta = client.pods().inNamespace("ns1").listPipelined(new ListOptionsBuilder().withLimit(2L).build(), 1,
+        p -> names.add(p.getMetadata().getName()));
+
+    assertEquals("5", meta.getResourceVersion());
+    assertEquals(Arrays.asList("pod1", "pod2", "pod3", "pod4", "pod5"), names);
+  }
+
+  @Test
+  void testStream() {
+    server.expect()
+        .withPath("/api/v1/namespaces/ns1/pods?limit=2")
+        .andReturn(200, new PodListBuilder()
+            .withNewMetadata().withContinue("abc").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod1").endMetadata().and()
+            .addNewItem().withNewMetadata().withName("pod2").endMetadata().and()
+            .build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/ns1/pods?limit=2&continue=abc")
+        .andReturn(200, new PodListBuilder()
+            .addNewItem().withNewMetadata().withName("pod3").endMetadata().and()
+            .build())
+        .once();
+
+    int requestCount = server.getRequestCount();
+    Iterator<Pod> iterator = client.pods().inNamespace("ns1").listAsIterator(2);
+
+    assertEquals("pod1", iterator.next().getMetadata().getName());
+    assertEquals("pod2", iterator.next().getMetadata().getName());
+    // the second page is only requested once the first is exhausted
+    assertEquals(requestCount + 1, server.getRequestCount());
+    assertEquals("pod3", iterator.next().getMetadata().getName());
+    assertFalse(iterator.hasNext());
+    assertEquals(requestCount + 2, server.getRequestCount());
+  }
+
+  @Test
+  void testStreamExpiredContinue() {
+    server.expect()
+        .withPath("/api/v1/namespaces/ns1/pods?limit=1")
+        .andReturn(200, new PodListBuilder()
+            .withNewMetadata().withContinue("abc").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod1").endMetadata().and()
+            .build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/ns1/pods?limit=1&continue=abc")
+        .andReturn(HttpURLConnection.HTTP_GONE, new StatusBuilder().withCode(HttpURLConnection.HTTP_GONE).build())
+        .once();
+
+    Stream<Pod> stream = client.pods().inNamespace("ns1").stream(new ListOptionsBuilder().withLimit(1L).build());
+    Iterator<Pod> iterator = stream.iterator();
+
+    assertEquals("pod1", iterator.next().getMetadata().getName());
+    KubernetesClientException e = assertThrows(KubernetesClientException.class, iterator::hasNext);
+    assertEquals(HttpURLConnection.HTTP_GONE, e.getCode());
+    assertEquals(HttpURLConnection.HTTP_GONE, ((KubernetesClientException) e.getCause()).getCode());
+  }
+
   @Test
   void testListWithLabels() {
     server.expect()
@@ -223,6 +340,97 @@ class PodTest {
     assertTrue(deleted);
   }
 
+  @Test
+  void testAsync() throws Exception {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").endMetadata().build();
+    Pod updated = new PodBuilder(pod1).editMetadata().withResourceVersion("2").endMetadata().build();
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(HttpURLConnection.HTTP_CREATED, pod1).once();
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodBuilder(pod1).editMetadata().withResourceVersion("1").endMetadata()
+            .build())
+        .once();
+    server.expect().put().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(HttpURLConnection.HTTP_OK, updated)
+        .once();
+    server.expect().delete().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(HttpURLConnection.HTTP_OK, updated)
+        .once();
+
+    AsyncResource<Pod> async = client.pods().inNamespace("test").async().resource(pod1);
+
+    assertEquals("pod1", async.create().get(10, TimeUnit.SECONDS).getMetadata().getName());
+    // the resourceVersion is fetched before the update
+    assertEquals("2", async.update().get(10, TimeUnit.SECONDS).getMetadata().getResourceVersion());
+    server.takeRequest(); // create
+    server.takeRequest(); // get
+    assertTrue(server.takeRequest().getBody().readUtf8().contains("\"resourceVersion\":\"1\""));
+    assertEquals(1, async.delete().get(10, TimeUnit.SECONDS).size());
+    // a missing resource is null, as with the blocking get
+    assertNull(async.get().get(10, TimeUnit.SECONDS));
+    // and deleting it again finds nothing
+    assertTrue(async.delete().get(10, TimeUnit.SECONDS).isEmpty());
+  }
+
+  @Test
+  void testAsyncReplaceRetriesConflict() throws Exception {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").endMetadata().build();
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodBuilder(pod1).editMetadata().withResourceVersion("1").endMetadata()
+            .build())
+        .once();
+    server.expect().put().withPath("/api/v1/namespaces/test/pods/pod1")
+        .andReturn(HttpURLConnection.HTTP_CONFLICT, new StatusBuilder().withCode(HttpURLConnection.HTTP_CONFLICT).build())
+        .once();
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodBuilder(pod1).editMetadata().withResourceVersion("2").endMetadata()
+            .build())
+        .once();
+    server.expect().put().withPath("/api/v1/namespaces/test/pods/pod1")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodBuilder(pod1).editMetadata().withResourceVersion("3").endMetadata()
+            .build())
+        .once();
+
+    Pod replaced = client.pods().inNamespace("test").resource(pod1).async().replace().get(10, TimeUnit.SECONDS);
+
+    assertEquals("3", replaced.getMetadata().getResourceVersion());
+    server.takeRequest(); // get
+    assertTrue(server.takeRequest().getBody().readUtf8().contains("\"resourceVersion\":\"1\""));
+    server.takeRequest(); // get after the conflict
+    assertTrue(server.takeRequest().getBody().readUtf8().contains("\"resourceVersion\":\"2\""));
+  }
+
+  @Test
+  void testAsyncCreateOrReplace() throws Exception {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").endMetadata().build();
+    server.expect().post().withPath("/api/v1/namespaces/test/pods")
+        .andReturn(HttpURLConnection.HTTP_CONFLICT, new StatusBuilder().withCode(HttpURLConnection.HTTP_CONFLICT).build())
+        .once();
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodBuilder(pod1).editMetadata().withResourceVersion("1").endMetadata()
+            .build())
+        .once();
+    server.expect().put().withPath("/api/v1/namespaces/test/pods/pod1")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodBuilder(pod1).editMetadata().withResourceVersion("2").endMetadata()
+            .build())
+        .once();
+
+    Pod result = client.pods().inNamespace("test").resource(pod1).async().createOrReplace().get(10, TimeUnit.SECONDS);
+
+    // the existing resource is replaced
+    assertEquals("2", result.getMetadata().getResourceVersion());
+  }
+
+  @Test
+  void testAsyncFailure() {
+    server.expect().post().withPath("/api/v1/namespaces/test/pods")
+        .andReturn(HttpURLConnection.HTTP_CONFLICT, new StatusBuilder().withCode(HttpURLConnection.HTTP_CONFLICT).build())
+        .once();
+
+    CompletableFuture<Pod> future = client.pods().inNamespace("test")
+        .resource(new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build()).async().create();
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertEquals(HttpURLConnection.HTTP_CONFLICT, ((KubernetesClientException) e.getCause()).getCode());
+  }
+
   @Test
   void testDeleteMulti() {
     Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and().build();
@@ -22,6 +22,8 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
@@ -92,6 +94,26 @@ public class ResourceListTest {
     assertTrue(response.contains(pod1));
   }
 
+  @Test
+  void testCreateOrReplaceWithConcurrency() throws InterruptedException {
+    Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("test").endMetadata().build();
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("test").and().build();
+    Pod pod3 = new PodBuilder().withNewMetadata().withName("pod3").withNamespace("test").and().build();
+
+    server.expect().post().withPath("/api/v1/namespaces").andReturn(HTTP_CREATED, namespace).once();
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(HTTP_CREATED, pod1).once();
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(HTTP_CREATED, pod2).once();
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(HTTP_CREATED, pod3).once();
+
+    List<HasMetadata> response = client.resourceList(pod1, pod2, namespace, pod3).withConcurrency(3).createOrReplace();
+
+    assertEquals(4, response.size());
+    assertEquals(namespace, response.get(2));
+    // the namespace is created before any of the pods
+    assertEquals("/api/v1/namespaces", server.takeRequest().getPath());
+  }
+
   @Test
   void testCreateOrReplaceFailedCreate() {
     // Given
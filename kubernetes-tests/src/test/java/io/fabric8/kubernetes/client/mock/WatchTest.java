@@ -23,9 +23,12 @@ import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.api.model.WatchEventBuilder;
+import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.WatchTransport;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
@@ -498,4 +501,40 @@ class WatchTest {
     // ensure that the exception does not inhibit further message processing
     assertTrue(latch.await(10, TimeUnit.SECONDS));
   }
+
+  @Test
+  void testHttpTransportSkipsWebsocketUpgrade() throws InterruptedException {
+    // Given
+    String dummyEvent = Serialization.asJson(new WatchEventBuilder().withType("MODIFIED")
+        .withObject(new PodBuilder().withNewMetadata().endMetadata().build())
+        .build()) + "\n";
+
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?allowWatchBookmarks=true&watch=true")
+        .andReturn(200, Collections.nCopies(10, dummyEvent).stream().collect(Collectors.joining()))
+        .once();
+
+    CountDownLatch latch = new CountDownLatch(10);
+
+    // When
+    try (KubernetesClient httpClient = new KubernetesClientBuilder()
+        .withConfig(new ConfigBuilder(client.getConfiguration()).withWatchTransport(WatchTransport.HTTP).build())
+        .build();
+        Watch watch = httpClient.pods().watch(new Watcher<Pod>() {
+
+          @Override
+          public void eventReceived(Action action, Pod resource) {
+            latch.countDown();
+          }
+
+          @Override
+          public void onClose(WatcherException cause) {
+          }
+        })) {
+
+      // Then
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+      assertNull(server.getLastRequest().getHeader("Upgrade"));
+    }
+  }
 }
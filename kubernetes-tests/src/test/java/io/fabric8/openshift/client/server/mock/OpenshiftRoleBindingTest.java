@@ -16,11 +16,16 @@
 package io.fabric8.openshift.client.server.mock;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.openshift.api.model.RoleBinding;
 import io.fabric8.openshift.api.model.RoleBindingBuilder;
 import io.fabric8.openshift.client.OpenShiftClient;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @EnableOpenShiftMockClient
@@ -343,6 +348,49 @@ class OpenshiftRoleBindingTest {
         server.getLastRequest().getBody().readUtf8());
   }
 
+  @Test
+  void testCreateListWithConcurrencyEnrichesLikeSequential() throws Exception {
+    server.expect()
+        .post()
+        .withPath("/apis/authorization.openshift.io/v1/namespaces/test/rolebindings")
+        .andReturn(201, expectedRoleBinding)
+        .times(4);
+
+    List<RoleBinding> sequential = createRoleBindings(1);
+    List<RoleBinding> concurrent = createRoleBindings(2);
+
+    assertEquals(2, sequential.size());
+    assertEquals(sequential, concurrent);
+    for (RoleBinding sent : sequential) {
+      assertEquals(expectedRoleBinding.getSubjects(), sent.getSubjects());
+      assertEquals(expectedRoleBinding.getUserNames(), sent.getUserNames());
+      assertEquals(expectedRoleBinding.getGroupNames(), sent.getGroupNames());
+    }
+  }
+
+  private List<RoleBinding> createRoleBindings(int concurrency) throws Exception {
+    HasMetadata first = new RoleBindingBuilder()
+        .withNewMetadata().withName("first").endMetadata()
+        .addToUserNames("testuser1", "testuser2", "system:serviceaccount:test:svcacct")
+        .addToGroupNames("testgroup")
+        .build();
+    HasMetadata second = new RoleBindingBuilder()
+        .withNewMetadata().withName("second").endMetadata()
+        .addToUserNames("testuser1", "testuser2", "system:serviceaccount:test:svcacct")
+        .addToGroupNames("testgroup")
+        .build();
+
+    assertEquals(2, client.resourceList(first, second).withConcurrency(concurrency).create().size());
+
+    List<RoleBinding> sent = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      sent.add(new ObjectMapper().readerFor(RoleBinding.class).readValue(server.takeRequest().getBody().inputStream()));
+    }
+    // concurrent requests may arrive in any order
+    sent.sort(Comparator.comparing(rb -> rb.getMetadata().getName()));
+    return sent;
+  }
+
   @Test
   void testCreateInline() throws Exception {
     server.expect()
@@ -0,0 +1,178 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics.micrometer;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records {@link ClientMetrics} callbacks as Micrometer meters.
+ * <p>
+ * When discovered by the {@link java.util.ServiceLoader} the meters are registered with
+ * {@link Metrics#globalRegistry}, use {@link ClientMetrics#setInstance(ClientMetrics)} with
+ * {@link #MicrometerClientMetrics(MeterRegistry)} to record to a different registry.
+ * <p>
+ * Watch and informer meters are tagged with the resource endpoint, which includes the namespace - so
+ * the number of series grows with the number of namespaces watched.
+ */
+public class MicrometerClientMetrics implements ClientMetrics {
+
+  static final String REQUESTS = "kubernetes.client.requests";
+  static final String REQUESTS_FAILED = "kubernetes.client.requests.failed";
+  static final String REQUESTS_RETRIED = "kubernetes.client.requests.retried";
+  static final String WATCH_RECONNECTS = "kubernetes.client.watch.reconnects";
+  static final String WATCH_EVENTS = "kubernetes.client.watch.events";
+  static final String WATCH_BOOKMARK_LAG = "kubernetes.client.watch.bookmark.lag";
+  static final String INFORMER_LIST = "kubernetes.client.informer.list";
+  static final String INFORMER_LIST_ITEMS = "kubernetes.client.informer.list.items";
+  static final String INFORMER_WATCHES = "kubernetes.client.informer.watches";
+  static final String INFORMER_QUEUE_DEPTH = "kubernetes.client.informer.queue.depth";
+  static final String INFORMER_EVENTS_DROPPED = "kubernetes.client.informer.events.dropped";
+  static final String INFORMER_DISTRIBUTE = "kubernetes.client.informer.distribute";
+  static final String INFORMER_HANDLER = "kubernetes.client.informer.handler";
+
+  private static final String RESOURCE = "resource";
+
+  private final MeterRegistry registry;
+  private final Map<String, AtomicInteger> listItems = new ConcurrentHashMap<>();
+
+  public MicrometerClientMetrics() {
+    this(Metrics.globalRegistry);
+  }
+
+  public MicrometerClientMetrics(MeterRegistry registry) {
+    this.registry = Objects.requireNonNull(registry);
+  }
+
+  @Override
+  public void requestCompleted(HttpRequest request, int code, long durationNanos) {
+    Timer.builder(REQUESTS)
+        .description("The duration of individual request attempts")
+        .tags("method", request.method(), "code", Integer.toString(code))
+        .register(registry)
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void requestFailed(HttpRequest request, Throwable cause, long durationNanos) {
+    Timer.builder(REQUESTS_FAILED)
+        .description("The duration of request attempts that failed without a response")
+        .tags("method", request.method(), "exception", cause.getClass().getSimpleName())
+        .register(registry)
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void requestRetried(URI uri, int code) {
+    Counter.builder(REQUESTS_RETRIED)
+        .description("The number of request attempts that will be retried")
+        .tag("code", Integer.toString(code))
+        .register(registry)
+        .increment();
+  }
+
+  @Override
+  public void watchReconnecting(String resource, long delayMillis) {
+    Counter.builder(WATCH_RECONNECTS)
+        .tag(RESOURCE, resource)
+        .register(registry)
+        .increment();
+  }
+
+  @Override
+  public void watchEventReceived(String resource, Watcher.Action action) {
+    Counter.builder(WATCH_EVENTS)
+        .tags(RESOURCE, resource, "action", action.name())
+        .register(registry)
+        .increment();
+  }
+
+  @Override
+  public void watchBookmarkReceived(String resource, long lagMillis) {
+    Timer.builder(WATCH_BOOKMARK_LAG)
+        .description("The time between bookmarks of a watch")
+        .tag(RESOURCE, resource)
+        .register(registry)
+        .record(lagMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void informerListCompleted(String resource, int items, long durationNanos) {
+    Timer.builder(INFORMER_LIST)
+        .tag(RESOURCE, resource)
+        .register(registry)
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+    listItems.computeIfAbsent(resource,
+        r -> registry.gauge(INFORMER_LIST_ITEMS, Tags.of(RESOURCE, r), new AtomicInteger()))
+        .set(items);
+  }
+
+  @Override
+  public void informerWatchStarted(String resource) {
+    Counter.builder(INFORMER_WATCHES)
+        .tag(RESOURCE, resource)
+        .register(registry)
+        .increment();
+  }
+
+  @Override
+  public void informerEventQueued(String resource, int queueDepth) {
+    DistributionSummary.builder(INFORMER_QUEUE_DEPTH)
+        .description("The depth of a handler queue after a notification is added")
+        .tag(RESOURCE, resource)
+        .register(registry)
+        .record(queueDepth);
+  }
+
+  @Override
+  public void informerEventDropped(String resource, long droppedCount) {
+    Counter.builder(INFORMER_EVENTS_DROPPED)
+        .tag(RESOURCE, resource)
+        .register(registry)
+        .increment();
+  }
+
+  @Override
+  public void informerEventDistributed(String resource, int handlers, long durationNanos) {
+    Timer.builder(INFORMER_DISTRIBUTE)
+        .tag(RESOURCE, resource)
+        .register(registry)
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void informerHandlerCompleted(String resource, long durationNanos) {
+    Timer.builder(INFORMER_HANDLER)
+        .tag(RESOURCE, resource)
+        .register(registry)
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics.micrometer;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MicrometerClientMetricsTest {
+
+  @Test
+  void isDiscoveredByServiceLoader() {
+    assertThat(ServiceLoader.load(ClientMetrics.class))
+        .hasAtLeastOneElementOfType(MicrometerClientMetrics.class);
+  }
+
+  @Test
+  void recordsToRegistry() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    MicrometerClientMetrics metrics = new MicrometerClientMetrics(registry);
+    HttpRequest request = mock(HttpRequest.class);
+    when(request.method()).thenReturn("GET");
+
+    metrics.requestCompleted(request, 200, TimeUnit.MILLISECONDS.toNanos(5));
+    metrics.watchEventReceived("v1/namespaces/test/pods", Watcher.Action.ADDED);
+    metrics.informerListCompleted("v1/namespaces/test/pods", 3, 1);
+
+    assertThat(registry.get(MicrometerClientMetrics.REQUESTS).tags("method", "GET", "code", "200").timer()
+        .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0);
+    assertThat(registry.get(MicrometerClientMetrics.WATCH_EVENTS).tag("action", "ADDED").counter().count())
+        .isEqualTo(1.0);
+    assertThat(registry.get(MicrometerClientMetrics.INFORMER_LIST_ITEMS).tag("resource", "v1/namespaces/test/pods")
+        .gauge().value()).isEqualTo(3.0);
+  }
+
+}
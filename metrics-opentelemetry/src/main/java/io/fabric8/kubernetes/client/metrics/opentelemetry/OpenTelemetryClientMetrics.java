@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics.opentelemetry;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records {@link ClientMetrics} callbacks as OpenTelemetry instruments.
+ * <p>
+ * When discovered by the {@link java.util.ServiceLoader} the instruments are created from
+ * {@link GlobalOpenTelemetry}, so the global instance should be configured before the first client request.
+ * Use {@link ClientMetrics#setInstance(ClientMetrics)} with {@link #OpenTelemetryClientMetrics(OpenTelemetry)}
+ * to record to a different instance.
+ * <p>
+ * Watch and informer instruments carry the resource endpoint as an attribute, which includes the namespace - so
+ * the number of series grows with the number of namespaces watched.
+ */
+public class OpenTelemetryClientMetrics implements ClientMetrics {
+
+  static final String INSTRUMENTATION_NAME = "io.fabric8.kubernetes-client";
+
+  static final String REQUESTS = "kubernetes.client.requests";
+  static final String REQUESTS_FAILED = "kubernetes.client.requests.failed";
+  static final String REQUESTS_RETRIED = "kubernetes.client.requests.retried";
+  static final String WATCH_RECONNECTS = "kubernetes.client.watch.reconnects";
+  static final String WATCH_EVENTS = "kubernetes.client.watch.events";
+  static final String WATCH_BOOKMARK_LAG = "kubernetes.client.watch.bookmark.lag";
+  static final String INFORMER_LIST = "kubernetes.client.informer.list";
+  static final String INFORMER_LIST_ITEMS = "kubernetes.client.informer.list.items";
+  static final String INFORMER_WATCHES = "kubernetes.client.informer.watches";
+  static final String INFORMER_QUEUE_DEPTH = "kubernetes.client.informer.queue.depth";
+  static final String INFORMER_EVENTS_DROPPED = "kubernetes.client.informer.events.dropped";
+  static final String INFORMER_DISTRIBUTE = "kubernetes.client.informer.distribute";
+  static final String INFORMER_HANDLER = "kubernetes.client.informer.handler";
+
+  static final AttributeKey<String> METHOD = AttributeKey.stringKey("method");
+  static final AttributeKey<String> CODE = AttributeKey.stringKey("code");
+  static final AttributeKey<String> EXCEPTION = AttributeKey.stringKey("exception");
+  static final AttributeKey<String> RESOURCE = AttributeKey.stringKey("resource");
+  static final AttributeKey<String> ACTION = AttributeKey.stringKey("action");
+
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final double MILLIS_PER_SECOND = TimeUnit.SECONDS.toMillis(1);
+
+  private final DoubleHistogram requests;
+  private final DoubleHistogram requestsFailed;
+  private final LongCounter requestsRetried;
+  private final LongCounter watchReconnects;
+  private final LongCounter watchEvents;
+  private final DoubleHistogram watchBookmarkLag;
+  private final DoubleHistogram informerList;
+  private final Map<String, Integer> listItems = new ConcurrentHashMap<>();
+  private final LongCounter informerWatches;
+  private final LongHistogram informerQueueDepth;
+  private final LongCounter informerEventsDropped;
+  private final DoubleHistogram informerDistribute;
+  private final DoubleHistogram informerHandler;
+
+  public OpenTelemetryClientMetrics() {
+    this(GlobalOpenTelemetry.get());
+  }
+
+  public OpenTelemetryClientMetrics(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(INSTRUMENTATION_NAME);
+    requests = seconds(meter, REQUESTS, "The duration of individual request attempts");
+    requestsFailed = seconds(meter, REQUESTS_FAILED, "The duration of request attempts that failed without a response");
+    requestsRetried = meter.counterBuilder(REQUESTS_RETRIED)
+        .setDescription("The number of request attempts that will be retried").build();
+    watchReconnects = meter.counterBuilder(WATCH_RECONNECTS).build();
+    watchEvents = meter.counterBuilder(WATCH_EVENTS).build();
+    watchBookmarkLag = seconds(meter, WATCH_BOOKMARK_LAG, "The time between bookmarks of a watch");
+    informerList = seconds(meter, INFORMER_LIST, "The duration of informer lists");
+    meter.gaugeBuilder(INFORMER_LIST_ITEMS).ofLongs()
+        .setDescription("The number of items returned by the last informer list")
+        .buildWithCallback(m -> listItems.forEach((r, items) -> m.record(items, Attributes.of(RESOURCE, r))));
+    informerWatches = meter.counterBuilder(INFORMER_WATCHES).build();
+    informerQueueDepth = meter.histogramBuilder(INFORMER_QUEUE_DEPTH).ofLongs()
+        .setDescription("The depth of a handler queue after a notification is added").build();
+    informerEventsDropped = meter.counterBuilder(INFORMER_EVENTS_DROPPED).build();
+    informerDistribute = seconds(meter, INFORMER_DISTRIBUTE, "The time taken to queue an informer notification");
+    informerHandler = seconds(meter, INFORMER_HANDLER, "The time taken by a handler to process a notification");
+  }
+
+  private static DoubleHistogram seconds(Meter meter, String name, String description) {
+    return meter.histogramBuilder(name).setUnit("s").setDescription(description).build();
+  }
+
+  @Override
+  public void requestCompleted(HttpRequest request, int code, long durationNanos) {
+    requests.record(durationNanos / NANOS_PER_SECOND,
+        Attributes.of(METHOD, request.method(), CODE, Integer.toString(code)));
+  }
+
+  @Override
+  public void requestFailed(HttpRequest request, Throwable cause, long durationNanos) {
+    requestsFailed.record(durationNanos / NANOS_PER_SECOND,
+        Attributes.of(METHOD, request.method(), EXCEPTION, cause.getClass().getSimpleName()));
+  }
+
+  @Override
+  public void requestRetried(URI uri, int code) {
+    requestsRetried.add(1, Attributes.of(CODE, Integer.toString(code)));
+  }
+
+  @Override
+  public void watchReconnecting(String resource, long delayMillis) {
+    watchReconnects.add(1, Attributes.of(RESOURCE, resource));
+  }
+
+  @Override
+  public void watchEventReceived(String resource, Watcher.Action action) {
+    watchEvents.add(1, Attributes.of(RESOURCE, resource, ACTION, action.name()));
+  }
+
+  @Override
+  public void watchBookmarkReceived(String resource, long lagMillis) {
+    watchBookmarkLag.record(lagMillis / MILLIS_PER_SECOND, Attributes.of(RESOURCE, resource));
+  }
+
+  @Override
+  public void informerListCompleted(String resource, int items, long durationNanos) {
+    informerList.record(durationNanos / NANOS_PER_SECOND, Attributes.of(RESOURCE, resource));
+    listItems.put(resource, items);
+  }
+
+  @Override
+  public void informerWatchStarted(String resource) {
+    informerWatches.add(1, Attributes.of(RESOURCE, resource));
+  }
+
+  @Override
+  public void informerEventQueued(String resource, int queueDepth) {
+    informerQueueDepth.record(queueDepth, Attributes.of(RESOURCE, resource));
+  }
+
+  @Override
+  public void informerEventDropped(String resource, long droppedCount) {
+    informerEventsDropped.add(1, Attributes.of(RESOURCE, resource));
+  }
+
+  @Override
+  public void informerEventDistributed(String resource, int handlers, long durationNanos) {
+    informerDistribute.record(durationNanos / NANOS_PER_SECOND, Attributes.of(RESOURCE, resource));
+  }
+
+  @Override
+  public void informerHandlerCompleted(String resource, long durationNanos) {
+    informerHandler.record(durationNanos / NANOS_PER_SECOND, Attributes.of(RESOURCE, resource));
+  }
+
+}
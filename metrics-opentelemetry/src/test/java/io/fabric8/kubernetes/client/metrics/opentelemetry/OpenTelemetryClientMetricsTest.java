@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics.opentelemetry;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OpenTelemetryClientMetricsTest {
+
+  @Test
+  void isDiscoveredByServiceLoader() {
+    assertThat(ServiceLoader.load(ClientMetrics.class))
+        .hasAtLeastOneElementOfType(OpenTelemetryClientMetrics.class);
+  }
+
+  @Test
+  void recordsToMeterProvider() {
+    InMemoryMetricReader reader = InMemoryMetricReader.create();
+    OpenTelemetrySdk sdk = OpenTelemetrySdk.builder()
+        .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(reader).build())
+        .build();
+    OpenTelemetryClientMetrics metrics = new OpenTelemetryClientMetrics(sdk);
+    HttpRequest request = mock(HttpRequest.class);
+    when(request.method()).thenReturn("GET");
+
+    metrics.requestCompleted(request, 200, TimeUnit.MILLISECONDS.toNanos(5));
+    metrics.watchEventReceived("v1/namespaces/test/pods", Watcher.Action.ADDED);
+    metrics.informerListCompleted("v1/namespaces/test/pods", 3, 1);
+
+    Map<String, MetricData> collected = reader.collectAllMetrics().stream()
+        .collect(Collectors.toMap(MetricData::getName, Function.identity()));
+    assertThat(collected.get(OpenTelemetryClientMetrics.REQUESTS).getHistogramData().getPoints())
+        .singleElement()
+        .satisfies(p -> assertThat(p.getSum()).isEqualTo(0.005))
+        .satisfies(p -> assertThat(p.getAttributes().get(OpenTelemetryClientMetrics.CODE)).isEqualTo("200"));
+    assertThat(collected.get(OpenTelemetryClientMetrics.WATCH_EVENTS).getLongSumData().getPoints())
+        .singleElement()
+        .satisfies(p -> assertThat(p.getValue()).isEqualTo(1));
+    assertThat(collected.get(OpenTelemetryClientMetrics.INFORMER_LIST_ITEMS).getLongGaugeData().getPoints())
+        .singleElement()
+        .satisfies(p -> assertThat(p.getValue()).isEqualTo(3));
+    sdk.getSdkMeterProvider().close();
+  }
+
+}
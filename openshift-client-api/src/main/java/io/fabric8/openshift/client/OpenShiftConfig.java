@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.OAuthTokenProvider;
+import io.fabric8.kubernetes.client.WatchTransport;
 import io.fabric8.kubernetes.client.http.TlsVersion;
 import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.fabric8.kubernetes.client.utils.URLUtils;
@@ -85,7 +86,8 @@ public class OpenShiftConfig extends Config {
       String trustStorePassphrase, String keyStoreFile, String keyStorePassphrase, String impersonateUsername,
       String[] impersonateGroups, Map<String, List<String>> impersonateExtras, OAuthTokenProvider oauthTokenProvider,
       Map<String, String> customHeaders, int requestRetryBackoffLimit, int requestRetryBackoffInterval,
-      int uploadRequestTimeout, long buildTimeout,
+      int uploadRequestTimeout, WatchTransport watchTransport, long discoveryCacheTtl, String discoveryCacheDir,
+      int requestsPerSecond, int requestBurst, long buildTimeout,
       boolean disableApiGroupCheck) {
     super(masterUrl, apiVersion, namespace, trustCerts, disableHostnameVerification, caCertFile, caCertData,
         clientCertFile,
@@ -97,7 +99,7 @@ public class OpenShiftConfig extends Config {
         errorMessages, userAgent, tlsVersions, websocketPingInterval, proxyUsername, proxyPassword,
         trustStoreFile, trustStorePassphrase, keyStoreFile, keyStorePassphrase, impersonateUsername, impersonateGroups,
         impersonateExtras, oauthTokenProvider, customHeaders, requestRetryBackoffLimit, requestRetryBackoffInterval,
-        uploadRequestTimeout);
+        uploadRequestTimeout, watchTransport, discoveryCacheTtl, discoveryCacheDir, requestsPerSecond, requestBurst);
     this.setOapiVersion(oapiVersion);
     this.setBuildTimeout(buildTimeout);
     this.setDisableApiGroupCheck(disableApiGroupCheck);
@@ -136,7 +138,9 @@ public class OpenShiftConfig extends Config {
         kubernetesConfig.getImpersonateGroups(), kubernetesConfig.getImpersonateExtras(),
         kubernetesConfig.getOauthTokenProvider(), kubernetesConfig.getCustomHeaders(),
         kubernetesConfig.getRequestRetryBackoffLimit(), kubernetesConfig.getRequestRetryBackoffInterval(),
-        kubernetesConfig.getUploadRequestTimeout(),
+        kubernetesConfig.getUploadRequestTimeout(), kubernetesConfig.getWatchTransport(),
+        kubernetesConfig.getDiscoveryCacheTtl(), kubernetesConfig.getDiscoveryCacheDir(),
+        kubernetesConfig.getRequestsPerSecond(), kubernetesConfig.getRequestBurst(),
         buildTimeout,
         false);
   }